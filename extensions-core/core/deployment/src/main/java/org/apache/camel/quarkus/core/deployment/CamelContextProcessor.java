@@ -18,6 +18,7 @@ package org.apache.camel.quarkus.core.deployment;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.regex.Pattern;
@@ -37,6 +38,7 @@ import org.apache.camel.quarkus.core.CamelContextRecorder;
 import org.apache.camel.quarkus.core.deployment.spi.CamelComponentNameResolverBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextCustomizerBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelEndpointUriNormalizerBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelFactoryFinderResolverBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelModelJAXBContextFactoryBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelModelToXMLDumperBuildItem;
@@ -45,6 +47,7 @@ import org.apache.camel.quarkus.core.deployment.spi.CamelPackageScanClassResolve
 import org.apache.camel.quarkus.core.deployment.spi.CamelRegistryBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelTypeConverterRegistryBuildItem;
 import org.apache.camel.quarkus.core.deployment.util.CamelSupport;
+import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.ModelJAXBContextFactory;
 import org.apache.camel.spi.TypeConverterRegistry;
 
@@ -120,6 +123,26 @@ public class CamelContextProcessor {
         }
     }
 
+    /**
+     * Bind an endpoint URI normalizer to the context if an extension requires it
+     *
+     * @param requests the extensions requiring the normalizer
+     * @param recorder the recorder
+     * @param config   the Camel configuration
+     * @param producer producer of context customizer build item
+     */
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void endpointUriNormalizer(
+            List<CamelEndpointUriNormalizerBuildItem> requests,
+            CamelContextRecorder recorder,
+            CamelConfig config,
+            BuildProducer<CamelContextCustomizerBuildItem> producer) {
+        if (!requests.isEmpty()) {
+            producer.produce(new CamelContextCustomizerBuildItem(recorder.createEndpointUriNormalizerCustomizer(config)));
+        }
+    }
+
     /**
      * Enable source location if quarkus.camel.source-location-enabled=true
      *
@@ -141,13 +164,15 @@ public class CamelContextProcessor {
      * @param beanDiscovery build item containing the results of bean discovery
      * @param context       build item containing the CamelContext instance
      * @param recorder      the CamelContext recorder instance
+     * @param config        the Camel configuration
      */
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep(onlyIf = EventBridgeEnabled.class)
     public void registerCamelEventBridges(
             BeanDiscoveryFinishedBuildItem beanDiscovery,
             CamelContextBuildItem context,
-            CamelContextRecorder recorder) {
+            CamelContextRecorder recorder,
+            CamelConfig config) {
 
         Set<String> observedLifecycleEvents = beanDiscovery.getObservers()
                 .stream()
@@ -155,24 +180,32 @@ public class CamelContextProcessor {
                 .filter(observedType -> observedType.startsWith("org.apache.camel.quarkus.core.events"))
                 .collect(Collectors.collectingAndThen(Collectors.toUnmodifiableSet(), HashSet::new));
 
-        // For management events the event class simple name is collected as users can
-        // observe events on either the Camel event interface or the concrete event class, and
-        // these are located in different packages
+        // For management events the observed classes are resolved to the Camel event types they receive, as users can
+        // observe events on either the Camel event interfaces or the concrete event classes, and these are located in
+        // different packages
         final Pattern pattern = Pattern.compile("org.apache.camel(?!.quarkus).*Event$");
-        Set<String> observedManagementEvents = beanDiscovery.getObservers()
+        Set<Class<?>> observedManagementEvents = beanDiscovery.getObservers()
                 .stream()
                 .map(observerInfo -> observerInfo.getObservedType().name().toString())
                 .filter(className -> pattern.matcher(className).matches())
                 .map(className -> CamelSupport.loadClass(className, Thread.currentThread().getContextClassLoader()))
-                .map(observedEventClass -> observedEventClass.getSimpleName())
-                .collect(Collectors.collectingAndThen(Collectors.toUnmodifiableSet(), HashSet::new));
+                .collect(Collectors.toSet());
+        Set<CamelEvent.Type> observedManagementEventTypes = CamelSupport.camelEventTypes()
+                .entrySet()
+                .stream()
+                .filter(entry -> observedManagementEvents.stream()
+                        .anyMatch(observed -> observed.isAssignableFrom(entry.getValue())
+                                || entry.getValue().isAssignableFrom(observed)))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
 
         if (!observedLifecycleEvents.isEmpty()) {
             recorder.registerLifecycleEventBridge(context.getCamelContext(), observedLifecycleEvents);
         }
 
-        if (!observedManagementEvents.isEmpty()) {
-            recorder.registerManagementEventBridge(context.getCamelContext(), observedManagementEvents);
+        if (!observedManagementEventTypes.isEmpty()) {
+            int asyncQueueSize = config.eventBridge.async ? config.eventBridge.asyncQueueSize : 0;
+            recorder.registerManagementEventBridge(context.getCamelContext(), observedManagementEventTypes, asyncQueueSize);
         }
     }
 
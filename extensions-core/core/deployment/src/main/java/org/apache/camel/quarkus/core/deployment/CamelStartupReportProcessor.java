@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.deployment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import org.apache.camel.quarkus.core.CamelConfig;
+import org.apache.camel.quarkus.core.CamelContextRecorder;
+import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelRoutesBuilderClassBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelRuntimeBeanBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelRuntimeTaskBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelServiceBuildItem;
+
+public class CamelStartupReportProcessor {
+    /**
+     * Passes the items contributed by the extensions at build time to the
+     * {@link org.apache.camel.quarkus.core.CamelStartupReport} if quarkus.camel.startup-report.enabled=true. The items
+     * are counted by kind and grouped by the Java package of their type, which tells the extension contributing them.
+     *
+     * @param  recorder       the recorder
+     * @param  context        build item containing the CamelContext instance
+     * @param  features       the installed features
+     * @param  beans          the beans bound to the Camel registry at static init
+     * @param  runtimeBeans   the beans bound to the Camel registry at runtime init
+     * @param  routesBuilders the routes builder classes
+     * @param  services       the Camel services discovered at build time
+     * @return                a placeholder to ensure the contributions are set before the Camel runtime is created
+     */
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = StartupReportEnabled.class)
+    CamelRuntimeTaskBuildItem startupReportContributions(
+            CamelContextRecorder recorder,
+            CamelContextBuildItem context,
+            List<FeatureBuildItem> features,
+            List<CamelBeanBuildItem> beans,
+            List<CamelRuntimeBeanBuildItem> runtimeBeans,
+            List<CamelRoutesBuilderClassBuildItem> routesBuilders,
+            List<CamelServiceBuildItem> services) {
+
+        Map<String, Map<String, Integer>> contributions = new TreeMap<>();
+        beans.forEach(item -> count(contributions, item.getType(), "beans"));
+        runtimeBeans.forEach(item -> count(contributions, item.getType(), "runtimeBeans"));
+        routesBuilders.forEach(item -> count(contributions, item.getDotName().toString(), "routesBuilders"));
+        services.forEach(item -> count(contributions, item.getType(), "services"));
+
+        recorder.setStartupReportContributions(
+                context.getCamelContext(),
+                features.stream().map(FeatureBuildItem::getName).distinct().sorted().collect(Collectors.toList()),
+                contributions);
+
+        return new CamelRuntimeTaskBuildItem("startup-report");
+    }
+
+    private static void count(Map<String, Map<String, Integer>> contributions, String type, String kind) {
+        final int index = type.lastIndexOf('.');
+        final String packageName = index > 0 ? type.substring(0, index) : "";
+
+        contributions.computeIfAbsent(packageName, k -> new TreeMap<>()).merge(kind, 1, Integer::sum);
+    }
+
+    public static final class StartupReportEnabled implements BooleanSupplier {
+        CamelConfig config;
+
+        @Override
+        public boolean getAsBoolean() {
+            return config.startupReport.enabled;
+        }
+    }
+}
@@ -18,10 +18,15 @@ package org.apache.camel.quarkus.core.deployment.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -33,6 +38,7 @@ import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import org.apache.camel.impl.engine.AbstractCamelContext;
 import org.apache.camel.quarkus.core.deployment.spi.CamelServiceBuildItem;
+import org.apache.camel.spi.CamelEvent;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.ClassInfo;
 
@@ -128,4 +134,36 @@ public final class CamelSupport {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Maps each {@link CamelEvent.Type} to the {@link CamelEvent} sub-interface of the events of that type.
+     * <p>
+     * The type of an event interface is given by its default {@code getType()} method, which is invoked on a proxy.
+     *
+     * @return the event interface of each event type
+     */
+    public static Map<CamelEvent.Type, Class<?>> camelEventTypes() {
+        Map<CamelEvent.Type, Class<?>> types = new EnumMap<>(CamelEvent.Type.class);
+        for (Class<?> eventInterface : CamelEvent.class.getClasses()) {
+            if (!eventInterface.isInterface() || !CamelEvent.class.isAssignableFrom(eventInterface)) {
+                continue;
+            }
+            try {
+                Method getType = eventInterface.getDeclaredMethod("getType");
+                if (!getType.isDefault()) {
+                    continue;
+                }
+                Object proxy = Proxy.newProxyInstance(
+                        eventInterface.getClassLoader(),
+                        new Class<?>[] { eventInterface },
+                        InvocationHandler::invokeDefault);
+                types.putIfAbsent((CamelEvent.Type) getType.invoke(proxy), eventInterface);
+            } catch (NoSuchMethodException e) {
+                // An intermediate interface, such as ExchangeEvent
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return types;
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.core.CamelStartupReport;
+import org.apache.camel.util.json.JsonObject;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CamelStartupReportTest {
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(applicationProperties(), "application.properties")
+                    .addClasses(MyRoutes.class));
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.startup-report.enabled", "true");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Inject
+    CamelContext context;
+
+    @Test
+    public void startupReport() {
+        CamelStartupReport report = CamelStartupReport.lookup(context);
+        assertNotNull(report);
+
+        assertTrue(report.getFeatures().contains("camel-core"));
+
+        Map<String, Integer> contributions = report.getContributions().get(MyRoutes.class.getPackageName());
+        assertNotNull(contributions);
+        assertEquals(1, contributions.get("routesBuilders"));
+
+        List<String> steps = report.getSteps().stream()
+                .map(step -> step.getPhase() + " " + step.getName())
+                .collect(Collectors.toList());
+        assertTrue(steps.contains("STATIC_INIT Create CamelContext (FastCamelContext)"), steps::toString);
+        assertTrue(steps.contains("RUNTIME_INIT Start (CamelMainRuntime)"), steps::toString);
+
+        JsonObject json = report.toJson(context);
+        assertEquals(1, json.getInteger("routes"));
+    }
+
+    public static class MyRoutes extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:start").routeId("start")
+                    .log("${body}");
+        }
+    }
+}
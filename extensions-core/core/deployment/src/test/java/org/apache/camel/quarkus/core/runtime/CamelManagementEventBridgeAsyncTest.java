@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core.runtime;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.event.ExchangeCompletedEvent;
+import org.apache.camel.quarkus.core.CamelManagementEventBridge;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.RouteEvent;
+import org.apache.camel.support.DefaultExchange;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CamelManagementEventBridgeAsyncTest {
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    EventHandler handler;
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate template;
+
+    @Test
+    public void testAsyncDelivery() {
+        CamelManagementEventBridge bridge = bridge();
+
+        // Only the observed exchange events are created
+        assertFalse(bridge.isIgnoreExchangeCompletedEvent());
+        assertTrue(bridge.isIgnoreExchangeCreatedEvent());
+        assertTrue(bridge.isIgnoreExchangeSendingEvents());
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody(MyRoutes.FROM_ENDPOINT, "Hello " + i);
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(handler.completedExchangeBodies()).hasSize(10);
+        });
+
+        // The completed events are delivered by the bridge thread, the route events synchronously
+        assertThat(handler.completedExchangeThreads()).hasSize(1);
+        assertNotEquals(handler.routeEventThreads(), handler.completedExchangeThreads());
+        assertEquals(0, bridge.getDroppedEvents());
+    }
+
+    @Test
+    public void testEventsNotifiedOnceStoppedAreDropped() throws Exception {
+        CamelManagementEventBridge bridge = bridge();
+        long droppedEvents = bridge.getDroppedEvents();
+
+        bridge.stop();
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody("Late");
+            bridge.notify(new ExchangeCompletedEvent(exchange));
+
+            assertEquals(droppedEvents + 1, bridge.getDroppedEvents());
+            assertEquals(0, bridge.getPendingEvents());
+            assertFalse(handler.completedExchangeBodies().contains("Late"));
+        } finally {
+            bridge.start();
+        }
+    }
+
+    private CamelManagementEventBridge bridge() {
+        return context.getManagementStrategy()
+                .getEventNotifiers()
+                .stream()
+                .filter(CamelManagementEventBridge.class::isInstance)
+                .map(CamelManagementEventBridge.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.banner.enabled", "false");
+        props.setProperty("quarkus.camel.event-bridge.async", "true");
+        props.setProperty("quarkus.camel.event-bridge.async-queue-size", "64");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @ApplicationScoped
+    public static class EventHandler {
+        private final Set<String> completedExchangeBodies = new CopyOnWriteArraySet<>();
+        private final Set<String> completedExchangeThreads = new CopyOnWriteArraySet<>();
+        private final Set<String> routeEventThreads = new CopyOnWriteArraySet<>();
+
+        public void onExchangeCompleted(@Observes CamelEvent.ExchangeCompletedEvent event) {
+            completedExchangeBodies.add(event.getExchange().getMessage().getBody(String.class));
+            completedExchangeThreads.add(Thread.currentThread().getName());
+        }
+
+        public void onRouteEvent(@Observes RouteEvent event) {
+            routeEventThreads.add(Thread.currentThread().getName());
+        }
+
+        public Set<String> completedExchangeBodies() {
+            return completedExchangeBodies;
+        }
+
+        public Set<String> completedExchangeThreads() {
+            return completedExchangeThreads;
+        }
+
+        public Set<String> routeEventThreads() {
+            return routeEventThreads;
+        }
+    }
+
+    @ApplicationScoped
+    public static class MyRoutes extends RouteBuilder {
+        public static String FROM_ENDPOINT = "direct://start";
+
+        @Override
+        public void configure() throws Exception {
+            from(FROM_ENDPOINT)
+                    .log("${body}");
+        }
+    }
+}
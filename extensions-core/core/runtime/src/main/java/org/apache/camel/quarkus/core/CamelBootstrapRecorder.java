@@ -42,7 +42,14 @@ public class CamelBootstrapRecorder {
         try {
             Logger logger = Logger.getLogger(CamelBootstrapRecorder.class);
             logger.infof("Bootstrap runtime: %s", runtime.getValue().getClass().getName());
+            final long start = System.nanoTime();
             runtime.getValue().start(arguments.get());
+
+            CamelStartupReport report = CamelStartupReport.lookup(runtime.getValue().getCamelContext());
+            if (report != null) {
+                report.addStep(CamelStartupReport.Phase.RUNTIME_INIT, "Start", runtime.getValue(), System.nanoTime() - start);
+                logger.infof("Camel startup report: %s", report.dump(runtime.getValue().getCamelContext()));
+            }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
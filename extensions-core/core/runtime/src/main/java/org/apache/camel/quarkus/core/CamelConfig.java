@@ -79,6 +79,18 @@ public class CamelConfig {
     @ConfigItem
     public EventBridgeConfig eventBridge;
 
+    /**
+     * Build time configuration options for the normalization of the endpoint URIs used as metric tags and span names.
+     */
+    @ConfigItem
+    public UriNormalizerConfig uriNormalizer;
+
+    /**
+     * Build time configuration options for the Camel startup report.
+     */
+    @ConfigItem
+    public StartupReportConfig startupReport;
+
     /**
      * Build time configuration options for enable/disable camel source location
      */
@@ -383,5 +395,61 @@ public class CamelConfig {
          */
         @ConfigItem(defaultValue = "true")
         public boolean enabled;
+
+        /**
+         * Whether the exchange and step events should be delivered to their CDI observers asynchronously.
+         * <p>
+         * When enabled, these events are put in a bounded queue drained by a dedicated thread, so that the observers
+         * do not add latency to the exchanges. The observers then see the events after the fact, and must not rely on
+         * the state of the exchange at the time the event was fired, as the exchange may have progressed or been
+         * reused since. The other events, such as the CamelContext and route events, are always delivered synchronously.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean async;
+
+        /**
+         * The maximum number of exchange and step events waiting to be delivered to the CDI observers when
+         * {@code quarkus.camel.event-bridge.async} is enabled. Events fired while the queue is full are dropped and
+         * counted.
+         */
+        @ConfigItem(defaultValue = "1024")
+        public int asyncQueueSize;
+    }
+
+    @ConfigGroup
+    public static class UriNormalizerConfig {
+
+        /**
+         * The maximum number of distinct normalized endpoint URIs reported by the extensions deriving metric tags or
+         * span names from endpoint URIs, such as Micrometer and OpenTelemetry. The URIs normalized once the limit is
+         * reached are reported as {@code other}, so that URIs built from message content cannot grow the number of
+         * time series without bound.
+         */
+        @ConfigItem(defaultValue = "500")
+        public int maxUris;
+
+        /**
+         * Whether the path segments looking like identifiers (numbers, UUIDs and long hexadecimal strings) are
+         * replaced by `{id}` in the endpoint URIs that neither appear in a route nor match the URI template of a
+         * {@code toD} node.
+         */
+        @ConfigItem(defaultValue = "true")
+        public boolean templatizeIdentifiers;
+    }
+
+    @ConfigGroup
+    public static class StartupReportConfig {
+
+        /**
+         * If {@code true}, a startup report is logged as JSON once Camel is started. The report combines what the
+         * extensions contributed at build time (Camel beans, routes builders and services, grouped by the Java package
+         * contributing them) with the time spent creating and customizing the CamelContext during the static and
+         * runtime initialization and starting it.
+         * <p>
+         * The report is also available as the {@link org.apache.camel.quarkus.core.CamelStartupReport} CamelContext
+         * plugin.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
     }
 }
@@ -18,6 +18,7 @@ package org.apache.camel.quarkus.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import io.quarkus.arc.runtime.BeanContainer;
@@ -33,7 +34,9 @@ import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.builder.endpoint.EndpointRouteBuilder;
 import org.apache.camel.builder.endpoint.LambdaEndpointRouteBuilder;
 import org.apache.camel.catalog.RuntimeCamelCatalog;
+import org.apache.camel.model.Model;
 import org.apache.camel.spi.CamelContextCustomizer;
+import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.ComponentNameResolver;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.ModelJAXBContextFactory;
@@ -58,6 +61,7 @@ public class CamelContextRecorder {
             String version,
             CamelConfig config) {
 
+        final long start = System.nanoTime();
         FastCamelContext context = new FastCamelContext(
                 version,
                 xmlModelDumper.getValue(),
@@ -87,11 +91,37 @@ public class CamelContextRecorder {
         // register to the container
         beanContainer.beanInstance(CamelProducers.class).setContext(context);
 
+        if (config.startupReport.enabled) {
+            CamelStartupReport report = new CamelStartupReport();
+            extendedCamelContext.addContextPlugin(CamelStartupReport.class, report);
+            report.addStep(CamelStartupReport.Phase.STATIC_INIT, "Create CamelContext", context, System.nanoTime() - start);
+        }
+
         return new RuntimeValue<>(context);
     }
 
     public void customize(RuntimeValue<CamelContext> context, RuntimeValue<CamelContextCustomizer> contextCustomizer) {
+        final long start = System.nanoTime();
         contextCustomizer.getValue().configure(context.getValue());
+
+        CamelStartupReport report = CamelStartupReport.lookup(context.getValue());
+        if (report != null) {
+            report.addStep(
+                    CamelStartupReport.Phase.STATIC_INIT,
+                    "Customize CamelContext",
+                    contextCustomizer.getValue(),
+                    System.nanoTime() - start);
+        }
+    }
+
+    public void setStartupReportContributions(
+            RuntimeValue<CamelContext> context,
+            List<String> features,
+            Map<String, Map<String, Integer>> contributions) {
+        CamelStartupReport report = CamelStartupReport.lookup(context.getValue());
+        if (report != null) {
+            report.setBuildTimeContributions(features, contributions);
+        }
     }
 
     public RuntimeValue<CamelRuntime> createRuntime(BeanContainer beanContainer, RuntimeValue<CamelContext> context) {
@@ -107,6 +137,16 @@ public class CamelContextRecorder {
         return new RuntimeValue<>(context -> context.setShutdownStrategy(new NoShutdownStrategy()));
     }
 
+    public RuntimeValue<CamelContextCustomizer> createEndpointUriNormalizerCustomizer(CamelConfig config) {
+        int maxUris = config.uriNormalizer.maxUris;
+        boolean templatizeIdentifiers = config.uriNormalizer.templatizeIdentifiers;
+        return new RuntimeValue<>(context -> {
+            EndpointUriNormalizer endpointUriNormalizer = new EndpointUriNormalizer(maxUris, templatizeIdentifiers);
+            context.getCamelContextExtension().addContextPlugin(EndpointUriNormalizer.class, endpointUriNormalizer);
+            context.getCamelContextExtension().getContextPlugin(Model.class).addModelLifecycleStrategy(endpointUriNormalizer);
+        });
+    }
+
     public RuntimeValue<CamelContextCustomizer> createSourceLocationEnabledCustomizer() {
         return new RuntimeValue<>(context -> context.setSourceLocationEnabled(true));
     }
@@ -162,9 +202,10 @@ public class CamelContextRecorder {
         context.getValue().addLifecycleStrategy(new CamelLifecycleEventBridge(observedLifecycleEvents));
     }
 
-    public void registerManagementEventBridge(RuntimeValue<CamelContext> camelContext, Set<String> observedManagementEvents) {
+    public void registerManagementEventBridge(RuntimeValue<CamelContext> camelContext, Set<CamelEvent.Type> observedEventTypes,
+            int asyncQueueSize) {
         camelContext.getValue()
                 .getManagementStrategy()
-                .addEventNotifier(new CamelManagementEventBridge(observedManagementEvents));
+                .addEventNotifier(new CamelManagementEventBridge(observedEventTypes, asyncQueueSize));
     }
 }
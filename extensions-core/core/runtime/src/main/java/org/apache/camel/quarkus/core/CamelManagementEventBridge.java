@@ -16,39 +16,200 @@
  */
 package org.apache.camel.quarkus.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.quarkus.arc.Arc;
-import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.event.Event;
 import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.Type;
 import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.support.EventNotifierSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Bridges Camel Management events to CDI.
+ * <p>
+ * The observed event types are resolved at build time, so that checking whether an event has observers is a bit test,
+ * and Camel is told not to create the exchange events nobody observes. When an async queue size is given, the exchange
+ * events are delivered by a dedicated thread, off the exchange processing path. The exchange events notified once the
+ * bridge is stopped are dropped and counted with the events dropped because the queue was full.
  *
  * @see EventNotifier
  */
 public class CamelManagementEventBridge extends EventNotifierSupport {
-    private final Set<String> observedManagementEvents;
-    private BeanManager beanManager;
+    private static final Logger LOG = LoggerFactory.getLogger(CamelManagementEventBridge.class);
+    private static final int DELIVERY_BATCH_SIZE = 256;
 
-    public CamelManagementEventBridge(Set<String> observedManagementEvents) {
-        this.observedManagementEvents = observedManagementEvents;
+    private final long observedEventTypes;
+    private final int asyncQueueSize;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private Event<CamelEvent> cdiEvent;
+    private volatile BlockingQueue<CamelEvent> queue;
+    private ExecutorService executor;
+
+    /**
+     * @param observedEventTypes the types of the events having CDI observers
+     * @param asyncQueueSize     the maximum number of exchange events waiting to be delivered asynchronously, or
+     *                           {@code 0} to deliver them synchronously on the exchange thread
+     */
+    public CamelManagementEventBridge(Set<Type> observedEventTypes, int asyncQueueSize) {
+        long types = 0;
+        for (Type type : observedEventTypes) {
+            types |= mask(type);
+        }
+        this.observedEventTypes = types;
+        this.asyncQueueSize = asyncQueueSize;
+
+        setIgnoreExchangeCreatedEvent(!isObserved(Type.ExchangeCreated));
+        setIgnoreExchangeCompletedEvent(!isObserved(Type.ExchangeCompleted));
+        setIgnoreExchangeFailedEvents(
+                !isObserved(Type.ExchangeFailed, Type.ExchangeFailureHandling, Type.ExchangeFailureHandled));
+        setIgnoreExchangeRedeliveryEvents(!isObserved(Type.ExchangeRedelivery));
+        setIgnoreExchangeSendingEvents(!isObserved(Type.ExchangeSending));
+        setIgnoreExchangeSentEvents(!isObserved(Type.ExchangeSent));
+        setIgnoreExchangeAsyncProcessingStartedEvents(!isObserved(Type.ExchangeAsyncProcessingStarted));
+        setIgnoreStepEvents(!isObserved(Type.StepStarted, Type.StepCompleted, Type.StepFailed));
+    }
+
+    /**
+     * @return the number of exchange events dropped because the async delivery queue was full or the bridge was stopped
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return the number of exchange events waiting to be delivered asynchronously
+     */
+    public int getPendingEvents() {
+        BlockingQueue<CamelEvent> currentQueue = queue;
+        return currentQueue != null ? currentQueue.size() : 0;
+    }
+
+    /**
+     * @return the number of asynchronously delivered events for which an observer threw an exception
+     */
+    public long getFailedEvents() {
+        return failedEvents.get();
     }
 
     @Override
     protected void doInit() {
-        beanManager = Arc.container().beanManager();
+        cdiEvent = Arc.container().beanManager().getEvent().select(CamelEvent.class);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (asyncQueueSize > 0) {
+            BlockingQueue<CamelEvent> deliveryQueue = new ArrayBlockingQueue<>(asyncQueueSize);
+            executor = getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "CamelManagementEventBridge");
+            executor.execute(() -> deliverQueuedEvents(deliveryQueue));
+            queue = deliveryQueue;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executor != null) {
+            // Stop accepting events first, so that nothing is queued once the remaining events are delivered
+            BlockingQueue<CamelEvent> stoppedQueue = queue;
+            queue = null;
+
+            getCamelContext().getExecutorServiceManager().shutdownNow(executor);
+            getCamelContext().getExecutorServiceManager().awaitTermination(executor, 10000);
+            executor = null;
+
+            // Deliver whatever was queued before the delivery thread stopped
+            List<CamelEvent> remaining = new ArrayList<>(stoppedQueue.size());
+            stoppedQueue.drainTo(remaining);
+            fire(remaining);
+
+            if (droppedEvents.get() > 0) {
+                LOG.warn("{} exchange events were dropped as the CDI event bridge queue was full. "
+                        + "Consider increasing quarkus.camel.event-bridge.async-queue-size", droppedEvents.get());
+            }
+        }
     }
 
     @Override
     public void notify(CamelEvent event) throws Exception {
-        beanManager.getEvent().select(CamelEvent.class).fire(event);
+        if (asyncQueueSize > 0 && event instanceof CamelEvent.ExchangeEvent) {
+            BlockingQueue<CamelEvent> currentQueue = queue;
+            if (currentQueue == null) {
+                dropLateEvent(event);
+            } else if (!currentQueue.offer(event)) {
+                if (droppedEvents.getAndIncrement() == 0) {
+                    LOG.warn("The CDI event bridge queue is full, exchange events are being dropped. "
+                            + "Consider increasing quarkus.camel.event-bridge.async-queue-size");
+                }
+            } else if (queue != currentQueue && currentQueue.remove(event)) {
+                // The bridge was stopped while the event was queued, and the event was not drained by doStop()
+                dropLateEvent(event);
+            }
+        } else {
+            cdiEvent.fire(event);
+        }
     }
 
     @Override
     public boolean isEnabled(CamelEvent event) {
-        return observedManagementEvents.contains(event.getClass().getSimpleName());
+        return (observedEventTypes & mask(event.getType())) != 0;
+    }
+
+    private void dropLateEvent(CamelEvent event) {
+        droppedEvents.incrementAndGet();
+        LOG.debug("Dropping {} as the CDI event bridge is stopped", event);
+    }
+
+    private void deliverQueuedEvents(BlockingQueue<CamelEvent> deliveryQueue) {
+        List<CamelEvent> batch = new ArrayList<>(DELIVERY_BATCH_SIZE);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(deliveryQueue.take());
+                deliveryQueue.drainTo(batch, DELIVERY_BATCH_SIZE - 1);
+                fire(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fire(List<CamelEvent> events) {
+        for (CamelEvent event : events) {
+            try {
+                cdiEvent.fire(event);
+            } catch (Exception e) {
+                // An observer failure must not stop the delivery of the following events
+                if (failedEvents.getAndIncrement() == 0) {
+                    LOG.warn("A CDI observer failed to handle {}", event, e);
+                } else {
+                    LOG.debug("A CDI observer failed to handle {}", event, e);
+                }
+            }
+        }
+    }
+
+    private boolean isObserved(Type... types) {
+        for (Type type : types) {
+            if ((observedEventTypes & mask(type)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long mask(Type type) {
+        // CamelEvent.Type has less than 64 constants, so that a long is enough for the bit set
+        return 1L << type.ordinal();
     }
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.quarkus.runtime.ImageMode;
+import org.apache.camel.CamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.apache.camel.util.json.Jsoner;
+
+/**
+ * A report of the work done to bring up the {@link CamelContext}, meant to find out which extension makes the startup
+ * slower.
+ * <p>
+ * The report combines the items contributed by the extensions at build time, grouped by the Java package contributing
+ * them, with the duration of the steps run while creating, customizing and starting the {@link CamelContext}. The
+ * steps of the {@link Phase#STATIC_INIT} phase run while building the native image in native mode, hence they do not
+ * add up to the startup time of a native application. The steps recorded by the {@link StartupStepRecorder} of the
+ * {@link CamelContext} are included too, if any, e.g. with {@code camel.main.startup-recorder = backlog}.
+ * <p>
+ * An instance is bound to the {@link CamelContext} as a context plugin when
+ * {@code quarkus.camel.startup-report.enabled} is {@code true}.
+ */
+public class CamelStartupReport {
+    public enum Phase {
+        STATIC_INIT,
+        RUNTIME_INIT
+    }
+
+    private final ImageMode staticInitImageMode = ImageMode.current();
+    private final List<Step> steps = new ArrayList<>();
+    private volatile List<String> features = List.of();
+    private volatile Map<String, Map<String, Integer>> contributions = Map.of();
+
+    /**
+     * @param  context the {@link CamelContext}
+     * @return         the report bound to the given {@link CamelContext} or {@code null} if the report is disabled
+     */
+    public static CamelStartupReport lookup(CamelContext context) {
+        return context.getCamelContextExtension().getContextPlugin(CamelStartupReport.class);
+    }
+
+    /**
+     * @param features      the names of the installed features
+     * @param contributions the number of items contributed at build time, by Java package and item kind
+     */
+    public void setBuildTimeContributions(List<String> features, Map<String, Map<String, Integer>> contributions) {
+        this.features = List.copyOf(features);
+        this.contributions = Map.copyOf(contributions);
+    }
+
+    /**
+     * @param phase         the phase in which the step was run
+     * @param name          the name of the step
+     * @param delegate      the object the step was delegated to, its Java package is reported as the step source
+     * @param durationNanos the duration of the step in nanoseconds
+     */
+    public synchronized void addStep(Phase phase, String name, Object delegate, long durationNanos) {
+        String className = delegate.getClass().getName();
+        // strip the suffix of the lambdas, e.g. SomeRecorder$$Lambda/0x0000000800c4b440
+        int lambda = className.indexOf("$$Lambda");
+        if (lambda > 0) {
+            className = className.substring(0, lambda);
+        }
+        steps.add(new Step(
+                phase,
+                delegate.getClass().getPackageName(),
+                name + " (" + className.substring(className.lastIndexOf('.') + 1) + ")",
+                durationNanos));
+    }
+
+    public synchronized List<Step> getSteps() {
+        return List.copyOf(steps);
+    }
+
+    public List<String> getFeatures() {
+        return features;
+    }
+
+    public Map<String, Map<String, Integer>> getContributions() {
+        return contributions;
+    }
+
+    public JsonObject toJson(CamelContext context) {
+        JsonObject json = new JsonObject();
+        json.put("camelContext", context.getName());
+        json.put("staticInitImageMode", staticInitImageMode.name());
+        json.put("features", new JsonArray(features));
+
+        JsonObject buildTime = new JsonObject();
+        contributions.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> buildTime.put(entry.getKey(), new JsonObject(entry.getValue())));
+        json.put("buildTimeContributions", buildTime);
+
+        JsonArray stepsJson = new JsonArray();
+        for (Step step : getSteps()) {
+            JsonObject stepJson = new JsonObject();
+            stepJson.put("phase", step.getPhase().name());
+            stepJson.put("source", step.getSource());
+            stepJson.put("name", step.getName());
+            stepJson.put("durationMs", toMillis(step.getDurationNanos()));
+            stepsJson.add(stepJson);
+        }
+        json.put("steps", stepsJson);
+
+        StartupStepRecorder recorder = context.getCamelContextExtension().getStartupStepRecorder();
+        if (recorder != null && recorder.isEnabled()) {
+            List<JsonObject> camelSteps = recorder.steps()
+                    .map(CamelStartupReport::toJson)
+                    .collect(Collectors.toList());
+            if (!camelSteps.isEmpty()) {
+                json.put("camelSteps", new JsonArray(camelSteps));
+            }
+        }
+
+        json.put("routes", context.getRoutesSize());
+        json.put("components", context.getComponentNames().size());
+        json.put("typeConverters", context.getTypeConverterRegistry().size());
+        return json;
+    }
+
+    public String dump(CamelContext context) {
+        return Jsoner.prettyPrint(toJson(context).toJson());
+    }
+
+    private static JsonObject toJson(StartupStep step) {
+        JsonObject json = new JsonObject();
+        json.put("level", step.getLevel());
+        json.put("type", step.getType());
+        json.put("name", step.getName());
+        json.put("durationMs", step.getDuration());
+        return json;
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) TimeUnit.NANOSECONDS.toMicros(nanos) / 1000;
+    }
+
+    public static final class Step {
+        private final Phase phase;
+        private final String source;
+        private final String name;
+        private final long durationNanos;
+
+        Step(Phase phase, String source, String name, long durationNanos) {
+            this.phase = phase;
+            this.source = source;
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+}
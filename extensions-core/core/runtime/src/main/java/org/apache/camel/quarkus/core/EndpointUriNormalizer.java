@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.model.ModelLifecycleStrategy;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplateDefinition;
+import org.apache.camel.model.SendDefinition;
+import org.apache.camel.model.ToDynamicDefinition;
+import org.apache.camel.util.URISupport;
+
+/**
+ * Turns endpoint URIs into low cardinality values suitable for metric tags and span names.
+ * <p>
+ * The query string is removed and the credentials are masked. The URIs sent to by {@code toD} are replaced by the
+ * URI template of the matching {@code toD} node, e.g. {@code http://host/orders/{header.orderId}}, the templates being
+ * collected from the route definitions as they are added to the context. The path segments of the other URIs looking
+ * like identifiers (numbers, UUIDs and long hexadecimal strings) can be replaced by {@code {id}}. Once
+ * {@code maxUris} distinct values have been returned, any new value is replaced by {@link #OTHER}.
+ * <p>
+ * An instance is bound to the {@link CamelContext} as a context plugin when an extension requires it, by producing a
+ * {@code CamelEndpointUriNormalizerBuildItem}.
+ */
+public class EndpointUriNormalizer implements ModelLifecycleStrategy {
+
+    public static final String OTHER = "other";
+    public static final String IDENTIFIER = "{id}";
+
+    private static final Pattern IDENTIFIER_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,}");
+    private static final int CACHE_SIZE = 1024;
+
+    private final int maxUris;
+    private final boolean templatizeIdentifiers;
+    private final Set<String> staticUris = ConcurrentHashMap.newKeySet();
+    private final Set<String> normalizedUris = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> cache = new ConcurrentHashMap<>();
+    private volatile List<UriTemplate> templates = List.of();
+
+    public EndpointUriNormalizer(int maxUris, boolean templatizeIdentifiers) {
+        this.maxUris = maxUris;
+        this.templatizeIdentifiers = templatizeIdentifiers;
+    }
+
+    public EndpointUriNormalizer(CamelConfig.UriNormalizerConfig config) {
+        this(config.maxUris, config.templatizeIdentifiers);
+    }
+
+    /**
+     * Normalizes the given endpoint URI.
+     *
+     * @param  uri the endpoint URI
+     * @return     the normalized URI, or {@link #OTHER} once the maximum number of distinct normalized URIs is reached
+     */
+    public String normalize(String uri) {
+        // The query string never makes it to the normalized URI, the URIs differing by their query share an entry
+        String path = URISupport.stripQuery(uri);
+        String normalized = cache.get(path);
+        if (normalized != null) {
+            return normalized;
+        }
+
+        normalized = doNormalize(path);
+        if (!normalizedUris.contains(normalized)) {
+            synchronized (normalizedUris) {
+                if (!normalizedUris.contains(normalized)) {
+                    if (normalizedUris.size() >= maxUris) {
+                        normalized = OTHER;
+                    } else {
+                        normalizedUris.add(normalized);
+                    }
+                }
+            }
+        }
+
+        // Once the cache is full, the URIs it does not know are normalized on every call
+        if (cache.size() < CACHE_SIZE) {
+            cache.put(path, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * Registers the URI template of a dynamic endpoint, in which the expressions are written as {@code ${...}} or
+     * {@code $simple{...}}. A template without any expression is registered as a static URI.
+     */
+    public void addTemplate(String uriTemplate) {
+        UriTemplate template = UriTemplate.parse(uriTemplate);
+        if (template == null) {
+            addStaticUri(uriTemplate);
+            return;
+        }
+        synchronized (this) {
+            List<UriTemplate> newTemplates = new ArrayList<>(templates);
+            if (newTemplates.stream().noneMatch(t -> t.name.equals(template.name))) {
+                newTemplates.add(template);
+                // The more literal text a template has, the more specific it is
+                newTemplates.sort(Comparator.comparingInt((UriTemplate t) -> t.literalLength).reversed());
+                templates = List.copyOf(newTemplates);
+            }
+        }
+        cache.clear();
+    }
+
+    /**
+     * Registers a static endpoint URI, which is never templatized.
+     */
+    public void addStaticUri(String uri) {
+        staticUris.add(canonical(URISupport.stripQuery(uri)));
+        cache.clear();
+    }
+
+    @Override
+    public void onAddRouteDefinition(RouteDefinition route) {
+        CamelContext camelContext = route.getCamelContext();
+        if (route.getInput() != null) {
+            addStaticUri(camelContext, route.getInput().getEndpointUri());
+        }
+        for (SendDefinition<?> send : ProcessorDefinitionHelper.filterTypeInOutputs(route.getOutputs(),
+                SendDefinition.class)) {
+            addStaticUri(camelContext, send.getEndpointUri());
+        }
+        for (ToDynamicDefinition toD : ProcessorDefinitionHelper.filterTypeInOutputs(route.getOutputs(),
+                ToDynamicDefinition.class)) {
+            String uri = toD.getUri() != null ? toD.getUri() : toD.getEndpointProducerBuilder().getUri();
+            uri = resolvePropertyPlaceholders(camelContext, uri);
+            if (uri != null) {
+                addTemplate(uri);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoveRouteDefinition(RouteDefinition route) {
+        // The URIs stay known, as exchanges in flight may still be sent to them
+    }
+
+    @Override
+    public void onAddRouteTemplateDefinition(RouteTemplateDefinition routeTemplate) {
+        // The routes created from the template are added as route definitions
+    }
+
+    @Override
+    public void onRemoveRouteTemplateDefinition(RouteTemplateDefinition routeTemplate) {
+    }
+
+    private void addStaticUri(CamelContext camelContext, String uri) {
+        uri = resolvePropertyPlaceholders(camelContext, uri);
+        if (uri != null) {
+            addStaticUri(uri);
+        }
+    }
+
+    private String doNormalize(String path) {
+        String canonical = canonical(path);
+        if (!staticUris.contains(canonical)) {
+            for (UriTemplate template : templates) {
+                if (template.pattern.matcher(canonical).matches()) {
+                    return template.name;
+                }
+            }
+        }
+
+        String sanitized = URISupport.sanitizeUri(path);
+        if (!templatizeIdentifiers || staticUris.contains(canonical)) {
+            return sanitized;
+        }
+        String[] segments = sanitized.split("/", -1);
+        for (int i = 1; i < segments.length; i++) {
+            if (IDENTIFIER_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = IDENTIFIER;
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private static String resolvePropertyPlaceholders(CamelContext camelContext, String uri) {
+        if (uri == null || camelContext == null) {
+            return uri;
+        }
+        try {
+            return camelContext.resolvePropertyPlaceholders(uri);
+        } catch (IllegalArgumentException e) {
+            // The URI depends on properties that are not available yet
+            return null;
+        }
+    }
+
+    /**
+     * Camel normalizes {@code scheme:path} URIs to {@code scheme://path}, the URIs are then compared without the
+     * slashes.
+     */
+    static String canonical(String uri) {
+        int index = uri.indexOf("://");
+        return index < 0 ? uri : uri.substring(0, index + 1) + uri.substring(index + 3);
+    }
+
+    static final class UriTemplate {
+        final String name;
+        final Pattern pattern;
+        final int literalLength;
+
+        private UriTemplate(String name, Pattern pattern, int literalLength) {
+            this.name = name;
+            this.pattern = pattern;
+            this.literalLength = literalLength;
+        }
+
+        /**
+         * Parses the given URI template, returns {@code null} if it does not contain any expression.
+         */
+        static UriTemplate parse(String uriTemplate) {
+            StringBuilder name = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            StringBuilder regex = new StringBuilder();
+            int literalLength = 0;
+            boolean dynamic = false;
+            int i = 0;
+            while (i < uriTemplate.length()) {
+                int start = expressionStart(uriTemplate, i);
+                if (start < 0) {
+                    char c = uriTemplate.charAt(i);
+                    if (c == '?') {
+                        break;
+                    }
+                    literal.append(c);
+                    i++;
+                    continue;
+                }
+
+                int end = expressionEnd(uriTemplate, uriTemplate.indexOf('{', i) + 1);
+                if (end < 0) {
+                    return null;
+                }
+                appendLiteral(literal, name, regex);
+                name.append('{').append(uriTemplate, uriTemplate.indexOf('{', i) + 1, end).append('}');
+                regex.append(".+?");
+                literalLength += literal.length();
+                literal.setLength(0);
+                dynamic = true;
+                i = end + 1;
+            }
+            if (!dynamic) {
+                return null;
+            }
+            appendLiteral(literal, name, regex);
+            literalLength += literal.length();
+            // The template is used as the normalized URI, its credentials are masked like the ones of the other URIs
+            return new UriTemplate(
+                    URISupport.sanitizeUri(name.toString()), Pattern.compile(regex.toString()), literalLength);
+        }
+
+        private static void appendLiteral(StringBuilder literal, StringBuilder name, StringBuilder regex) {
+            if (literal.length() > 0) {
+                // Only the scheme separator at the beginning of the template has to be made canonical
+                String text = literal.toString();
+                regex.append(Pattern.quote(name.length() == 0 ? canonical(text) : text));
+                name.append(text);
+            }
+        }
+
+        private static int expressionStart(String s, int index) {
+            if (s.startsWith("${", index) || s.startsWith("$simple{", index)) {
+                return index;
+            }
+            return -1;
+        }
+
+        private static int expressionEnd(String s, int index) {
+            int depth = 1;
+            for (int i = index; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}' && --depth == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.core;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * A processor measuring the processing time of the processor it wraps, including the asynchronous part of the
+ * processing, for the intercept strategies recording metrics of the route nodes.
+ */
+public abstract class TimingProcessor extends DelegateAsyncProcessor {
+
+    protected TimingProcessor(Processor processor) {
+        super(processor);
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        begin(exchange);
+        long start = nanoTime();
+        return processor.process(exchange, doneSync -> {
+            done(exchange, nanoTime() - start);
+            callback.done(doneSync);
+        });
+    }
+
+    /**
+     * Called before the wrapped processor processes the exchange.
+     */
+    protected void begin(Exchange exchange) {
+    }
+
+    /**
+     * Called once the wrapped processor processed the exchange, before the callback is invoked.
+     *
+     * @param exchange     the processed exchange
+     * @param elapsedNanos the processing time, in nanoseconds
+     */
+    protected abstract void done(Exchange exchange, long elapsedNanos);
+
+    /**
+     * The monotonic clock measuring the processing time, {@link System#nanoTime()} by default.
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+}
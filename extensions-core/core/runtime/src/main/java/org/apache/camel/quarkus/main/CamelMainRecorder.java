@@ -31,6 +31,7 @@ import org.apache.camel.main.RoutesCollector;
 import org.apache.camel.quarkus.core.CamelConfig.FailureRemedy;
 import org.apache.camel.quarkus.core.CamelProducers;
 import org.apache.camel.quarkus.core.CamelRuntime;
+import org.apache.camel.quarkus.core.CamelStartupReport;
 import org.apache.camel.quarkus.core.RegistryRoutesLoader;
 import org.apache.camel.spi.CamelContextCustomizer;
 
@@ -77,8 +78,17 @@ public class CamelMainRecorder {
         main.getValue().addMainListener(new MainListenerSupport() {
             @Override
             public void afterConfigure(BaseMainSupport main) {
+                CamelStartupReport report = CamelStartupReport.lookup(main.getCamelContext());
                 for (RuntimeValue<CamelContextCustomizer> customizer : contextCustomizers) {
+                    final long start = System.nanoTime();
                     customizer.getValue().configure(main.getCamelContext());
+                    if (report != null) {
+                        report.addStep(
+                                CamelStartupReport.Phase.RUNTIME_INIT,
+                                "Customize CamelContext",
+                                customizer.getValue(),
+                                System.nanoTime() - start);
+                    }
                 }
             }
         });
@@ -16,8 +16,26 @@
  */
 package org.apache.camel.quarkus.component.caffeine.deployment;
 
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import org.apache.camel.quarkus.component.caffeine.CaffeineAggregationRepository;
+import org.apache.camel.quarkus.component.caffeine.CaffeineIdempotentRepository;
+import org.apache.camel.quarkus.component.caffeine.CaffeineRepositoryMetrics;
+import org.apache.camel.quarkus.component.caffeine.CaffeineRepositoryRecorder;
+import org.apache.camel.quarkus.component.caffeine.CamelCaffeineConfig;
+import org.apache.camel.quarkus.component.caffeine.CamelCaffeineConfig.AggregationRepositoryConfig;
+import org.apache.camel.quarkus.component.caffeine.CamelCaffeineConfig.IdempotentRepositoryConfig;
+import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
 import org.jboss.jandex.DotName;
 
 class CaffeineProcessor {
@@ -28,4 +46,50 @@ class CaffeineProcessor {
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
     }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void repositories(
+            CamelCaffeineConfig config,
+            CaffeineRepositoryRecorder recorder,
+            BuildProducer<CamelBeanBuildItem> camelBeans) {
+
+        for (Map.Entry<String, AggregationRepositoryConfig> entry : config.aggregationRepository.entrySet()) {
+            AggregationRepositoryConfig repository = entry.getValue();
+            checkBounds("aggregation-repository", entry.getKey(), repository.maximumSize, repository.maximumWeight);
+            camelBeans.produce(new CamelBeanBuildItem(
+                    entry.getKey(),
+                    CaffeineAggregationRepository.class.getName(),
+                    recorder.createAggregationRepository(entry.getKey(), repository)));
+        }
+
+        for (Map.Entry<String, IdempotentRepositoryConfig> entry : config.idempotentRepository.entrySet()) {
+            IdempotentRepositoryConfig repository = entry.getValue();
+            checkBounds("idempotent-repository", entry.getKey(), repository.maximumSize, repository.maximumWeight);
+            camelBeans.produce(new CamelBeanBuildItem(
+                    entry.getKey(),
+                    CaffeineIdempotentRepository.class.getName(),
+                    recorder.createIdempotentRepository(entry.getKey(), repository)));
+        }
+    }
+
+    @BuildStep
+    void repositoryMetrics(
+            CamelCaffeineConfig config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBean) {
+        if (config.aggregationRepository.isEmpty() && config.idempotentRepository.isEmpty()) {
+            return;
+        }
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(CaffeineRepositoryMetrics.class));
+        }
+    }
+
+    private static void checkBounds(String kind, String name, Optional<Long> maximumSize, Optional<Long> maximumWeight) {
+        if (maximumSize.isPresent() && maximumWeight.isPresent()) {
+            throw new ConfigurationException(
+                    "quarkus.camel.caffeine." + kind + "." + name + ": maximum-size and maximum-weight cannot be set together");
+        }
+    }
 }
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.caffeine;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.AggregationRepository} keeping the aggregated exchanges in a Caffeine cache, which,
+ * unlike {@code MemoryAggregationRepository}, can be bounded by a number of exchanges or by the total size of their
+ * bodies, and can expire the aggregations that are not updated anymore.
+ * <p>
+ * An evicted aggregation is lost, which is logged as a warning.
+ */
+public class CaffeineAggregationRepository extends ServiceSupport implements OptimisticLockingAggregationRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaffeineAggregationRepository.class);
+
+    private final String name;
+    private final LongAdder evictions = new LongAdder();
+    private long maximumSize = -1;
+    private long maximumWeight = -1;
+    private long expireAfterAccessMillis = -1;
+    private boolean optimistic;
+    private volatile Cache<String, Exchange> cache;
+
+    public CaffeineAggregationRepository(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * The maximum number of aggregated exchanges, or -1 for no maximum.
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * The maximum total size of the bodies of the aggregated exchanges, or -1 for no maximum.
+     */
+    public void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    public long getExpireAfterAccessMillis() {
+        return expireAfterAccessMillis;
+    }
+
+    /**
+     * The time after which an aggregated exchange that has not been read or written is evicted, or -1 for no
+     * expiration.
+     */
+    public void setExpireAfterAccessMillis(long expireAfterAccessMillis) {
+        this.expireAfterAccessMillis = expireAfterAccessMillis;
+    }
+
+    public boolean isOptimistic() {
+        return optimistic;
+    }
+
+    public void setOptimistic(boolean optimistic) {
+        this.optimistic = optimistic;
+    }
+
+    /**
+     * The cache holding the aggregated exchanges, which records its statistics. It is created from the configuration
+     * of the repository on the first call.
+     */
+    public Cache<String, Exchange> getCache() {
+        Cache<String, Exchange> result = cache;
+        if (result == null) {
+            synchronized (this) {
+                result = cache;
+                if (result == null) {
+                    result = cache = createCache();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The number of aggregated exchanges evicted because of the maximum size or weight, or of their expiration.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange)
+            throws OptimisticLockingException {
+        if (!optimistic) {
+            throw new UnsupportedOperationException();
+        }
+        if (oldExchange == null) {
+            if (cache.asMap().putIfAbsent(key, newExchange) != null) {
+                throw new OptimisticLockingException();
+            }
+        } else if (!cache.asMap().replace(key, oldExchange, newExchange)) {
+            throw new OptimisticLockingException();
+        }
+        return oldExchange;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        if (optimistic) {
+            throw new UnsupportedOperationException();
+        }
+        return cache.asMap().put(key, exchange);
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        if (optimistic) {
+            if (!cache.asMap().remove(key, exchange)) {
+                throw new OptimisticLockingException();
+            }
+        } else {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        // noop
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(cache.asMap().keySet());
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        getCache();
+    }
+
+    private Cache<String, Exchange> createCache() {
+        if (maximumSize >= 0 && maximumWeight >= 0) {
+            throw new IllegalArgumentException("Only one of maximumSize and maximumWeight can be set");
+        }
+
+        Caffeine<String, Exchange> builder = Caffeine.newBuilder()
+                .recordStats()
+                .evictionListener((String key, Exchange exchange, RemovalCause cause) -> {
+                    evictions.increment();
+                    if (cause == RemovalCause.EXPIRED) {
+                        LOGGER.debug("Aggregated exchange with correlation key {} expired from repository {}", key, name);
+                    } else {
+                        LOGGER.warn("Aggregated exchange with correlation key {} evicted from repository {} ({})", key,
+                                name, cause);
+                    }
+                });
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        if (maximumWeight >= 0) {
+            builder.maximumWeight(maximumWeight).weigher((String key, Exchange exchange) -> weigh(exchange));
+        }
+        if (expireAfterAccessMillis >= 0) {
+            builder.expireAfterAccess(expireAfterAccessMillis, TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        cache.invalidateAll();
+    }
+
+    static int weigh(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        long weight;
+        if (body instanceof byte[]) {
+            weight = ((byte[]) body).length;
+        } else if (body instanceof CharSequence) {
+            weight = ((CharSequence) body).length();
+        } else if (body instanceof ByteBuffer) {
+            weight = ((ByteBuffer) body).remaining();
+        } else if (body instanceof StreamCache) {
+            weight = ((StreamCache) body).length();
+        } else {
+            weight = 1;
+        }
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, weight));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.caffeine;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * An {@link IdempotentRepository} keeping the keys in a Caffeine cache, which can be bounded by a number of keys or by
+ * their total length, and can expire the keys that are not checked anymore.
+ */
+public class CaffeineIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private final String name;
+    private long maximumSize = -1;
+    private long maximumWeight = -1;
+    private long expireAfterAccessMillis = -1;
+    private volatile Cache<String, Boolean> cache;
+
+    public CaffeineIdempotentRepository(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * The maximum number of keys, or -1 for no maximum.
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * The maximum total number of characters of the keys, or -1 for no maximum.
+     */
+    public void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    public long getExpireAfterAccessMillis() {
+        return expireAfterAccessMillis;
+    }
+
+    /**
+     * The time after which a key that has not been added or checked is evicted, or -1 for no expiration.
+     */
+    public void setExpireAfterAccessMillis(long expireAfterAccessMillis) {
+        this.expireAfterAccessMillis = expireAfterAccessMillis;
+    }
+
+    /**
+     * The cache holding the keys, which records its statistics. It is created from the configuration of the repository
+     * on the first call.
+     */
+    public Cache<String, Boolean> getCache() {
+        Cache<String, Boolean> result = cache;
+        if (result == null) {
+            synchronized (this) {
+                result = cache;
+                if (result == null) {
+                    result = cache = createCache();
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean add(String key) {
+        return cache.asMap().putIfAbsent(key, Boolean.TRUE) == null;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return cache.getIfPresent(key) != null;
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return cache.asMap().remove(key) != null;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        getCache();
+    }
+
+    private Cache<String, Boolean> createCache() {
+        if (maximumSize >= 0 && maximumWeight >= 0) {
+            throw new IllegalArgumentException("Only one of maximumSize and maximumWeight can be set");
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        if (maximumWeight >= 0) {
+            builder.maximumWeight(maximumWeight).weigher((String key, Boolean value) -> Math.max(1, key.length()));
+        }
+        if (expireAfterAccessMillis >= 0) {
+            builder.expireAfterAccess(expireAfterAccessMillis, TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.caffeine;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.camel.CamelContext;
+
+/**
+ * Exposes the statistics of the caches of the {@link CaffeineAggregationRepository} and
+ * {@link CaffeineIdempotentRepository} beans as Micrometer cache metrics, tagged with the name of the repository.
+ */
+@Singleton
+public class CaffeineRepositoryMetrics implements MeterBinder {
+    static final String AGGREGATION_EVICTIONS = "camel.caffeine.aggregation.evictions";
+
+    @Inject
+    CamelContext camelContext;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<String, CaffeineAggregationRepository> aggregationRepositories = camelContext.getRegistry()
+                .findByTypeWithName(CaffeineAggregationRepository.class);
+        aggregationRepositories.forEach((name, repository) -> {
+            CaffeineCacheMetrics.monitor(registry, repository.getCache(), name, Tags.of("repository", "aggregation"));
+            FunctionCounter.builder(AGGREGATION_EVICTIONS, repository, CaffeineAggregationRepository::getEvictionCount)
+                    .description("The number of aggregated exchanges evicted or expired")
+                    .tag("cache", name)
+                    .register(registry);
+        });
+
+        Map<String, CaffeineIdempotentRepository> idempotentRepositories = camelContext.getRegistry()
+                .findByTypeWithName(CaffeineIdempotentRepository.class);
+        idempotentRepositories.forEach((name, repository) -> {
+            CaffeineCacheMetrics.monitor(registry, repository.getCache(), name, Tags.of("repository", "idempotent"));
+        });
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.caffeine;
+
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import org.apache.camel.catalog.impl.TimePatternConverter;
+import org.apache.camel.quarkus.component.caffeine.CamelCaffeineConfig.AggregationRepositoryConfig;
+import org.apache.camel.quarkus.component.caffeine.CamelCaffeineConfig.IdempotentRepositoryConfig;
+
+@Recorder
+public class CaffeineRepositoryRecorder {
+
+    public RuntimeValue<CaffeineAggregationRepository> createAggregationRepository(String name,
+            AggregationRepositoryConfig config) {
+        CaffeineAggregationRepository repository = new CaffeineAggregationRepository(name);
+
+        config.maximumSize.ifPresent(size -> repository.setMaximumSize(size));
+        config.maximumWeight.ifPresent(weight -> repository.setMaximumWeight(weight));
+        config.expireAfterAccess.ifPresent(expire -> {
+            repository.setExpireAfterAccessMillis(TimePatternConverter.toMilliSeconds(expire));
+        });
+        repository.setOptimistic(config.optimistic);
+
+        return new RuntimeValue<>(repository);
+    }
+
+    public RuntimeValue<CaffeineIdempotentRepository> createIdempotentRepository(String name,
+            IdempotentRepositoryConfig config) {
+        CaffeineIdempotentRepository repository = new CaffeineIdempotentRepository(name);
+
+        if (config.maximumWeight.isPresent()) {
+            repository.setMaximumWeight(config.maximumWeight.get());
+        } else {
+            repository.setMaximumSize(config.maximumSize.orElse(1000L));
+        }
+        config.expireAfterAccess.ifPresent(expire -> {
+            repository.setExpireAfterAccessMillis(TimePatternConverter.toMilliSeconds(expire));
+        });
+
+        return new RuntimeValue<>(repository);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.caffeine;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "camel.caffeine")
+public class CamelCaffeineConfig {
+
+    /**
+     * Caffeine backed aggregation repositories, registered as beans under their name.
+     */
+    @ConfigItem
+    public Map<String, AggregationRepositoryConfig> aggregationRepository;
+
+    /**
+     * Caffeine backed idempotent repositories, registered as beans under their name.
+     */
+    @ConfigItem
+    public Map<String, IdempotentRepositoryConfig> idempotentRepository;
+
+    @ConfigGroup
+    public static class AggregationRepositoryConfig {
+
+        /**
+         * The maximum number of aggregated exchanges, beyond which the least recently used ones are evicted (defaults
+         * to no maximum). It cannot be set together with the maximum weight.
+         */
+        @ConfigItem
+        public Optional<Long> maximumSize;
+
+        /**
+         * The maximum total weight of the aggregated exchanges, beyond which the least recently used ones are evicted
+         * (defaults to no maximum). The weight of an exchange is the size of its body: the number of bytes of a byte
+         * array, a byte buffer or a stream cache, the number of characters of a string, and 1 for the other bodies.
+         */
+        @ConfigItem
+        public Optional<Long> maximumWeight;
+
+        /**
+         * The time after which an aggregated exchange that has not been read or written is evicted (defaults to no
+         * expiration).
+         */
+        @ConfigItem
+        public Optional<String> expireAfterAccess;
+
+        /**
+         * Whether the repository should support the optimistic locking of the aggregator.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean optimistic;
+    }
+
+    @ConfigGroup
+    public static class IdempotentRepositoryConfig {
+
+        /**
+         * The maximum number of keys, beyond which the least recently used ones are evicted (defaults to 1000 unless
+         * the maximum weight is set). It cannot be set together with the maximum weight.
+         */
+        @ConfigItem
+        public Optional<Long> maximumSize;
+
+        /**
+         * The maximum total number of characters of the keys, beyond which the least recently used ones are evicted
+         * (defaults to no maximum).
+         */
+        @ConfigItem
+        public Optional<Long> maximumWeight;
+
+        /**
+         * The time after which a key that has not been added or checked is evicted (defaults to no expiration).
+         */
+        @ConfigItem
+        public Optional<String> expireAfterAccess;
+    }
+}
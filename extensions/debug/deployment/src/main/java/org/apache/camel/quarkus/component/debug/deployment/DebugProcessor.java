@@ -18,16 +18,24 @@ package org.apache.camel.quarkus.component.debug.deployment;
 
 import java.util.function.BooleanSupplier;
 
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.vertx.http.deployment.spi.RouteBuildItem;
 import org.apache.camel.api.management.JmxSystemPropertyKeys;
 import org.apache.camel.quarkus.component.debug.DebugConfig;
+import org.apache.camel.quarkus.component.debug.DebugRecorder;
+import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelServiceDestination;
 import org.apache.camel.quarkus.core.deployment.spi.CamelServicePatternBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.RuntimeCamelContextCustomizerBuildItem;
 import org.apache.camel.spi.BacklogDebugger;
 import org.eclipse.microprofile.config.ConfigProvider;
 
@@ -59,6 +67,29 @@ class DebugProcessor {
         producer.produce(new SystemPropertyBuildItem(JmxSystemPropertyKeys.DISABLED, "false"));
     }
 
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = SamplingEnabled.class)
+    RuntimeCamelContextCustomizerBuildItem configureRouteNodeSampler(DebugRecorder recorder, DebugConfig config) {
+        return new RuntimeCamelContextCustomizerBuildItem(recorder.createRouteNodeSamplerCustomizer(config));
+    }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = SamplingEnabled.class)
+    void routeNodeSamplerRoute(
+            DebugRecorder recorder,
+            DebugConfig config,
+            Capabilities capabilities,
+            CamelContextBuildItem camelContext,
+            BuildProducer<RouteBuildItem> routes) {
+        // Serve the samples if the application exposes HTTP endpoints
+        if (capabilities.isPresent(Capability.VERTX_HTTP)) {
+            routes.produce(RouteBuildItem.newFrameworkRoute(config.sampling.httpPath)
+                    .withRequestHandler(recorder.createRouteNodeSamplerHandler(camelContext.getCamelContext()))
+                    .displayOnNotFoundPage("Camel route node samples")
+                    .build());
+        }
+    }
+
     static class DebugEnabled implements BooleanSupplier {
         DebugConfig config;
         LaunchMode launchMode;
@@ -69,4 +100,13 @@ class DebugProcessor {
                     || ConfigProvider.getConfig().getOptionalValue("camel.main.debugging", boolean.class).orElse(false));
         }
     }
+
+    static class SamplingEnabled implements BooleanSupplier {
+        DebugConfig config;
+
+        @Override
+        public boolean getAsBoolean() {
+            return config.sampling.enabled;
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.debug.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import jakarta.inject.Inject;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DebugSamplingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(DebugResource.class, Routes.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void routeNodeSamples() throws Exception {
+        // Sampling does not enable the debugger
+        RestAssured.get("/debug/enabled")
+                .then()
+                .body(is("false"))
+                .statusCode(200);
+
+        producerTemplate.sendBody("direct:slow", "Hello");
+
+        RestAssured.given()
+                .queryParam("routeId", "slow")
+                .get("/q/camel/route-node-samples")
+                .then()
+                .statusCode(200)
+                .body(containsString("slow;sleep "));
+
+        // The samples are only cleared through JMX
+        RestAssured.delete("/q/camel/route-node-samples")
+                .then()
+                .statusCode(405);
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Set<ObjectName> names = mBeanServer.queryNames(
+                new ObjectName("org.apache.camel:context=*,type=services,name=RouteNodeSampler*"), null);
+        assertEquals(1, names.size());
+        mBeanServer.invoke(names.iterator().next(), "reset", null, null);
+
+        RestAssured.get("/q/camel/route-node-samples")
+                .then()
+                .statusCode(200)
+                .body(is(emptyString()));
+    }
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.debug.sampling.enabled", "true");
+        props.setProperty("quarkus.camel.debug.sampling.interval", "5ms");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    public static final class Routes extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:slow").routeId("slow")
+                    .process(exchange -> Thread.sleep(200)).id("sleep");
+        }
+    }
+}
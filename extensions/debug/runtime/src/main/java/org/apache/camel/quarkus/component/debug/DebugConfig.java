@@ -16,6 +16,10 @@
  */
 package org.apache.camel.quarkus.component.debug;
 
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 
@@ -31,4 +35,35 @@ public class DebugConfig {
      * immediately suspended until the method {@code attach()} is called.
      */
     public boolean suspend;
+
+    /**
+     * Configuration options for the sampling of the route nodes executed by the inflight exchanges.
+     */
+    public SamplingConfig sampling;
+
+    @ConfigGroup
+    public static class SamplingConfig {
+        /**
+         * Set whether to periodically record the route node executed by each inflight exchange. Unlike the debugging
+         * support, the sampling does not suspend the exchanges and can be enabled in production.
+         *
+         * The samples are served over HTTP, in the folded stacks format of flame graph tools, when the application
+         * depends on `quarkus-vertx-http`.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The interval between two samples.
+         */
+        @ConfigItem(defaultValue = "20ms")
+        public Duration interval;
+
+        /**
+         * The HTTP path serving the samples. A relative path is resolved against
+         * `quarkus.http.non-application-root-path`.
+         */
+        @ConfigItem(defaultValue = "camel/route-node-samples")
+        public String httpPath;
+    }
 }
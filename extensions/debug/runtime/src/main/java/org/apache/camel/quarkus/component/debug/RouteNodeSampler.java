@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.debug;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.spi.InflightRepository.InflightExchange;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically records the route node executed by each inflight exchange.
+ * <p>
+ * Camel keeps track of the node each exchange is at, so sampling only requires the inflight repository to keep the
+ * inflight exchanges browsable. The samples are aggregated by stack of the route the exchange was created by, the route
+ * it currently is in and the node it is executing, e.g. {@code orders;enrich;to3}.
+ */
+@ManagedResource(description = "Samples of the route nodes executed by the inflight exchanges")
+public class RouteNodeSampler extends ServiceSupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteNodeSampler.class);
+    private static final String SEPARATOR = ";";
+
+    private final Map<String, LongAdder> samples = new ConcurrentHashMap<>();
+    private final long intervalMillis;
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+
+    public RouteNodeSampler(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    /**
+     * Records the current node of every inflight exchange.
+     */
+    public void sample() {
+        try {
+            for (InflightExchange inflightExchange : camelContext.getInflightRepository().browse()) {
+                String stack = stack(inflightExchange);
+                LongAdder count = samples.get(stack);
+                if (count == null) {
+                    count = samples.computeIfAbsent(stack, key -> new LongAdder());
+                }
+                count.increment();
+            }
+        } catch (Exception e) {
+            // The executor would not run the next samples if the exception was thrown
+            LOG.warn("Failed to sample the inflight exchanges", e);
+        }
+    }
+
+    /**
+     * Returns the number of samples by stack, for the stacks starting with the given route or for all the stacks if
+     * {@code routeId} is {@code null}.
+     */
+    public Map<String, Long> getSamples(String routeId) {
+        Map<String, Long> answer = new TreeMap<>();
+        samples.forEach((stack, count) -> {
+            if (routeId == null || stack.equals(routeId) || stack.startsWith(routeId + SEPARATOR)) {
+                answer.put(stack, count.sum());
+            }
+        });
+        return answer;
+    }
+
+    /**
+     * Returns the samples in the folded stacks format consumed by flame graph tools, one stack per line followed by its
+     * number of samples.
+     */
+    @ManagedOperation(description = "Dumps the samples of the stacks starting with the given route, or of all the stacks"
+            + " if no route is given, in the folded stacks format")
+    public String dumpSamplesAsFoldedStacks(String routeId) {
+        StringBuilder sb = new StringBuilder();
+        getSamples(routeId).forEach((stack, count) -> sb.append(stack).append(' ').append(count).append('\n'));
+        return sb.toString();
+    }
+
+    @ManagedOperation(description = "Clears the samples")
+    public void reset() {
+        samples.clear();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        InflightRepository inflightRepository = camelContext.getInflightRepository();
+        inflightRepository.setInflightBrowseEnabled(true);
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                "RouteNodeSampler");
+        executorService.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    private static String stack(InflightExchange inflightExchange) {
+        StringBuilder sb = new StringBuilder();
+        String fromRouteId = inflightExchange.getFromRouteId();
+        String atRouteId = inflightExchange.getAtRouteId();
+        if (fromRouteId != null) {
+            sb.append(fromRouteId);
+        }
+        if (atRouteId != null && !atRouteId.equals(fromRouteId)) {
+            append(sb, atRouteId);
+        }
+        String nodeId = inflightExchange.getNodeId();
+        if (nodeId != null) {
+            append(sb, nodeId);
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String frame) {
+        if (sb.length() > 0) {
+            sb.append(SEPARATOR);
+        }
+        sb.append(frame);
+    }
+}
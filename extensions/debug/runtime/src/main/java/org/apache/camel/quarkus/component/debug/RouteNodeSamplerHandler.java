@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.debug;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.camel.CamelContext;
+
+/**
+ * Serves the samples of the {@link RouteNodeSampler} in the folded stacks format, optionally restricted to the stacks
+ * starting with the route given by the {@code routeId} query parameter. The samples are cleared by the {@code reset}
+ * operation of the sampler MBean.
+ */
+public class RouteNodeSamplerHandler implements Handler<RoutingContext> {
+
+    private final CamelContext camelContext;
+
+    public RouteNodeSamplerHandler(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        if (routingContext.request().method() != HttpMethod.GET) {
+            routingContext.response().setStatusCode(405).putHeader("Allow", "GET").end();
+            return;
+        }
+        RouteNodeSampler sampler = camelContext.hasService(RouteNodeSampler.class);
+        if (sampler == null) {
+            routingContext.response().setStatusCode(404).end();
+            return;
+        }
+        routingContext.response()
+                .putHeader("Content-Type", "text/plain")
+                .end(sampler.dumpSamplesAsFoldedStacks(routingContext.request().getParam("routeId")));
+    }
+}
@@ -24,6 +24,7 @@ import io.quarkus.runtime.RuntimeValue;
 import org.apache.camel.component.file.cluster.FileLockClusterService;
 import org.apache.camel.quarkus.component.file.cluster.FileLockClusterServiceConfig;
 import org.apache.camel.quarkus.component.file.cluster.FileLockClusterServiceRecorder;
+import org.apache.camel.quarkus.component.file.cluster.LeaseFileClusterService;
 import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 
@@ -35,6 +36,11 @@ class FileLockClusterServiceProcessor {
     CamelBeanBuildItem setupFileLockClusterService(FileLockClusterServiceConfig config,
             FileLockClusterServiceRecorder recorder) {
 
+        if (config.heartbeat.enabled) {
+            final RuntimeValue<LeaseFileClusterService> lfcs = recorder.createLeaseFileClusterService(config);
+            return new CamelBeanBuildItem("fileLockClusterService", LeaseFileClusterService.class.getName(), lfcs);
+        }
+
         final RuntimeValue<FileLockClusterService> flcs = recorder.createFileLockClusterService(config);
         return new CamelBeanBuildItem("fileLockClusterService", FileLockClusterService.class.getName(), flcs);
     }
@@ -16,8 +16,19 @@
  */
 package org.apache.camel.quarkus.component.file.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import org.apache.camel.component.file.FileComponent;
+import org.apache.camel.quarkus.component.file.CamelFileProducers;
+import org.apache.camel.quarkus.component.file.scheduler.FileWatchPollConsumerScheduler;
+import org.apache.camel.quarkus.component.file.streaming.FileStreamingScanConfig;
+import org.apache.camel.quarkus.component.file.streaming.FileStreamingScanRecorder;
+import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
+import org.apache.camel.support.DefaultScheduledPollConsumerScheduler;
 
 class FileProcessor {
 
@@ -27,4 +38,23 @@ class FileProcessor {
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
     }
+
+    @BuildStep
+    AdditionalBeanBuildItem fileWatchScheduler() {
+        return AdditionalBeanBuildItem.unremovableOf(CamelFileProducers.class);
+    }
+
+    @BuildStep
+    ReflectiveClassBuildItem fileWatchSchedulerProperties() {
+        // The scheduler.* endpoint options are bound to the scheduler by reflection
+        return ReflectiveClassBuildItem.builder(FileWatchPollConsumerScheduler.class,
+                DefaultScheduledPollConsumerScheduler.class).methods().build();
+    }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep(onlyIf = FileStreamingScanConfig.Enabled.class)
+    CamelBeanBuildItem streamingFileComponent(FileStreamingScanConfig config, FileStreamingScanRecorder recorder) {
+        return new CamelBeanBuildItem("file", FileComponent.class.getName(),
+                recorder.createStreamingFileComponent(config));
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.cluster.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.cluster.CamelClusterView;
+import org.apache.camel.quarkus.component.file.cluster.LeaseFileClusterService;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileLockClusterServiceConfigHeartbeatEnabledTest {
+
+    private static final String ROOT = "target/lease-file-cluster";
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addAsResource(applicationProperties(),
+                    "application.properties"));
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.cluster.file.enabled", "true");
+        props.setProperty("quarkus.camel.cluster.file.id", "service-id");
+        props.setProperty("quarkus.camel.cluster.file.root", ROOT);
+        props.setProperty("quarkus.camel.cluster.file.attributes.key1", "value1");
+        props.setProperty("quarkus.camel.cluster.file.heartbeat.enabled", "true");
+        props.setProperty("quarkus.camel.cluster.file.heartbeat.interval", "50");
+        props.setProperty("quarkus.camel.cluster.file.heartbeat.lease-duration", "1s");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Inject
+    CamelContext camelContext;
+
+    @Test
+    public void heartbeatEnabledConfigShouldAutoConfigureLeaseFileClusterService() {
+        LeaseFileClusterService[] lfcs = camelContext.getCamelContextExtension()
+                .getServices()
+                .stream()
+                .filter(s -> s instanceof LeaseFileClusterService)
+                .toArray(LeaseFileClusterService[]::new);
+        assertEquals(1, lfcs.length);
+
+        LeaseFileClusterService service = lfcs[0];
+        assertEquals("service-id", service.getId());
+        assertEquals(ROOT, service.getRoot());
+        assertEquals("value1", service.getAttributes().get("key1"));
+        assertEquals(50L, service.getHeartbeatInterval());
+        assertEquals(1000L, service.getLeaseDuration());
+    }
+
+    @Test
+    public void leadershipShouldBeHandedOverWhenTheLeaderStops() throws Exception {
+        LeaseFileClusterService first = createService("first");
+        LeaseFileClusterService second = createService("second");
+        try {
+            first.start();
+            CamelClusterView firstView = first.getView("handover");
+            awaitLeader(firstView, 5000);
+
+            second.start();
+            CamelClusterView secondView = second.getView("handover");
+            // The lease is renewed by the first member, so the second must not take it over
+            Thread.sleep(3 * second.getLeaseDuration());
+            assertTrue(firstView.getLocalMember().isLeader());
+            assertFalse(secondView.getLocalMember().isLeader());
+            assertEquals(0, first.getHeartbeatFailures());
+
+            first.stop();
+            awaitLeader(secondView, 2000);
+            assertEquals(2, first.getLeadershipChanges());
+            assertEquals(1, second.getLeadershipChanges());
+        } finally {
+            second.stop();
+            first.stop();
+        }
+    }
+
+    @Test
+    public void expiredLeaseShouldBeTakenOver() throws Exception {
+        // Simulate a leader that stopped renewing its lease without releasing it
+        Path lease = Paths.get(ROOT, "expired.lease");
+        Files.createDirectories(lease.getParent());
+        ByteBuffer record = ByteBuffer.allocate(128);
+        record.putInt(0x43514c46).putInt(1).putLong(7).putLong(42).putLong(System.currentTimeMillis()).putLong(1234);
+        Files.write(lease, record.array());
+
+        LeaseFileClusterService service = createService("survivor");
+        try {
+            service.start();
+            long start = System.nanoTime();
+            CamelClusterView view = service.getView("expired");
+
+            awaitLeader(view, 5000);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsed >= service.getLeaseDuration(), "Lease taken over after " + elapsed + " ms");
+            assertTrue(service.getAcquireAttempts() >= 1);
+
+            ByteBuffer written = ByteBuffer.wrap(Files.readAllBytes(lease));
+            assertEquals(8, written.getLong(8));
+            assertTrue(written.getLong(16) > 42);
+        } finally {
+            service.stop();
+        }
+    }
+
+    private static void awaitLeader(CamelClusterView view, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!view.getLocalMember().isLeader() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(view.getLocalMember().isLeader(), view.getClusterService().getId() + " is not the leader");
+    }
+
+    private LeaseFileClusterService createService(String id) {
+        LeaseFileClusterService service = new LeaseFileClusterService();
+        service.setCamelContext(camelContext);
+        service.setId(id);
+        service.setRoot(ROOT);
+        service.setHeartbeatInterval(50);
+        service.setLeaseDuration(500);
+        return service;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.idempotent.deployment;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.QuarkusUnitTest;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.component.file.idempotent.MemoryMappedIdempotentRepository;
+import org.apache.camel.util.FileUtil;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedIdempotentRepositoryTest {
+
+    private static final File DATA_DIR = new File("target/memory-mapped-idempotent");
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Routes.class));
+
+    @AfterAll
+    public static void afterAll() {
+        FileUtil.removeDir(DATA_DIR);
+    }
+
+    @Test
+    public void filesConsumedOnce() throws Exception {
+        Path in = DATA_DIR.toPath().resolve("in");
+        Files.createDirectories(in);
+        for (String name : new String[] { "a.txt", "b.txt", "c.txt" }) {
+            Files.writeString(in.resolve(name), name);
+        }
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (Routes.CONSUMED.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        // Let the consumer poll the unchanged directory a few more times
+        Thread.sleep(500);
+
+        assertEquals(List.of("a.txt", "b.txt", "c.txt"), Routes.CONSUMED.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void keysSurviveRestart() throws Exception {
+        File fileStore = new File(DATA_DIR, "restart.dat");
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore, 10_000);
+        repository.start();
+        try {
+            for (int i = 0; i < 5_000; i++) {
+                assertTrue(repository.add("file-" + i + ".csv"));
+            }
+            assertFalse(repository.add("file-42.csv"));
+            assertTrue(repository.remove("file-43.csv"));
+            assertFalse(repository.remove("file-43.csv"));
+        } finally {
+            repository.stop();
+        }
+
+        repository = new MemoryMappedIdempotentRepository(fileStore, 10);
+        repository.start();
+        try {
+            assertEquals(4_999, repository.getSize());
+            assertTrue(repository.contains("file-0.csv"));
+            assertTrue(repository.contains("file-4999.csv"));
+            assertFalse(repository.contains("file-43.csv"));
+            assertFalse(repository.contains("file-5000.csv"));
+            assertTrue(repository.add("file-43.csv"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void fullRepositoryRejectsNewKeys() throws Exception {
+        File fileStore = new File(DATA_DIR, "full.dat");
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore, 3);
+        repository.start();
+        try {
+            assertTrue(repository.add("a"));
+            assertTrue(repository.add("b"));
+            assertTrue(repository.add("c"));
+            assertThrows(IllegalStateException.class, () -> repository.add("d"));
+
+            repository.clear();
+            assertFalse(repository.contains("a"));
+            assertTrue(repository.add("d"));
+            assertEquals(1, Files.size(Path.of(fileStore.getPath() + ".keys")));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void expiredKeysAreNotDuplicates() throws Exception {
+        File fileStore = new File(DATA_DIR, "expiry.dat");
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore, 3);
+        repository.setTimeToLive(100);
+        repository.start();
+        try {
+            assertTrue(repository.add("a"));
+            assertTrue(repository.add("b"));
+            assertTrue(repository.add("c"));
+            assertFalse(repository.add("a"));
+
+            Thread.sleep(150);
+
+            assertFalse(repository.contains("a"));
+            assertTrue(repository.add("d"));
+            assertTrue(repository.add("a"));
+            assertTrue(repository.contains("a"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void expiredEntriesOverwrittenByOtherKeys() throws Exception {
+        File fileStore = new File(DATA_DIR, "overwrite.dat");
+        MemoryMappedIdempotentRepository repository = new MemoryMappedIdempotentRepository(fileStore, 3);
+        repository.setTimeToLive(100);
+        repository.start();
+        try {
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < 3; i++) {
+                    assertTrue(repository.add("round-" + round + "-key-" + i));
+                }
+                // The slots of the expired keys of the previous round were reused without growing the size
+                assertEquals(3, repository.getSize());
+                Thread.sleep(150);
+            }
+        } finally {
+            repository.stop();
+        }
+
+        repository = new MemoryMappedIdempotentRepository(fileStore, 3);
+        repository.start();
+        try {
+            assertEquals(3, repository.getSize());
+        } finally {
+            repository.stop();
+        }
+    }
+
+    public static class Routes extends RouteBuilder {
+        static final List<String> CONSUMED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void configure() {
+            bindToRegistry("memoryMappedRepository",
+                    new MemoryMappedIdempotentRepository(new File(DATA_DIR, "route.dat"), 100));
+
+            from("file:" + DATA_DIR.getPath() + "/in?noop=true&idempotentRepository=#memoryMappedRepository"
+                    + "&initialDelay=0&delay=10")
+                    .process(exchange -> CONSUMED.add(exchange.getMessage().getHeader(Exchange.FILE_NAME, String.class)));
+        }
+    }
+}
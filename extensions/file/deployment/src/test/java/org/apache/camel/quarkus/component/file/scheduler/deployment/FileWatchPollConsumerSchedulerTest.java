@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.scheduler.deployment;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.component.file.scheduler.FileWatchPollConsumerScheduler;
+import org.apache.camel.support.ScheduledPollConsumer;
+import org.apache.camel.util.FileUtil;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileWatchPollConsumerSchedulerTest {
+
+    private static final File DATA_DIR = new File("target/file-watch-scheduler");
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Routes.class));
+
+    @Inject
+    CamelContext camelContext;
+
+    @AfterAll
+    public static void afterAll() {
+        FileUtil.removeDir(DATA_DIR);
+    }
+
+    @Test
+    public void schedulerCreatedForEachConsumer() {
+        FileWatchPollConsumerScheduler flat = assertInstanceOf(FileWatchPollConsumerScheduler.class,
+                ((ScheduledPollConsumer) camelContext.getRoute("flat").getConsumer()).getScheduler());
+        FileWatchPollConsumerScheduler tree = assertInstanceOf(FileWatchPollConsumerScheduler.class,
+                ((ScheduledPollConsumer) camelContext.getRoute("tree").getConsumer()).getScheduler());
+
+        assertNotSame(flat, tree);
+        assertEquals(600_000, flat.getDelay());
+        assertEquals(50, tree.getEventDelay());
+    }
+
+    @Test
+    public void watchEventTriggersPollWithDoneFile() throws Exception {
+        Path in = DATA_DIR.toPath().resolve("flat");
+        Files.writeString(in.resolve("hello.txt"), "Hello");
+
+        // The file is only consumed once its done file exists
+        Thread.sleep(500);
+        assertTrue(Routes.FLAT.isEmpty());
+
+        Files.writeString(in.resolve("hello.txt.done"), "");
+
+        awaitSize(Routes.FLAT, 1);
+        assertEquals(List.of("hello.txt"), List.copyOf(Routes.FLAT));
+    }
+
+    @Test
+    public void watchEventTriggersPollInNewSubdirectory() throws Exception {
+        Path directory = DATA_DIR.toPath().resolve("tree").resolve("a").resolve("b");
+        Files.createDirectories(directory);
+        // Give the scheduler the time to watch the new directories
+        Thread.sleep(200);
+        Files.writeString(directory.resolve("nested.txt"), "Nested");
+        Files.writeString(DATA_DIR.toPath().resolve("tree").resolve("top.txt"), "Top");
+
+        awaitSize(Routes.TREE, 2);
+        assertEquals(List.of("a/b/nested.txt", "top.txt"), Routes.TREE.stream().sorted().collect(Collectors.toList()));
+    }
+
+    private static void awaitSize(Queue<String> queue, int size) throws InterruptedException {
+        // The periodic polls run every 10 minutes, so the files can only be consumed through watch events
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (queue.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    public static class Routes extends RouteBuilder {
+        static final Queue<String> FLAT = new ConcurrentLinkedQueue<>();
+        static final Queue<String> TREE = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void configure() throws Exception {
+            Files.createDirectories(DATA_DIR.toPath().resolve("flat"));
+            Files.createDirectories(DATA_DIR.toPath().resolve("tree"));
+
+            from("file:" + DATA_DIR.getPath() + "/flat?doneFileName=${file:name}.done"
+                    + "&scheduler=#fileWatchScheduler&scheduler.delay=600000")
+                    .routeId("flat")
+                    .process(exchange -> FLAT.add(exchange.getMessage().getHeader(Exchange.FILE_NAME, String.class)));
+
+            from("file:" + DATA_DIR.getPath() + "/tree?recursive=true"
+                    + "&scheduler=#fileWatchScheduler&scheduler.delay=600000&scheduler.eventDelay=50")
+                    .routeId("tree")
+                    .process(exchange -> TREE.add(exchange.getMessage().getHeader(Exchange.FILE_NAME, String.class)));
+        }
+    }
+}
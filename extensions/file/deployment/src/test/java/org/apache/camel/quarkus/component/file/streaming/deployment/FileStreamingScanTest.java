@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.streaming.deployment;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.component.file.streaming.StreamingFileComponent;
+import org.apache.camel.quarkus.component.file.streaming.StreamingFileConsumer;
+import org.apache.camel.util.FileUtil;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileStreamingScanTest {
+
+    private static final File DATA_DIR = new File("target/streaming-scan");
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.file.streaming-scan.enabled", "true");
+        props.setProperty("quarkus.camel.file.streaming-scan.chunk-size", "16");
+        props.setProperty("quarkus.camel.file.streaming-scan.parallel-threshold", "4");
+        props.setProperty("quarkus.camel.file.streaming-scan.parallelism", "3");
+        props.setProperty("quarkus.camel.file.streaming-scan.dispatch-during-scan", "true");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Inject
+    CamelContext camelContext;
+
+    @AfterAll
+    public static void afterAll() {
+        FileUtil.removeDir(DATA_DIR);
+    }
+
+    @Test
+    public void streamingFileComponentConfigured() {
+        StreamingFileComponent component = assertInstanceOf(StreamingFileComponent.class,
+                camelContext.getComponent("file"));
+        assertEquals(16, component.getChunkSize());
+        assertEquals(4, component.getParallelThreshold());
+        assertEquals(3, component.getParallelism());
+        assertTrue(component.isDispatchDuringScan());
+
+        assertInstanceOf(StreamingFileConsumer.class, camelContext.getRoute("flat").getConsumer());
+    }
+
+    @Test
+    public void filesConsumedInLimitedBatches() throws Exception {
+        Path in = DATA_DIR.toPath().resolve("flat");
+        Files.createDirectories(in);
+        for (int i = 0; i < 100; i++) {
+            Files.writeString(in.resolve("file-" + i + ".txt"), "Hello " + i);
+        }
+        Files.writeString(in.resolve("ignored.csv"), "Ignored");
+
+        awaitSize(Routes.FLAT, 100);
+
+        Set<String> expected = IntStream.range(0, 100).mapToObj(i -> "file-" + i + ".txt").collect(Collectors.toSet());
+        assertEquals(expected, Routes.FLAT.stream().collect(Collectors.toSet()));
+        assertEquals(100, Routes.FLAT.size());
+        assertTrue(Routes.BATCH_SIZES.stream().allMatch(size -> size <= 10), "Batch sizes: " + Routes.BATCH_SIZES);
+    }
+
+    @Test
+    public void recursiveScanHonoursDepth() throws Exception {
+        Path tree = DATA_DIR.toPath().resolve("tree");
+        Path level = tree;
+        for (int depth = 1; depth <= 4; depth++) {
+            Files.createDirectories(level);
+            Files.writeString(level.resolve("depth-" + depth + ".txt"), "Depth " + depth);
+            Files.createDirectories(level.resolve(".hidden"));
+            Files.writeString(level.resolve(".hidden").resolve("hidden-" + depth + ".txt"), "Hidden " + depth);
+            level = level.resolve("level-" + depth);
+        }
+
+        awaitSize(Routes.TREE, 2);
+        // Let the consumer poll the unchanged tree a few more times
+        Thread.sleep(300);
+
+        assertEquals(List.of("level-1/depth-2.txt", "level-1/level-2/depth-3.txt"),
+                Routes.TREE.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void chunksDispatchedDuringScan() throws Exception {
+        Path in = DATA_DIR.toPath().resolve("dispatched");
+        Files.createDirectories(in);
+        for (int i = 0; i < 40; i++) {
+            Files.writeString(in.resolve("file-" + i + ".txt"), "Hello " + i);
+        }
+
+        // A single poll, as the next one is only due in a minute
+        camelContext.getRouteController().startRoute("dispatched");
+        awaitSize(Routes.DISPATCHED, 40);
+
+        Set<String> expected = IntStream.range(0, 40).mapToObj(i -> "file-" + i + ".txt").collect(Collectors.toSet());
+        assertEquals(expected, Routes.DISPATCHED.stream().collect(Collectors.toSet()));
+        // Two chunks of 16 files processed while scanning, and the remaining 8 files once the scan completed
+        assertEquals(List.of(16, 16, 8), Routes.DISPATCHED_BATCH_SIZES);
+    }
+
+    private static void awaitSize(Queue<String> queue, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (queue.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    public static class Routes extends RouteBuilder {
+        static final Queue<String> FLAT = new ConcurrentLinkedQueue<>();
+        static final Queue<Integer> BATCH_SIZES = new ConcurrentLinkedQueue<>();
+        static final Queue<String> TREE = new ConcurrentLinkedQueue<>();
+        static final Queue<String> DISPATCHED = new ConcurrentLinkedQueue<>();
+        static final List<Integer> DISPATCHED_BATCH_SIZES = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void configure() {
+            from("file:" + DATA_DIR.getPath()
+                    + "/flat?noop=true&include=.*\\.txt&maxMessagesPerPoll=10&initialDelay=0&delay=10")
+                    .routeId("flat")
+                    .process(exchange -> {
+                        FLAT.add(exchange.getMessage().getHeader(Exchange.FILE_NAME, String.class));
+                        BATCH_SIZES.add(exchange.getProperty(Exchange.BATCH_SIZE, Integer.class));
+                    });
+
+            from("file:" + DATA_DIR.getPath() + "/tree?noop=true&recursive=true&minDepth=2&maxDepth=3&initialDelay=0&delay=10")
+                    .routeId("tree")
+                    .process(exchange -> TREE.add(exchange.getMessage().getHeader(Exchange.FILE_NAME, String.class)));
+
+            from("file:" + DATA_DIR.getPath() + "/dispatched?noop=true&initialDelay=0&delay=60000")
+                    .routeId("dispatched")
+                    .autoStartup(false)
+                    .process(exchange -> {
+                        DISPATCHED.add(exchange.getMessage().getHeader(Exchange.FILE_NAME, String.class));
+                        if (exchange.getProperty(Exchange.BATCH_INDEX, Integer.class) == 0) {
+                            DISPATCHED_BATCH_SIZES.add(exchange.getProperty(Exchange.BATCH_SIZE, Integer.class));
+                        }
+                    });
+        }
+    }
+}
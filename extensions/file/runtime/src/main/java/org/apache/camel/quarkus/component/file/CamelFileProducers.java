@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.apache.camel.quarkus.component.file.scheduler.FileWatchPollConsumerScheduler;
+import org.apache.camel.spi.ScheduledPollConsumerScheduler;
+
+@Singleton
+public class CamelFileProducers {
+
+    /**
+     * A scheduler instance holds the state of a single consumer, so a new one is created for each lookup.
+     */
+    @Produces
+    @Dependent
+    @Named("fileWatchScheduler")
+    public ScheduledPollConsumerScheduler fileWatchScheduler() {
+        return new FileWatchPollConsumerScheduler();
+    }
+}
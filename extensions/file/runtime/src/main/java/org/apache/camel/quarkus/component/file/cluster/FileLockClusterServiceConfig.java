@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BooleanSupplier;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -70,6 +71,37 @@ public class FileLockClusterServiceConfig {
     @ConfigItem
     public Optional<String> acquireLockInterval;
 
+    /**
+     * The heartbeat lease configuration.
+     */
+    @ConfigItem
+    public HeartbeatConfig heartbeat;
+
+    @ConfigGroup
+    public static class HeartbeatConfig {
+
+        /**
+         * Whether the leader should be elected through a lease file renewed by heartbeats instead of an exclusive
+         * lock on a file. With heartbeats, the other members take over the leadership as soon as the leader stopped
+         * renewing its lease for the lease duration, instead of at their next attempt to acquire the lock.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The interval at which the leader renews its lease and the other members check it (defaults to 200ms).
+         */
+        @ConfigItem
+        public Optional<String> interval;
+
+        /**
+         * The time after which a lease that has not been renewed can be taken over by another member. It must be
+         * greater than twice the heartbeat interval (defaults to 1000ms).
+         */
+        @ConfigItem
+        public Optional<String> leaseDuration;
+    }
+
     public static final class Enabled implements BooleanSupplier {
         @Override
         public boolean getAsBoolean() {
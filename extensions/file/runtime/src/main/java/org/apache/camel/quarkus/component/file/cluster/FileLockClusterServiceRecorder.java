@@ -46,4 +46,24 @@ public class FileLockClusterServiceRecorder {
         return new RuntimeValue<FileLockClusterService>(flcs);
     }
 
+    public RuntimeValue<LeaseFileClusterService> createLeaseFileClusterService(FileLockClusterServiceConfig config) {
+        LeaseFileClusterService lfcs = new LeaseFileClusterService();
+
+        config.id.ifPresent(id -> lfcs.setId(id));
+        config.root.ifPresent(root -> lfcs.setRoot(root));
+        config.order.ifPresent(order -> lfcs.setOrder(order));
+        config.heartbeat.interval.ifPresent(interval -> {
+            lfcs.setHeartbeatInterval(TimePatternConverter.toMilliSeconds(interval));
+        });
+        config.heartbeat.leaseDuration.ifPresent(duration -> {
+            lfcs.setLeaseDuration(TimePatternConverter.toMilliSeconds(duration));
+        });
+
+        config.attributes.forEach((key, value) -> {
+            lfcs.setAttribute(key, value);
+        });
+
+        return new RuntimeValue<LeaseFileClusterService>(lfcs);
+    }
+
 }
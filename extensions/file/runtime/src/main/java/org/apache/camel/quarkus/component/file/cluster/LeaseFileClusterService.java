@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.cluster;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.support.cluster.AbstractCamelClusterService;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A cluster service electing the leader of each namespace through a lease file in the {@code root} directory.
+ * <p>
+ * The leader increments a heartbeat counter in the lease file every {@code heartbeatInterval}, and the other members
+ * take over the lease once the counter has not changed for {@code leaseDuration}, as measured by their own monotonic
+ * clock, so that no clock synchronization between the members is needed. Taking over and renewing the lease are
+ * serialized with a file lock on a region of the lease file, which is only held for the time of reading and writing
+ * the lease.
+ */
+public class LeaseFileClusterService extends AbstractCamelClusterService<LeaseFileClusterView> {
+
+    private final LongAdder leadershipChanges = new LongAdder();
+    private final LongAdder acquireAttempts = new LongAdder();
+    private final LongAdder heartbeatFailures = new LongAdder();
+    private String root;
+    private long heartbeatInterval = 200;
+    private long leaseDuration = 1000;
+    private ScheduledExecutorService executor;
+
+    public LeaseFileClusterService() {
+    }
+
+    @Override
+    protected LeaseFileClusterView createView(String namespace) throws Exception {
+        return new LeaseFileClusterView(this, namespace);
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    /**
+     * Sets the root path of the lease files.
+     */
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    /**
+     * The interval in milliseconds at which the leader renews its lease and the other members check it.
+     */
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public long getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    /**
+     * The time in milliseconds after which a lease that has not been renewed can be taken over. It must be greater
+     * than twice the heartbeat interval.
+     */
+    public void setLeaseDuration(long leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+
+    /**
+     * The number of times the local member gained or lost the leadership of a namespace.
+     */
+    public long getLeadershipChanges() {
+        return leadershipChanges.sum();
+    }
+
+    /**
+     * The number of attempts of the local member to take over an expired lease.
+     */
+    public long getAcquireAttempts() {
+        return acquireAttempts.sum();
+    }
+
+    /**
+     * The number of times the leader could not renew its lease.
+     */
+    public long getHeartbeatFailures() {
+        return heartbeatFailures.sum();
+    }
+
+    void leadershipChanged() {
+        leadershipChanges.increment();
+    }
+
+    void acquireAttempted() {
+        acquireAttempts.increment();
+    }
+
+    void heartbeatFailed() {
+        heartbeatFailures.increment();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(root, "root");
+        if (heartbeatInterval <= 0) {
+            throw new IllegalArgumentException("heartbeatInterval must be positive, was " + heartbeatInterval);
+        }
+        if (leaseDuration <= 2 * heartbeatInterval) {
+            throw new IllegalArgumentException("leaseDuration (" + leaseDuration
+                    + " ms) must be greater than twice the heartbeatInterval (" + heartbeatInterval + " ms)");
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        ScheduledExecutorService service;
+        synchronized (this) {
+            service = executor;
+            executor = null;
+        }
+        if (service != null) {
+            getCamelContext().getExecutorServiceManager().shutdownGraceful(service);
+        }
+    }
+
+    synchronized ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            executor = getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "LeaseFileClusterService-" + getId());
+        }
+        return executor;
+    }
+
+    long heartbeatIntervalNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(heartbeatInterval);
+    }
+
+    long leaseDurationNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(leaseDuration);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.cluster;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.support.cluster.AbstractCamelClusterView;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The view of a namespace of a {@link LeaseFileClusterService}, backed by the {@code <root>/<namespace>.lease} file.
+ * <p>
+ * The lease file holds a single record: a magic number and a format version, the epoch of the current leadership,
+ * the heartbeat counter, the time of the last heartbeat, a random token identifying the leader and the id of its
+ * cluster service. A token of 0 means that the lease is free.
+ */
+public class LeaseFileClusterView extends AbstractCamelClusterView {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeaseFileClusterView.class);
+
+    static final int MAGIC = 0x43514c46;
+    static final int VERSION = 1;
+    static final int RECORD_SIZE = 128;
+    private static final int EPOCH_OFFSET = 8;
+    private static final int COUNTER_OFFSET = 16;
+    private static final int TIMESTAMP_OFFSET = 24;
+    private static final int TOKEN_OFFSET = 32;
+    private static final int ID_LENGTH_OFFSET = 40;
+    private static final int ID_OFFSET = 44;
+    // The region locked while reading and writing the lease, after the record so that readers are never blocked
+    private static final long LOCK_POSITION = RECORD_SIZE;
+
+    private final LeaseFileClusterService service;
+    private final ClusterMember localMember;
+    private final Path path;
+    private final long token;
+    private final byte[] id;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private FileChannel channel;
+    private ScheduledFuture<?> task;
+    private volatile boolean leader;
+    private long epoch;
+    private long counter;
+    private long lastHeartbeatNanos;
+    private long observedEpoch = -1;
+    private long observedCounter = -1;
+    private long observedSinceNanos;
+
+    LeaseFileClusterView(LeaseFileClusterService service, String namespace) {
+        super(service, namespace);
+
+        this.service = service;
+        this.localMember = new ClusterMember();
+        this.path = Paths.get(service.getRoot(), namespace + ".lease");
+
+        long t;
+        do {
+            UUID uuid = UUID.randomUUID();
+            t = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+        } while (t == 0);
+        this.token = t;
+
+        byte[] bytes = service.getId() != null ? service.getId().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        this.id = bytes.length > RECORD_SIZE - ID_OFFSET ? Arrays.copyOf(bytes, RECORD_SIZE - ID_OFFSET) : bytes;
+    }
+
+    @Override
+    public Optional<CamelClusterMember> getLeader() {
+        return leader ? Optional.of(localMember) : Optional.empty();
+    }
+
+    @Override
+    public CamelClusterMember getLocalMember() {
+        return localMember;
+    }
+
+    @Override
+    public List<CamelClusterMember> getMembers() {
+        return Collections.singletonList(localMember);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        task = service.getExecutor().scheduleWithFixedDelay(this::tick, 0, service.getHeartbeatInterval(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+
+        synchronized (this) {
+            if (leader) {
+                release();
+            }
+            IOHelper.close(channel);
+            channel = null;
+        }
+    }
+
+    synchronized void tick() {
+        if (channel == null || (!isStarting() && !isStarted())) {
+            return;
+        }
+
+        if (leader) {
+            renew();
+        } else {
+            try {
+                acquire();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Lease on file {} not acquired", path, e);
+            }
+        }
+    }
+
+    private void acquire() throws IOException {
+        long now = System.nanoTime();
+        long[] lease = read();
+        if (lease[2] != 0 && observe(lease, now)) {
+            LOGGER.trace("Lease on file {} held by another member (epoch={})", path, lease[0]);
+            return;
+        }
+        if (lease[2] != 0 && now - observedSinceNanos < service.leaseDurationNanos()) {
+            return;
+        }
+
+        service.acquireAttempted();
+        LOGGER.debug("Try to acquire the lease on {}", path);
+        FileLock lock = tryLock();
+        if (lock == null) {
+            return;
+        }
+        try {
+            // The lease may have been renewed or taken over since it was read without the lock
+            lease = read();
+            if (lease[2] != 0 && observe(lease, now)) {
+                return;
+            }
+            epoch = lease[0] + 1;
+            counter = lease[1] + 1;
+            write(token);
+            lastHeartbeatNanos = System.nanoTime();
+        } finally {
+            lock.release();
+        }
+
+        LOGGER.info("Lease on file {} acquired (epoch={})", path, epoch);
+        setLeader(true);
+    }
+
+    private void renew() {
+        FileLock lock = null;
+        try {
+            lock = tryLock();
+            if (lock != null) {
+                long[] lease = read();
+                if (lease[2] != token || lease[0] != epoch) {
+                    LOGGER.info("Lease on file {} lost (epoch={})", path, epoch);
+                    setLeader(false);
+                    return;
+                }
+                counter++;
+                write(token);
+                lastHeartbeatNanos = System.nanoTime();
+                LOGGER.trace("Lease on file {} renewed (epoch={}, counter={})", path, epoch, counter);
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Lease on file {} not renewed", path, e);
+        } finally {
+            if (lock != null) {
+                try {
+                    lock.release();
+                } catch (IOException e) {
+                    LOGGER.debug("Cannot release the lock on file {}", path, e);
+                }
+            }
+        }
+
+        service.heartbeatFailed();
+        // Give up the leadership before the other members can consider the lease as expired
+        if (System.nanoTime() - lastHeartbeatNanos >= service.leaseDurationNanos() - service.heartbeatIntervalNanos()) {
+            LOGGER.warn("Lease on file {} could not be renewed for {} ms, giving up the leadership", path,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastHeartbeatNanos));
+            setLeader(false);
+        }
+    }
+
+    private void release() {
+        try {
+            FileLock lock = tryLock();
+            if (lock != null) {
+                try {
+                    long[] lease = read();
+                    if (lease[2] == token && lease[0] == epoch) {
+                        write(0);
+                    }
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Cannot release the lease on file {}", path, e);
+        }
+        LOGGER.info("Lease on file {} released (epoch={})", path, epoch);
+        setLeader(false);
+    }
+
+    /**
+     * Records the epoch and counter of a lease held by another member, returning whether they changed.
+     */
+    private boolean observe(long[] lease, long now) {
+        if (lease[0] == observedEpoch && lease[1] == observedCounter) {
+            return false;
+        }
+        observedEpoch = lease[0];
+        observedCounter = lease[1];
+        observedSinceNanos = now;
+        return true;
+    }
+
+    private void setLeader(boolean leader) {
+        if (this.leader != leader) {
+            this.leader = leader;
+            observedEpoch = -1;
+            observedCounter = -1;
+            service.leadershipChanged();
+            fireLeadershipChangedEvent(leader ? Optional.of(localMember) : Optional.empty());
+        }
+    }
+
+    private FileLock tryLock() throws IOException {
+        try {
+            return channel.tryLock(LOCK_POSITION, 1, false);
+        } catch (OverlappingFileLockException e) {
+            // Another view of this JVM is reading or writing the lease
+            return null;
+        }
+    }
+
+    /**
+     * Reads the epoch, counter and token of the lease, which are all 0 if the lease file is empty or invalid.
+     */
+    private long[] read() throws IOException {
+        record.clear();
+        while (record.hasRemaining()) {
+            if (channel.read(record, record.position()) < 0) {
+                break;
+            }
+        }
+        if (record.position() < RECORD_SIZE || record.getInt(0) != MAGIC || record.getInt(4) != VERSION) {
+            return new long[3];
+        }
+        return new long[] { record.getLong(EPOCH_OFFSET), record.getLong(COUNTER_OFFSET), record.getLong(TOKEN_OFFSET) };
+    }
+
+    private void write(long owner) throws IOException {
+        record.clear();
+        record.putInt(MAGIC);
+        record.putInt(VERSION);
+        record.putLong(EPOCH_OFFSET, epoch);
+        record.putLong(COUNTER_OFFSET, counter);
+        record.putLong(TIMESTAMP_OFFSET, System.currentTimeMillis());
+        record.putLong(TOKEN_OFFSET, owner);
+        record.putInt(ID_LENGTH_OFFSET, id.length);
+        record.position(ID_OFFSET);
+        record.put(id);
+        record.position(0);
+        while (record.hasRemaining()) {
+            channel.write(record, record.position());
+        }
+    }
+
+    private final class ClusterMember implements CamelClusterMember {
+        @Override
+        public boolean isLeader() {
+            return leader;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return true;
+        }
+
+        @Override
+        public String getId() {
+            return getClusterService().getId();
+        }
+    }
+}
@@ -0,0 +1,518 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link IdempotentRepository} storing the keys in an open addressing hash table held in a memory mapped file, so
+ * that neither the keys nor the table occupy the Java heap and every operation writes a few bytes only.
+ * <p>
+ * Each slot of the table holds the 64-bit hash of a key, the time it was added and the location of the key in an
+ * append-only key file, named after the table file with a {@code .keys} suffix. The key is compared against the key
+ * file on a hash match, so hash collisions do not cause false duplicates. Removed keys are marked as deleted in the
+ * table but remain in the key file until {@link #clear()} is called.
+ * <p>
+ * The number of slots is fixed when the table file is created, according to {@code maxEntries}. Adding a key to a full
+ * table fails, unless slots can be reused because a {@code timeToLive} is set and some entries expired. When no
+ * expired slot is found on the way to an empty one, the table is rebuilt in place without its expired and deleted
+ * entries.
+ */
+public class MemoryMappedIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedIdempotentRepository.class);
+
+    private static final int MAGIC = 0x43514d49;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_SLOT_COUNT = 8;
+    private static final int HEADER_SIZE_FIELD = 16;
+    private static final int HEADER_USED_SLOTS = 24;
+
+    // slot layout: hash (8), timestamp (8), key offset (8), key length (4), reserved (4)
+    private static final int SLOT_SHIFT = 5;
+    private static final int SLOT_TIMESTAMP = 8;
+    private static final int SLOT_KEY_OFFSET = 16;
+    private static final int SLOT_KEY_LENGTH = 24;
+    private static final long EMPTY = 0;
+    private static final long DELETED = -1;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int SLOTS_PER_SEGMENT_SHIFT = SEGMENT_SHIFT - SLOT_SHIFT;
+    private static final long SLOT_IN_SEGMENT_MASK = (1L << SLOTS_PER_SEGMENT_SHIFT) - 1;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private File fileStore;
+    private long maxEntries = 1_000_000;
+    private long timeToLive;
+
+    private FileChannel tableChannel;
+    private FileChannel keyChannel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private long slotCount;
+    private long slotMask;
+    private long maxUsedSlots;
+    private long size;
+    private long usedSlots;
+    private long keyFileSize;
+
+    public MemoryMappedIdempotentRepository() {
+    }
+
+    public MemoryMappedIdempotentRepository(File fileStore, long maxEntries) {
+        this.fileStore = fileStore;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Creates a new memory mapped idempotent repository.
+     *
+     * @param  fileStore  the file holding the hash table
+     * @param  maxEntries the maximum number of keys the table has room for, only used when the file is created
+     * @return            the repository
+     */
+    public static IdempotentRepository memoryMappedIdempotentRepository(File fileStore, long maxEntries) {
+        return new MemoryMappedIdempotentRepository(fileStore, maxEntries);
+    }
+
+    @Override
+    public boolean add(String key) {
+        long hash = hash(key);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long now = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            long reusable = -1;
+            // Whether the reusable slot holds the expired entry of another key, that still counts in the size
+            boolean reusableCounted = false;
+            boolean compacted = false;
+            probe: for (;;) {
+                for (long i = 0, slot = hash & slotMask; i < slotCount; i++, slot = (slot + 1) & slotMask) {
+                    long timestamp = timestamp(slot);
+                    if (timestamp == EMPTY) {
+                        if (reusable < 0) {
+                            if (usedSlots >= maxUsedSlots) {
+                                if (!compacted && compact(now)) {
+                                    // Probe the rebuilt table again, expired and deleted entries left room for the key
+                                    compacted = true;
+                                    continue probe;
+                                }
+                                throw new IllegalStateException("The idempotent repository " + fileStore
+                                        + " is full with " + size + " entries");
+                            }
+                            usedSlots++;
+                            putLong(HEADER_USED_SLOTS, usedSlots);
+                            reusable = slot;
+                        }
+                        break;
+                    }
+                    if (timestamp == DELETED || isExpired(timestamp, now)) {
+                        if (reusable < 0) {
+                            reusable = slot;
+                            reusableCounted = timestamp != DELETED;
+                        }
+                        if (timestamp == DELETED) {
+                            continue;
+                        }
+                    }
+                    if (hash(slot) == hash && keyEquals(slot, keyBytes)) {
+                        if (!isExpired(timestamp, now)) {
+                            return false;
+                        }
+                        // Renew the expired entry in place, the key file already holds the key
+                        setTimestamp(slot, now);
+                        return true;
+                    }
+                }
+                break;
+            }
+            if (reusable < 0) {
+                throw new IllegalStateException("The idempotent repository " + fileStore + " is full with "
+                        + size + " entries");
+            }
+
+            long offset = appendKey(keyBytes);
+            writeSlot(reusable, hash, offset, keyBytes.length, now);
+            if (!reusableCounted) {
+                size++;
+                putLong(HEADER_SIZE_FIELD, size);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(String key) {
+        long hash = hash(key);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            long slot = find(hash, keyBytes);
+            return slot >= 0 && !isExpired(timestamp(slot), System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        long hash = hash(key);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        lock.writeLock().lock();
+        try {
+            long slot = find(hash, keyBytes);
+            if (slot < 0) {
+                return false;
+            }
+            boolean expired = isExpired(timestamp(slot), System.currentTimeMillis());
+            setTimestamp(slot, DELETED);
+            size--;
+            putLong(HEADER_SIZE_FIELD, size);
+            return !expired;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byte[] zeros = new byte[1 << 16];
+            for (MappedByteBuffer segment : segments) {
+                for (int position = 0; position < segment.capacity(); position += zeros.length) {
+                    segment.put(position, zeros, 0, Math.min(zeros.length, segment.capacity() - position));
+                }
+            }
+            size = 0;
+            usedSlots = 0;
+            putLong(HEADER_SIZE_FIELD, 0);
+            putLong(HEADER_USED_SLOTS, 0);
+            keyChannel.truncate(0);
+            keyFileSize = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of keys the table has room for. Only used when the table file is created, an existing
+     * file keeps its size.
+     */
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time in milliseconds after which a key is no longer considered a duplicate and its slot can be reused.
+     * Defaults to {@code 0}, meaning that keys never expire.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return the number of keys in the repository, including expired keys whose slot was not reused yet
+     */
+    public long getSize() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be a positive number: " + maxEntries);
+        }
+
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        boolean exists = fileStore.exists() && fileStore.length() > 0;
+
+        tableChannel = FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        keyChannel = FileChannel.open(new File(fileStore.getPath() + ".keys").toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        keyFileSize = keyChannel.size();
+
+        header = tableChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (exists) {
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException(fileStore + " is not a memory mapped idempotent repository file");
+            }
+            slotCount = header.getLong(HEADER_SLOT_COUNT);
+            size = header.getLong(HEADER_SIZE_FIELD);
+            usedSlots = header.getLong(HEADER_USED_SLOTS);
+        } else {
+            slotCount = Long.highestOneBit((long) Math.ceil(maxEntries / MAX_LOAD_FACTOR) - 1) << 1;
+            slotCount = Math.max(slotCount, 2);
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(HEADER_SLOT_COUNT, slotCount);
+            size = 0;
+            usedSlots = 0;
+        }
+        slotMask = slotCount - 1;
+        maxUsedSlots = (long) (slotCount * MAX_LOAD_FACTOR);
+
+        long tableSize = slotCount << SLOT_SHIFT;
+        int segmentCount = (int) ((tableSize + (1L << SEGMENT_SHIFT) - 1) >>> SEGMENT_SHIFT);
+        segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long position = (long) i << SEGMENT_SHIFT;
+            segments[i] = tableChannel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + position,
+                    Math.min(1L << SEGMENT_SHIFT, tableSize - position));
+        }
+
+        LOG.debug("Opened memory mapped idempotent repository {} with {} entries in {} slots", fileStore, size, slotCount);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        lock.writeLock().lock();
+        try {
+            if (segments != null) {
+                for (MappedByteBuffer segment : segments) {
+                    segment.force();
+                }
+                header.force();
+                segments = null;
+                header = null;
+            }
+            if (keyChannel != null) {
+                keyChannel.force(false);
+            }
+            IOHelper.close(keyChannel, fileStore.getName() + ".keys", LOG);
+            IOHelper.close(tableChannel, fileStore.getName(), LOG);
+            keyChannel = null;
+            tableChannel = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long find(long hash, byte[] keyBytes) {
+        for (long i = 0, slot = hash & slotMask; i < slotCount; i++, slot = (slot + 1) & slotMask) {
+            long timestamp = timestamp(slot);
+            if (timestamp == EMPTY) {
+                return -1;
+            }
+            if (timestamp != DELETED && hash(slot) == hash && keyEquals(slot, keyBytes)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Rebuilds the table with the live entries only, so that the slots of expired and deleted entries become empty
+     * again. Expired entries are only reused when they are met while probing for a key, so a table can be full even
+     * though most of its entries expired.
+     *
+     * @return {@code true} if slots were reclaimed
+     */
+    private boolean compact(long now) {
+        int live = 0;
+        for (long slot = 0; slot < slotCount; slot++) {
+            long timestamp = timestamp(slot);
+            if (timestamp != EMPTY && timestamp != DELETED && !isExpired(timestamp, now)) {
+                live++;
+            }
+        }
+        if (live == usedSlots) {
+            return false;
+        }
+
+        long[] hashes = new long[live];
+        long[] timestamps = new long[live];
+        long[] keyOffsets = new long[live];
+        int[] keyLengths = new int[live];
+        int entry = 0;
+        for (long slot = 0; slot < slotCount; slot++) {
+            long timestamp = timestamp(slot);
+            if (timestamp != EMPTY && timestamp != DELETED && !isExpired(timestamp, now)) {
+                MappedByteBuffer segment = segment(slot);
+                int position = position(slot);
+                hashes[entry] = segment.getLong(position);
+                timestamps[entry] = timestamp;
+                keyOffsets[entry] = segment.getLong(position + SLOT_KEY_OFFSET);
+                keyLengths[entry] = segment.getInt(position + SLOT_KEY_LENGTH);
+                entry++;
+            }
+            if (timestamp != EMPTY) {
+                setTimestamp(slot, EMPTY);
+            }
+        }
+        for (int i = 0; i < live; i++) {
+            long slot = hashes[i] & slotMask;
+            while (timestamp(slot) != EMPTY) {
+                slot = (slot + 1) & slotMask;
+            }
+            writeSlot(slot, hashes[i], keyOffsets[i], keyLengths[i], timestamps[i]);
+        }
+
+        LOG.debug("Compacted memory mapped idempotent repository {} from {} to {} used slots", fileStore, usedSlots, live);
+        size = live;
+        usedSlots = live;
+        putLong(HEADER_SIZE_FIELD, size);
+        putLong(HEADER_USED_SLOTS, usedSlots);
+        return true;
+    }
+
+    private boolean isExpired(long timestamp, long now) {
+        return timeToLive > 0 && now - timestamp >= timeToLive;
+    }
+
+    private boolean keyEquals(long slot, byte[] keyBytes) {
+        MappedByteBuffer segment = segment(slot);
+        int position = position(slot);
+        if (segment.getInt(position + SLOT_KEY_LENGTH) != keyBytes.length) {
+            return false;
+        }
+        ByteBuffer stored = ByteBuffer.allocate(keyBytes.length);
+        long offset = segment.getLong(position + SLOT_KEY_OFFSET);
+        try {
+            while (stored.hasRemaining()) {
+                if (keyChannel.read(stored, offset + stored.position()) < 0) {
+                    // The key was not written completely before a crash
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Arrays.equals(stored.array(), keyBytes);
+    }
+
+    private long appendKey(byte[] keyBytes) {
+        long offset = keyFileSize;
+        ByteBuffer buffer = ByteBuffer.wrap(keyBytes);
+        try {
+            while (buffer.hasRemaining()) {
+                keyChannel.write(buffer, offset + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        keyFileSize += keyBytes.length;
+        return offset;
+    }
+
+    private void writeSlot(long slot, long hash, long keyOffset, int keyLength, long timestamp) {
+        MappedByteBuffer segment = segment(slot);
+        int position = position(slot);
+        segment.putLong(position, hash);
+        segment.putLong(position + SLOT_KEY_OFFSET, keyOffset);
+        segment.putInt(position + SLOT_KEY_LENGTH, keyLength);
+        // The timestamp marks the slot as used, so it is written last
+        segment.putLong(position + SLOT_TIMESTAMP, timestamp);
+    }
+
+    private long hash(long slot) {
+        return segment(slot).getLong(position(slot));
+    }
+
+    private long timestamp(long slot) {
+        return segment(slot).getLong(position(slot) + SLOT_TIMESTAMP);
+    }
+
+    private void setTimestamp(long slot, long timestamp) {
+        segment(slot).putLong(position(slot) + SLOT_TIMESTAMP, timestamp);
+    }
+
+    private MappedByteBuffer segment(long slot) {
+        return segments[(int) (slot >>> SLOTS_PER_SEGMENT_SHIFT)];
+    }
+
+    private static int position(long slot) {
+        return (int) ((slot & SLOT_IN_SEGMENT_MASK) << SLOT_SHIFT);
+    }
+
+    private void putLong(int position, long value) {
+        header.putLong(position, value);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units of the key, followed by the MurmurHash3 finalizer to spread the bits used
+     * to select the slot.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
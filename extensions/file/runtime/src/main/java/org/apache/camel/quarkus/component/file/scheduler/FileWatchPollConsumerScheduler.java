@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.scheduler;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.file.FileEndpoint;
+import org.apache.camel.support.DefaultScheduledPollConsumerScheduler;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scheduler for the file consumer which runs a poll as soon as the NIO {@link WatchService} reports a change in the
+ * polled directory, in addition to the periodic polls.
+ * <p>
+ * The triggered polls are regular polls run on the thread of the periodic polls, so that the read locks, done files,
+ * filters and idempotent checks of the endpoint apply unchanged. The periodic polls only reconcile the changes which
+ * are not reported by the watch service, such as those made by other hosts on a network file system, so their
+ * {@code delay} defaults to one minute.
+ */
+public class FileWatchPollConsumerScheduler extends DefaultScheduledPollConsumerScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileWatchPollConsumerScheduler.class);
+
+    private final AtomicBoolean pollPending = new AtomicBoolean();
+    private long eventDelay;
+    private FileEndpoint endpoint;
+    private Runnable task;
+    private WatchService watchService;
+    private ExecutorService watchExecutorService;
+
+    public FileWatchPollConsumerScheduler() {
+        setDelay(TimeUnit.MINUTES.toMillis(1));
+        setTimeUnit(TimeUnit.MILLISECONDS);
+    }
+
+    public long getEventDelay() {
+        return eventDelay;
+    }
+
+    /**
+     * Milliseconds to wait after a watch event before polling, so that the events of a file being written are
+     * coalesced into a single poll. Defaults to 0.
+     */
+    public void setEventDelay(long eventDelay) {
+        this.eventDelay = eventDelay;
+    }
+
+    @Override
+    public void onInit(Consumer consumer) {
+        if (!(consumer.getEndpoint() instanceof FileEndpoint)) {
+            throw new IllegalArgumentException(
+                    "The file watch scheduler can only be used with file consumers, not with " + consumer.getEndpoint());
+        }
+        super.onInit(consumer);
+        this.endpoint = (FileEndpoint) consumer.getEndpoint();
+    }
+
+    @Override
+    public void scheduleTask(Runnable task) {
+        super.scheduleTask(task);
+        this.task = task;
+    }
+
+    @Override
+    public void startScheduler() {
+        super.startScheduler();
+        if (watchService != null) {
+            return;
+        }
+
+        Path directory = endpoint.getFile().toPath();
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            register(directory);
+        } catch (IOException e) {
+            IOHelper.close(watchService);
+            watchService = null;
+            throw new RuntimeCamelException("Cannot watch directory: " + directory, e);
+        }
+
+        watchExecutorService = getCamelContext().getExecutorServiceManager()
+                .newSingleThreadExecutor(this, "FileWatchPollConsumerScheduler");
+        watchExecutorService.submit(this::watch);
+    }
+
+    @Override
+    public void unscheduleTask() {
+        stopWatching();
+        super.unscheduleTask();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        stopWatching();
+        super.doStop();
+    }
+
+    private void stopWatching() {
+        if (watchService != null) {
+            IOHelper.close(watchService);
+            watchService = null;
+        }
+        if (watchExecutorService != null) {
+            getCamelContext().getExecutorServiceManager().shutdownNow(watchExecutorService);
+            watchExecutorService = null;
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        if (!endpoint.isRecursive()) {
+            register(watchService, directory);
+            return;
+        }
+
+        WatchService ws = watchService;
+        Path start = endpoint.getFile().toPath();
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(start)) {
+                    if (!endpoint.isIncludeHiddenDirs() && dir.getFileName().toString().startsWith(".")) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    // The consumer does not poll the files of deeper directories
+                    if (start.relativize(dir).getNameCount() >= endpoint.getMaxDepth()) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                }
+                register(ws, dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                LOG.debug("Cannot watch directory: {} due to: {}", file, e.getMessage(), e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void register(WatchService ws, Path directory) throws IOException {
+        LOG.trace("Watching directory: {}", directory);
+        directory.register(ws, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    private void watch() {
+        WatchService ws = watchService;
+        while (ws != null && isRunAllowed()) {
+            WatchKey key;
+            try {
+                key = ws.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                changed = true;
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && endpoint.isRecursive()) {
+                    Path child = directory.resolve((Path) event.context());
+                    if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                        try {
+                            register(child);
+                        } catch (IOException | ClosedWatchServiceException e) {
+                            LOG.debug("Cannot watch directory: {} due to: {}", child, e.getMessage(), e);
+                        }
+                    }
+                }
+            }
+            key.reset();
+
+            if (changed) {
+                triggerPoll();
+            }
+        }
+    }
+
+    private void triggerPoll() {
+        // Coalesce the events received until the triggered poll starts
+        if (!pollPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        ScheduledExecutorService executor = getScheduledExecutorService();
+        Runnable poll = () -> {
+            pollPending.set(false);
+            task.run();
+        };
+        try {
+            if (eventDelay > 0) {
+                executor.schedule(poll, eventDelay, TimeUnit.MILLISECONDS);
+            } else {
+                executor.execute(poll);
+            }
+        } catch (RuntimeException e) {
+            // The executor is shutting down
+            pollPending.set(false);
+            LOG.debug("Cannot trigger poll of: {} due to: {}", endpoint, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.streaming;
+
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+@ConfigRoot(name = "camel.file.streaming-scan")
+public class FileStreamingScanConfig {
+
+    /**
+     * Whether the `file` component should be replaced by a component whose consumers stream the entries of the polled
+     * directories instead of listing them all up front. See the Usage section for the endpoint options that still
+     * require a full directory listing.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The number of directory entries read from the directory stream before they are filtered and added to the poll.
+     */
+    @ConfigItem(defaultValue = "1024")
+    public int chunkSize;
+
+    /**
+     * The minimum number of entries in a chunk for their file attributes to be read in parallel, in slices of this
+     * number of entries.
+     */
+    @ConfigItem(defaultValue = "256")
+    public int parallelThreshold;
+
+    /**
+     * The number of threads reading the file attributes of a chunk (defaults to the number of available processors).
+     * A value of `1` reads the file attributes on the consumer thread.
+     */
+    @ConfigItem
+    public Optional<Integer> parallelism;
+
+    /**
+     * Whether the files found in each chunk should be processed before the scan reads the next chunk, instead of
+     * processing all the files of the poll once the scan is complete. The batch exchange properties then refer to the
+     * chunk the file was dispatched with. See the Usage section for the endpoint options that need the complete poll.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean dispatchDuringScan;
+
+    public static final class Enabled implements BooleanSupplier {
+        @Override
+        public boolean getAsBoolean() {
+            return ConfigProvider.getConfig().getOptionalValue("quarkus.camel.file.streaming-scan.enabled", Boolean.class)
+                    .orElse(Boolean.FALSE);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.streaming;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.component.file.FileComponent;
+import org.apache.camel.component.file.FileEndpoint;
+import org.apache.camel.component.file.GenericFileEndpoint;
+import org.apache.camel.spi.annotations.Component;
+
+/**
+ * A {@link FileComponent} whose consumers stream the entries of the polled directories, see
+ * {@link StreamingFileConsumer}.
+ */
+@Component("file")
+public class StreamingFileComponent extends FileComponent {
+
+    private int chunkSize = 1024;
+    private int parallelThreshold = 256;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private boolean dispatchDuringScan;
+    private ExecutorService scanExecutorService;
+
+    @Override
+    protected GenericFileEndpoint<File> buildFileEndpoint(String uri, String remaining, Map<String, Object> parameters)
+            throws Exception {
+        // Let the file component validate the directory and build the configuration
+        FileEndpoint endpoint = (FileEndpoint) super.buildFileEndpoint(uri, remaining, parameters);
+
+        StreamingFileEndpoint result = new StreamingFileEndpoint(uri, this);
+        result.setFile(endpoint.getFile());
+        result.setConfiguration(endpoint.getConfiguration());
+        return result;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * The number of directory entries read from the directory stream before they are filtered and added to the poll.
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * The minimum number of entries in a chunk for their file attributes to be read in parallel, in slices of this
+     * number of entries.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads reading the file attributes of a chunk. A value of 1 reads them on the consumer thread.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public boolean isDispatchDuringScan() {
+        return dispatchDuringScan;
+    }
+
+    /**
+     * Whether the files found in each chunk are processed before the scan reads the next chunk.
+     */
+    public void setDispatchDuringScan(boolean dispatchDuringScan) {
+        this.dispatchDuringScan = dispatchDuringScan;
+    }
+
+    ExecutorService getScanExecutorService() {
+        return scanExecutorService;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be a positive number, was " + chunkSize);
+        }
+        if (parallelism > 1 && scanExecutorService == null) {
+            scanExecutorService = getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "FileStreamingScan", parallelism);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scanExecutorService != null) {
+            getCamelContext().getExecutorServiceManager().shutdown(scanExecutorService);
+            scanExecutorService = null;
+        }
+        super.doStop();
+    }
+}
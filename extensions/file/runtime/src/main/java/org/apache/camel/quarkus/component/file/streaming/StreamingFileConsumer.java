@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.file.FileConsumer;
+import org.apache.camel.component.file.FileEndpoint;
+import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.component.file.GenericFileOperations;
+import org.apache.camel.component.file.GenericFileProcessStrategy;
+import org.apache.camel.util.CastUtils;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link FileConsumer} reading the polled directories through a {@link DirectoryStream} in chunks, instead of
+ * listing all the entries of a directory up front.
+ * <p>
+ * The file attributes of the entries of a large chunk are read in parallel, and the scan stops as soon as no more
+ * files can be added to the poll, so that with {@code maxMessagesPerPoll} the processing starts after reading only a
+ * few entries of a large directory. The endpoint options which need all the entries of a directory ({@code preSort},
+ * {@code doneFileName}, {@code extendedAttributes} and a resume strategy) fall back to the {@link FileConsumer} scan.
+ * <p>
+ * With {@code dispatchDuringScan}, the files found so far are processed as a batch each time a chunk was scanned, so
+ * that the first files are processed before the rest of the directory is read. The scan resumes on the consumer
+ * thread once the batch is processed. This is not done when the files of the poll are sorted or shuffled, or when
+ * {@code maxMessagesPerPoll} is set without {@code eagerMaxMessagesPerPoll}.
+ */
+public class StreamingFileConsumer extends FileConsumer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingFileConsumer.class);
+
+    private final String endpointPath;
+    private final int chunkSize;
+    private final int parallelThreshold;
+    private final boolean dispatchDuringScan;
+    private final ExecutorService scanExecutorService;
+    private boolean dispatching;
+    private int dispatched;
+
+    public StreamingFileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
+            GenericFileProcessStrategy<File> processStrategy, int chunkSize, int parallelThreshold,
+            boolean dispatchDuringScan, ExecutorService scanExecutorService) {
+        super(endpoint, processor, operations, processStrategy);
+        this.endpointPath = endpoint.getConfiguration().getDirectory();
+        this.chunkSize = chunkSize;
+        this.parallelThreshold = parallelThreshold;
+        this.dispatchDuringScan = dispatchDuringScan;
+        this.scanExecutorService = scanExecutorService;
+    }
+
+    @Override
+    public int poll() throws Exception {
+        dispatching = dispatchDuringScan && isStreamingSupported() && isDispatchSupported();
+        dispatched = 0;
+        try {
+            // The files left when the scan completes are processed by the file consumer as usual
+            return super.poll() + dispatched;
+        } finally {
+            dispatching = false;
+            dispatched = 0;
+        }
+    }
+
+    @Override
+    public boolean canPollMoreFiles(List<?> fileList) {
+        if (!dispatching || maxMessagesPerPoll <= 0) {
+            return super.canPollMoreFiles(fileList);
+        }
+        return dispatched + fileList.size() < maxMessagesPerPoll;
+    }
+
+    @Override
+    protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        if (!isStreamingSupported()) {
+            return super.pollDirectory(fileName, fileList, depth);
+        }
+
+        LOG.trace("pollDirectory from fileName: {}", fileName);
+
+        File directory = new File(fileName);
+        if (!directory.exists() || !directory.isDirectory()) {
+            LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
+            if (getEndpoint().isDirectoryMustExist()) {
+                throw new GenericFileOperationFailedException(
+                        "Cannot poll as directory does not exists or its not a directory: " + directory);
+            }
+            return true;
+        }
+        return pollDirectory(directory, fileList, depth);
+    }
+
+    boolean isStreamingSupported() {
+        FileEndpoint endpoint = getEndpoint();
+        return !endpoint.isPreSort()
+                && endpoint.getDoneFileName() == null
+                && ObjectHelper.isEmpty(endpoint.getExtendedAttributes())
+                && getResumeStrategy() == null;
+    }
+
+    boolean isDispatchSupported() {
+        FileEndpoint endpoint = getEndpoint();
+        return endpoint.getSorter() == null
+                && endpoint.getSortBy() == null
+                && !endpoint.isShuffle()
+                && (maxMessagesPerPoll <= 0 || eagerLimitMaxMessagesPerPoll);
+    }
+
+    private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+        depth++;
+
+        if (!getEndpoint().isIncludeHiddenDirs() && directory.getName().startsWith(".")) {
+            return true;
+        }
+
+        LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+
+        List<File> chunk = new ArrayList<>(Math.min(chunkSize, 1024));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
+                chunk.add(path.toFile());
+                if (chunk.size() >= chunkSize) {
+                    if (!pollChunk(chunk, fileList, depth) || !dispatch(fileList)) {
+                        return false;
+                    }
+                    chunk.clear();
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // Same as File.listFiles() failing, what may happen if the directory is deleted while being polled
+            LOG.debug("Cannot list directory: {} due to: {}", directory, e.getMessage(), e);
+        }
+        return pollChunk(chunk, fileList, depth);
+    }
+
+    private boolean pollChunk(List<File> chunk, List<GenericFile<File>> fileList, int depth) {
+        for (GenericFile<File> gf : asGenericFiles(chunk)) {
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+
+            if (gf.isDirectory()) {
+                if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, null)) {
+                    if (!pollDirectory(gf.getFile(), fileList, depth)) {
+                        return false;
+                    }
+                }
+            } else if (depth >= endpoint.getMinDepth() && isValidFile(gf, false, null)) {
+                LOG.trace("Adding valid file: {}", gf.getFile());
+                fileList.add(gf);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Processes the files found so far if dispatching during the scan and a chunk worth of files was found.
+     *
+     * @return {@code false} if the scan must stop, because the consumer is stopping
+     */
+    private boolean dispatch(List<GenericFile<File>> fileList) {
+        if (!dispatching || fileList.size() < chunkSize) {
+            return true;
+        }
+
+        Deque<Exchange> exchanges = new ArrayDeque<>(fileList.size());
+        for (GenericFile<File> file : fileList) {
+            Exchange exchange = createExchange(file);
+            endpoint.configureExchange(exchange);
+            endpoint.configureMessage(file, exchange.getIn());
+            exchanges.add(exchange);
+        }
+        fileList.clear();
+
+        LOG.debug("Processing {} files while scanning", exchanges.size());
+        dispatched += processBatch(CastUtils.cast(exchanges));
+        return isBatchAllowed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GenericFile<File>> asGenericFiles(List<File> files) {
+        GenericFile<File>[] result = new GenericFile[files.size()];
+
+        if (scanExecutorService == null || files.size() < parallelThreshold) {
+            asGenericFiles(files, result, 0, files.size());
+            return List.of(result);
+        }
+
+        // Read the file attributes of all slices but the last one in the thread pool, and the last one in this thread
+        List<Future<?>> futures = new ArrayList<>();
+        int from = 0;
+        for (; from + parallelThreshold < files.size(); from += parallelThreshold) {
+            int start = from;
+            futures.add(scanExecutorService.submit(() -> asGenericFiles(files, result, start, start + parallelThreshold)));
+        }
+        asGenericFiles(files, result, from, files.size());
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+        }
+        return List.of(result);
+    }
+
+    private void asGenericFiles(List<File> files, GenericFile<File>[] result, int from, int to) {
+        String charset = getEndpoint().getCharset();
+        boolean probeContentType = getEndpoint().isProbeContentType();
+        for (int i = from; i < to; i++) {
+            result[i] = asGenericFile(endpointPath, files.get(i), charset, probeContentType);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.file.streaming;
+
+import java.io.File;
+
+import org.apache.camel.Processor;
+import org.apache.camel.component.file.FileConsumer;
+import org.apache.camel.component.file.FileEndpoint;
+import org.apache.camel.component.file.GenericFileOperations;
+
+public class StreamingFileEndpoint extends FileEndpoint {
+
+    public StreamingFileEndpoint(String endpointUri, StreamingFileComponent component) {
+        super(endpointUri, component);
+    }
+
+    @Override
+    protected FileConsumer newFileConsumer(Processor processor, GenericFileOperations<File> operations) {
+        StreamingFileComponent component = (StreamingFileComponent) getComponent();
+        return new StreamingFileConsumer(this, processor, operations, createGenericFileStrategy(),
+                component.getChunkSize(), component.getParallelThreshold(), component.isDispatchDuringScan(),
+                component.getScanExecutorService());
+    }
+}
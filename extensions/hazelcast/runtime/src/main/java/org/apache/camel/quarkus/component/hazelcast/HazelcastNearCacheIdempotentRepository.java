@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.hazelcast;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A Hazelcast {@link IdempotentRepository} keeping the keys known to be present in the distributed map in a bounded
+ * local near cache, so that duplicates are detected without a round trip to the cluster.
+ * <p>
+ * Only the presence of a key is cached: a key missing from the near cache is always checked against the map. The near
+ * cache entries are invalidated by the remove, evict and expire events of the map, and the whole near cache is dropped
+ * when the map is cleared or the client gets disconnected, as events may have been missed in the meantime.
+ * <p>
+ * The map is compatible with the one of the Camel {@code HazelcastIdempotentRepository}.
+ */
+@ManagedResource(description = "Hazelcast near cache idempotent repository")
+public class HazelcastNearCacheIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    public static final int DEFAULT_NEAR_CACHE_SIZE = 10000;
+
+    private final HazelcastInstance hazelcastInstance;
+    private final String repositoryName;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong nearCacheHits = new AtomicLong();
+    private int nearCacheSize = DEFAULT_NEAR_CACHE_SIZE;
+    private IMap<String, Boolean> repo;
+    private Map<String, Boolean> nearCache;
+    private UUID entryListenerId;
+    private UUID lifecycleListenerId;
+
+    public HazelcastNearCacheIdempotentRepository(HazelcastInstance hazelcastInstance, String repositoryName) {
+        this.hazelcastInstance = ObjectHelper.notNull(hazelcastInstance, "hazelcastInstance");
+        this.repositoryName = ObjectHelper.notNull(repositoryName, "repositoryName");
+    }
+
+    public String getRepositoryName() {
+        return repositoryName;
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys held in the near cache")
+    public int getNearCacheSize() {
+        return nearCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of keys held in the near cache, beyond which the least recently used ones are dropped.
+     */
+    public void setNearCacheSize(int nearCacheSize) {
+        this.nearCacheSize = nearCacheSize;
+    }
+
+    @ManagedAttribute(description = "The number of checks answered by the near cache")
+    public long getNearCacheHits() {
+        return nearCacheHits.get();
+    }
+
+    @ManagedAttribute(description = "The number of keys currently held in the near cache")
+    public int getNearCacheEntries() {
+        return nearCache != null ? nearCache.size() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        nearCache = LRUCacheFactory.newLRUCache(nearCacheSize);
+        repo = hazelcastInstance.getMap(repositoryName);
+        entryListenerId = repo.addEntryListener(new InvalidationListener(), false);
+        lifecycleListenerId = hazelcastInstance.getLifecycleService().addLifecycleListener(this::onLifecycleEvent);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (lifecycleListenerId != null) {
+            hazelcastInstance.getLifecycleService().removeLifecycleListener(lifecycleListenerId);
+            lifecycleListenerId = null;
+        }
+        if (entryListenerId != null) {
+            repo.removeEntryListener(entryListenerId);
+            entryListenerId = null;
+        }
+        nearCache.clear();
+    }
+
+    @Override
+    public boolean add(String key) {
+        if (isCached(key)) {
+            return false;
+        }
+        long generation = invalidations.get();
+        boolean added = repo.putIfAbsent(key, Boolean.TRUE) == null;
+        cache(key, generation);
+        return added;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        if (isCached(key)) {
+            return true;
+        }
+        long generation = invalidations.get();
+        boolean contained = repo.containsKey(key);
+        if (contained) {
+            cache(key, generation);
+        }
+        return contained;
+    }
+
+    @Override
+    public boolean remove(String key) {
+        invalidate(key);
+        return repo.remove(key) != null;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        invalidateAll();
+        repo.clear();
+    }
+
+    /**
+     * Checks a batch of keys with a single call to the cluster for the keys missing from the near cache.
+     *
+     * @param  keys the keys to check
+     * @return      the keys already present in the repository
+     */
+    public Set<String> containsAll(Collection<String> keys) {
+        Set<String> contained = new LinkedHashSet<>();
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (isCached(key)) {
+                contained.add(key);
+            } else {
+                unknown.add(key);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            long generation = invalidations.get();
+            Set<String> found = repo.getAll(unknown).keySet();
+            for (String key : found) {
+                cache(key, generation);
+            }
+            contained.addAll(found);
+        }
+        return contained;
+    }
+
+    /**
+     * Adds a batch of keys. The keys present in the near cache or returned by a single bulk lookup are skipped, the
+     * others are added atomically one by one so that concurrent consumers never both accept the same key.
+     *
+     * @param  keys the keys to add
+     * @return      the keys that were not in the repository and have been added, in iteration order
+     */
+    public Set<String> addAll(Collection<String> keys) {
+        Set<String> existing = containsAll(keys);
+        Set<String> added = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (!existing.contains(key) && !added.contains(key)) {
+                long generation = invalidations.get();
+                if (repo.putIfAbsent(key, Boolean.TRUE) == null) {
+                    added.add(key);
+                }
+                cache(key, generation);
+            }
+        }
+        return added;
+    }
+
+    private boolean isCached(String key) {
+        if (nearCache.containsKey(key)) {
+            nearCacheHits.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private void cache(String key, long generation) {
+        // An invalidation received while the cluster was being called may concern this key, in which case the
+        // state that was read may already be stale
+        if (invalidations.get() == generation) {
+            nearCache.put(key, Boolean.TRUE);
+        }
+    }
+
+    private void invalidate(String key) {
+        invalidations.incrementAndGet();
+        nearCache.remove(key);
+    }
+
+    private void invalidateAll() {
+        invalidations.incrementAndGet();
+        nearCache.clear();
+    }
+
+    private void onLifecycleEvent(LifecycleEvent event) {
+        if (event.getState() == LifecycleEvent.LifecycleState.CLIENT_DISCONNECTED) {
+            invalidateAll();
+        }
+    }
+
+    private final class InvalidationListener implements EntryRemovedListener<String, Boolean>,
+            EntryEvictedListener<String, Boolean>, EntryExpiredListener<String, Boolean>, MapClearedListener,
+            MapEvictedListener {
+
+        @Override
+        public void entryRemoved(EntryEvent<String, Boolean> event) {
+            invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryEvicted(EntryEvent<String, Boolean> event) {
+            invalidate(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(EntryEvent<String, Boolean> event) {
+            invalidate(event.getKey());
+        }
+
+        @Override
+        public void mapCleared(MapEvent event) {
+            invalidateAll();
+        }
+
+        @Override
+        public void mapEvicted(MapEvent event) {
+            invalidateAll();
+        }
+    }
+}
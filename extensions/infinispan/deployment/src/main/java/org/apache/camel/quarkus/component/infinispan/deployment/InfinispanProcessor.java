@@ -20,6 +20,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import org.apache.camel.quarkus.component.infinispan.InfinispanNearCacheIdempotentRepository;
 import org.infinispan.commons.marshall.ProtoStreamMarshaller;
 
 class InfinispanProcessor {
@@ -42,4 +43,12 @@ class InfinispanProcessor {
         // Only required when Camel instantiates and manages its own internal CacheContainer
         return ReflectiveClassBuildItem.builder(ProtoStreamMarshaller.class).build();
     }
+
+    @BuildStep
+    ReflectiveClassBuildItem nearCacheListener() {
+        // The Hot Rod client invokes the annotated listener methods reflectively
+        return ReflectiveClassBuildItem.builder(InfinispanNearCacheIdempotentRepository.InvalidationListener.class)
+                .methods()
+                .build();
+    }
 }
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.infinispan;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheContainer;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+
+/**
+ * An Infinispan {@link IdempotentRepository} keeping the keys known to be present in the remote cache in a bounded
+ * local near cache, so that duplicates are detected without a Hot Rod round trip.
+ * <p>
+ * Only the presence of a key is cached: a key missing from the near cache is always checked against the remote cache.
+ * The near cache entries are invalidated by the remove and expire events of a client listener, and the whole near cache
+ * is dropped on client failover, as events may have been missed in the meantime. Hot Rod does not send events for
+ * {@code clear()}, so clearing the remote cache from another client leaves stale entries in the near cache until they
+ * are evicted.
+ * <p>
+ * The remote cache is compatible with the one of the Camel {@code InfinispanRemoteIdempotentRepository}.
+ */
+@ManagedResource(description = "Infinispan near cache idempotent repository")
+public class InfinispanNearCacheIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    public static final int DEFAULT_NEAR_CACHE_SIZE = 10000;
+
+    private final RemoteCacheContainer cacheContainer;
+    private final String cacheName;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong nearCacheHits = new AtomicLong();
+    private int nearCacheSize = DEFAULT_NEAR_CACHE_SIZE;
+    private RemoteCache<String, Boolean> cache;
+    private Map<String, Boolean> nearCache;
+    private InvalidationListener listener;
+
+    public InfinispanNearCacheIdempotentRepository(RemoteCacheContainer cacheContainer, String cacheName) {
+        this.cacheContainer = ObjectHelper.notNull(cacheContainer, "cacheContainer");
+        this.cacheName = ObjectHelper.notNull(cacheName, "cacheName");
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys held in the near cache")
+    public int getNearCacheSize() {
+        return nearCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of keys held in the near cache, beyond which the least recently used ones are dropped.
+     */
+    public void setNearCacheSize(int nearCacheSize) {
+        this.nearCacheSize = nearCacheSize;
+    }
+
+    @ManagedAttribute(description = "The number of checks answered by the near cache")
+    public long getNearCacheHits() {
+        return nearCacheHits.get();
+    }
+
+    @ManagedAttribute(description = "The number of keys currently held in the near cache")
+    public int getNearCacheEntries() {
+        return nearCache != null ? nearCache.size() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        nearCache = LRUCacheFactory.newLRUCache(nearCacheSize);
+        RemoteCache<String, Boolean> remoteCache = cacheContainer.getCache(cacheName);
+        if (remoteCache == null) {
+            throw new IllegalStateException("The remote cache " + cacheName + " does not exist");
+        }
+        // Without this flag, Hot Rod does not return the previous values that tell whether a key was present
+        cache = remoteCache.withFlags(Flag.FORCE_RETURN_VALUE);
+        listener = new InvalidationListener(this);
+        cache.addClientListener(listener);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (listener != null) {
+            cache.removeClientListener(listener);
+            listener = null;
+        }
+        nearCache.clear();
+    }
+
+    @Override
+    public boolean add(String key) {
+        if (isCached(key)) {
+            return false;
+        }
+        long generation = invalidations.get();
+        boolean added = cache.putIfAbsent(key, Boolean.TRUE) == null;
+        cache(key, generation);
+        return added;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        if (isCached(key)) {
+            return true;
+        }
+        long generation = invalidations.get();
+        boolean contained = cache.containsKey(key);
+        if (contained) {
+            cache(key, generation);
+        }
+        return contained;
+    }
+
+    @Override
+    public boolean remove(String key) {
+        invalidate(key);
+        return cache.remove(key) != null;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        invalidateAll();
+        cache.clear();
+    }
+
+    /**
+     * Checks a batch of keys with a single bulk read of the keys missing from the near cache.
+     *
+     * @param  keys the keys to check
+     * @return      the keys already present in the repository
+     */
+    public Set<String> containsAll(Collection<String> keys) {
+        Set<String> contained = new LinkedHashSet<>();
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (isCached(key)) {
+                contained.add(key);
+            } else {
+                unknown.add(key);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            long generation = invalidations.get();
+            Set<String> found = cache.getAll(unknown).keySet();
+            for (String key : found) {
+                cache(key, generation);
+            }
+            contained.addAll(found);
+        }
+        return contained;
+    }
+
+    /**
+     * Adds a batch of keys. The keys missing from the near cache are added atomically with pipelined asynchronous
+     * operations, so that the whole batch costs about one round trip.
+     *
+     * @param  keys the keys to add
+     * @return      the keys that were not in the repository and have been added, in iteration order
+     */
+    public Set<String> addAll(Collection<String> keys) {
+        long generation = invalidations.get();
+        Map<String, CompletableFuture<Boolean>> pending = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (!pending.containsKey(key) && !isCached(key)) {
+                pending.put(key, cache.putIfAbsentAsync(key, Boolean.TRUE));
+            }
+        }
+
+        Set<String> added = new LinkedHashSet<>();
+        for (Map.Entry<String, CompletableFuture<Boolean>> entry : pending.entrySet()) {
+            if (entry.getValue().join() == null) {
+                added.add(entry.getKey());
+            }
+            cache(entry.getKey(), generation);
+        }
+        return added;
+    }
+
+    private boolean isCached(String key) {
+        if (nearCache.containsKey(key)) {
+            nearCacheHits.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private void cache(String key, long generation) {
+        // An invalidation received while the remote cache was being called may concern this key, in which case the
+        // state that was read may already be stale
+        if (invalidations.get() == generation) {
+            nearCache.put(key, Boolean.TRUE);
+        }
+    }
+
+    void invalidate(String key) {
+        invalidations.incrementAndGet();
+        nearCache.remove(key);
+    }
+
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+        nearCache.clear();
+    }
+
+    /**
+     * Hot Rod invokes the listener methods reflectively, hence the public class.
+     */
+    @ClientListener
+    public static final class InvalidationListener {
+        private final InfinispanNearCacheIdempotentRepository repository;
+
+        InvalidationListener(InfinispanNearCacheIdempotentRepository repository) {
+            this.repository = repository;
+        }
+
+        @ClientCacheEntryRemoved
+        public void entryRemoved(ClientCacheEntryRemovedEvent<String> event) {
+            repository.invalidate(event.getKey());
+        }
+
+        @ClientCacheEntryExpired
+        public void entryExpired(ClientCacheEntryExpiredEvent<String> event) {
+            repository.invalidate(event.getKey());
+        }
+
+        @ClientCacheFailover
+        public void failover(ClientCacheFailoverEvent event) {
+            repository.invalidateAll();
+        }
+    }
+}
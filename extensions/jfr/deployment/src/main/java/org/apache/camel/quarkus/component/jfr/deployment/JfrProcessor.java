@@ -47,4 +47,11 @@ class JfrProcessor {
     RuntimeCamelContextCustomizerBuildItem customizeCamelContext(RuntimeCamelJfrConfig config, CamelJfrRecorder recorder) {
         return new RuntimeCamelContextCustomizerBuildItem(recorder.createStartupStepRecorder(config));
     }
+
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    @BuildStep
+    RuntimeCamelContextCustomizerBuildItem customizeCamelContextRuntimeEvents(RuntimeCamelJfrConfig config,
+            CamelJfrRecorder recorder) {
+        return new RuntimeCamelContextCustomizerBuildItem(recorder.createRuntimeEventsCustomizer(config));
+    }
 }
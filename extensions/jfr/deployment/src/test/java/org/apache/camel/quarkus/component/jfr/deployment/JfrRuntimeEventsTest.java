@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jfr.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JfrRuntimeEventsTest {
+
+    private static final String ROUTE_EXCHANGE = "org.apache.camel.RouteExchange";
+    private static final String PROCESSOR = "org.apache.camel.Processor";
+    private static final String ENDPOINT_SEND = "org.apache.camel.EndpointSend";
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void eventsAboveThresholdRecorded() throws Exception {
+        Path dump = Files.createTempFile("runtime-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ROUTE_EXCHANGE);
+            recording.enable(PROCESSOR);
+            recording.enable(ENDPOINT_SEND);
+            recording.start();
+
+            producerTemplate.sendBody("direct:slow", "Hello");
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.delete(dump);
+
+        List<RecordedEvent> routeExchanges = events(events, ROUTE_EXCHANGE);
+        assertTrue(routeExchanges.stream().anyMatch(event -> "slow".equals(event.getString("routeId"))));
+        assertTrue(routeExchanges.stream().anyMatch(event -> "slow-target".equals(event.getString("routeId"))));
+
+        List<RecordedEvent> processors = events(events, PROCESSOR);
+        RecordedEvent sleep = processors.stream()
+                .filter(event -> "sleep".equals(event.getString("nodeId")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No processor event for the sleep node"));
+        assertEquals("slow", sleep.getString("routeId"));
+        assertEquals("process", sleep.getString("node"));
+        assertFalse(sleep.getBoolean("failed"));
+        assertTrue(sleep.getDuration().toMillis() >= 10);
+
+        List<RecordedEvent> sends = events(events, ENDPOINT_SEND);
+        RecordedEvent send = sends.stream()
+                .filter(event -> "send".equals(event.getString("nodeId")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No endpoint send event for the send node"));
+        assertEquals("slow", send.getString("routeId"));
+        assertEquals("direct://slow-target", send.getString("endpointUri"));
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.jfr.runtime-events-enabled", "true");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    public static final class Routes extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:slow").routeId("slow")
+                    .process(exchange -> Thread.sleep(50)).id("sleep")
+                    .to("direct:slow-target").id("send");
+
+            from("direct:slow-target").routeId("slow-target")
+                    .process(exchange -> Thread.sleep(50)).id("target-sleep");
+        }
+    }
+}
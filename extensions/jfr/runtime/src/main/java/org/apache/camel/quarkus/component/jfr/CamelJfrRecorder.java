@@ -58,4 +58,26 @@ public class CamelJfrRecorder {
         };
         return new RuntimeValue<>(flightRecorderCustomizer);
     }
+
+    public RuntimeValue<CamelContextCustomizer> createRuntimeEventsCustomizer(RuntimeCamelJfrConfig config) {
+        CamelContextCustomizer runtimeEventsCustomizer = new CamelContextCustomizer() {
+            @Override
+            public void configure(CamelContext camelContext) {
+                if (!config.runtimeEventsEnabled) {
+                    return;
+                }
+
+                CamelJfrRuntimeEvents runtimeEvents = new CamelJfrRuntimeEvents();
+                runtimeEvents.setCamelContext(camelContext);
+                camelContext.getCamelContextExtension().addInterceptStrategy(runtimeEvents);
+                camelContext.addRoutePolicyFactory(runtimeEvents);
+                try {
+                    camelContext.addService(runtimeEvents);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        return new RuntimeValue<>(runtimeEventsCustomizer);
+    }
 }
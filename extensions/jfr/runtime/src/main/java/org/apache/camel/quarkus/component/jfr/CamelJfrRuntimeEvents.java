@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.EndpointAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * Emits JFR events for the exchanges processed by the routes, the execution of the processors and the sends to
+ * endpoints, plus periodic type converter statistics.
+ * <p>
+ * The processors and routes are instrumented when they are created, and each instrumentation point first checks
+ * whether its event type is enabled in a running recording: when it is not, nothing is allocated or timed. The JFR
+ * thresholds of the event types, 10 ms by default, discard the fast executions before their fields are even set.
+ */
+public class CamelJfrRuntimeEvents extends ServiceSupport
+        implements InterceptStrategy, RoutePolicyFactory, CamelContextAware {
+
+    private static final EventType ROUTE_EXCHANGE = EventType.getEventType(CamelRouteExchangeEvent.class);
+    private static final EventType PROCESSOR = EventType.getEventType(CamelProcessorEvent.class);
+    private static final EventType ENDPOINT_SEND = EventType.getEventType(CamelEndpointSendEvent.class);
+
+    private final Runnable typeConverterStatistics = this::emitTypeConverterStatistics;
+    private CamelContext camelContext;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context,
+            NamedNode definition,
+            Processor target,
+            Processor nextTarget) {
+        String endpointUri = null;
+        if (target instanceof EndpointAware) {
+            endpointUri = ((EndpointAware) target).getEndpoint().getEndpointUri();
+        }
+        return new JfrProcessor(target, ProcessorDefinitionHelper.getRouteId(definition), definition.getId(),
+                definition.getShortName(), endpointUri);
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        return new JfrRoutePolicy(routeId);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        FlightRecorder.addPeriodicEvent(CamelTypeConverterStatisticsEvent.class, typeConverterStatistics);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        FlightRecorder.removePeriodicEvent(typeConverterStatistics);
+    }
+
+    private void emitTypeConverterStatistics() {
+        TypeConverterRegistry.Statistics statistics = camelContext.getTypeConverterRegistry().getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        CamelTypeConverterStatisticsEvent event = new CamelTypeConverterStatisticsEvent();
+        event.attempts = statistics.getAttemptCounter();
+        event.hits = statistics.getHitCounter();
+        event.misses = statistics.getMissCounter();
+        event.failures = statistics.getFailedCounter();
+        event.noops = statistics.getNoopCounter();
+        event.commit();
+    }
+
+    static final class JfrProcessor extends DelegateAsyncProcessor {
+        private final String routeId;
+        private final String nodeId;
+        private final String node;
+        private final String endpointUri;
+
+        JfrProcessor(Processor processor, String routeId, String nodeId, String node, String endpointUri) {
+            super(processor);
+            this.routeId = routeId;
+            this.nodeId = nodeId;
+            this.node = node;
+            this.endpointUri = endpointUri;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            boolean processorEnabled = PROCESSOR.isEnabled();
+            boolean sendEnabled = endpointUri != null && ENDPOINT_SEND.isEnabled();
+            if (!processorEnabled && !sendEnabled) {
+                return processor.process(exchange, callback);
+            }
+
+            CamelProcessorEvent processorEvent = processorEnabled ? new CamelProcessorEvent() : null;
+            CamelEndpointSendEvent sendEvent = sendEnabled ? new CamelEndpointSendEvent() : null;
+            if (processorEvent != null) {
+                processorEvent.begin();
+            }
+            if (sendEvent != null) {
+                sendEvent.begin();
+            }
+            return processor.process(exchange, doneSync -> {
+                if (sendEvent != null) {
+                    sendEvent.end();
+                    if (sendEvent.shouldCommit()) {
+                        sendEvent.routeId = routeId;
+                        sendEvent.nodeId = nodeId;
+                        sendEvent.endpointUri = endpointUri;
+                        sendEvent.exchangeId = exchange.getExchangeId();
+                        sendEvent.failed = exchange.isFailed();
+                        sendEvent.commit();
+                    }
+                }
+                if (processorEvent != null) {
+                    processorEvent.end();
+                    if (processorEvent.shouldCommit()) {
+                        processorEvent.routeId = routeId;
+                        processorEvent.nodeId = nodeId;
+                        processorEvent.node = node;
+                        processorEvent.exchangeId = exchange.getExchangeId();
+                        processorEvent.failed = exchange.isFailed();
+                        processorEvent.commit();
+                    }
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "JfrProcessor[" + processor + "]";
+        }
+    }
+
+    static final class JfrRoutePolicy extends RoutePolicySupport {
+        private final String routeId;
+        private final String propertyKey;
+
+        JfrRoutePolicy(String routeId) {
+            this.routeId = routeId;
+            this.propertyKey = "CamelJfrRouteExchangeEvent-" + routeId;
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            if (ROUTE_EXCHANGE.isEnabled()) {
+                CamelRouteExchangeEvent event = new CamelRouteExchangeEvent();
+                event.begin();
+                exchange.setProperty(propertyKey, event);
+            }
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object event = exchange.removeProperty(propertyKey);
+            if (event instanceof CamelRouteExchangeEvent) {
+                CamelRouteExchangeEvent routeExchangeEvent = (CamelRouteExchangeEvent) event;
+                routeExchangeEvent.end();
+                if (routeExchangeEvent.shouldCommit()) {
+                    routeExchangeEvent.routeId = routeId;
+                    routeExchangeEvent.exchangeId = exchange.getExchangeId();
+                    routeExchangeEvent.failed = exchange.isFailed();
+                    routeExchangeEvent.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+@Name(CamelTypeConverterStatisticsEvent.NAME)
+@Label("Type Converter Statistics")
+@Category("Camel Application")
+@Description("The cumulated type conversion counters, when the type converter statistics are enabled")
+@Period("10 s")
+@StackTrace(false)
+final class CamelTypeConverterStatisticsEvent extends jdk.jfr.Event {
+    static final String NAME = "org.apache.camel.TypeConverterStatistics";
+
+    @Label("Attempts")
+    long attempts;
+
+    @Label("Hits")
+    long hits;
+
+    @Label("Misses")
+    long misses;
+
+    @Label("Failures")
+    long failures;
+
+    @Label("No-ops")
+    long noops;
+}
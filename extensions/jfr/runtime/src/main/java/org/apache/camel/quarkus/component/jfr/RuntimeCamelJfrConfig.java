@@ -63,4 +63,13 @@ public class RuntimeCamelJfrConfig {
      */
     @ConfigItem
     Optional<Boolean> startupRecorderRecording;
+
+    /**
+     * Whether to emit JFR events at runtime: the processing of exchanges by routes, the execution of processors, the
+     * sends to endpoints and, when the type converter statistics are enabled, periodic type conversion counters. The
+     * events are only recorded while a recording enabling them is running, and the executions shorter than their JFR
+     * threshold, 10 ms by default, are discarded.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean runtimeEventsEnabled;
 }
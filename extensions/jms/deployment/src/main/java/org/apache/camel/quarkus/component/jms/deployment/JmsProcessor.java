@@ -16,8 +16,10 @@
  */
 package org.apache.camel.quarkus.component.jms.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import org.apache.camel.quarkus.component.jms.CamelJmsProducers;
 import org.apache.camel.quarkus.core.deployment.spi.CamelSerializationBuildItem;
 
 class JmsProcessor {
@@ -33,4 +35,9 @@ class JmsProcessor {
     CamelSerializationBuildItem serialization() {
         return new CamelSerializationBuildItem();
     }
+
+    @BuildStep
+    AdditionalBeanBuildItem jmsProducers() {
+        return AdditionalBeanBuildItem.unremovableOf(CamelJmsProducers.class);
+    }
 }
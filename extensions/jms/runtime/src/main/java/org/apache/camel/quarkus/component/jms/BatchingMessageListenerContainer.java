@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+/**
+ * A {@link DefaultMessageListenerContainer} that processes received messages individually, but commits the local
+ * transaction or acknowledges the messages only once per batch. A batch is completed when {@code maxMessages} messages
+ * were processed, when {@code timeout} milliseconds elapsed since the first message of the batch was received, or when
+ * no further message is available.
+ *
+ * Batching applies to locally transacted sessions and to sessions with {@link Session#CLIENT_ACKNOWLEDGE}. When the
+ * processing of a message fails, the session is rolled back or recovered, hence all the messages of the incomplete
+ * batch are redelivered.
+ */
+public class BatchingMessageListenerContainer extends DefaultMessageListenerContainer {
+
+    // Keyed by session since an invoker, together with its cached session, may be rescheduled on another thread
+    private final Map<Session, Batch> batches = new ConcurrentHashMap<>();
+    private final int maxMessages;
+    private final long timeout;
+
+    public BatchingMessageListenerContainer(int maxMessages, long timeout) {
+        this.maxMessages = maxMessages;
+        this.timeout = timeout;
+    }
+
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        if (getTransactionManager() == null && getCacheLevel() < CACHE_CONSUMER) {
+            // Pending messages would be lost if the session was closed between receive attempts
+            logger.debug("Batching requires sessions & consumers to be cached. Overriding the configured cache level");
+            setCacheLevel(CACHE_CONSUMER);
+        }
+        long receiveTimeout = getReceiveTimeout();
+        if (timeout > 0 && (receiveTimeout == RECEIVE_TIMEOUT_INDEFINITE_WAIT || receiveTimeout > timeout)) {
+            setReceiveTimeout(timeout);
+        }
+    }
+
+    @Override
+    protected void commitIfNecessary(Session session, Message message) throws JMSException {
+        if (message == null) {
+            // Invoked when no message was received within the receive timeout
+            Batch batch = batches.remove(session);
+            super.commitIfNecessary(session, batch != null ? batch.last : null);
+            return;
+        }
+
+        if (!isBatchingSupported(session)) {
+            super.commitIfNecessary(session, message);
+            return;
+        }
+
+        Batch batch = batches.computeIfAbsent(session, key -> new Batch());
+        batch.add(message);
+        if (batch.size >= maxMessages || batch.age() >= timeout) {
+            completeBatch(session);
+        }
+    }
+
+    @Override
+    protected void noMessageReceived(Object invoker, Session session) {
+        super.noMessageReceived(invoker, session);
+        try {
+            if (batches.containsKey(session)) {
+                completeBatch(session);
+            }
+        } catch (JMSException e) {
+            handleListenerException(e);
+        }
+    }
+
+    @Override
+    protected void rollbackIfNecessary(Session session) throws JMSException {
+        batches.remove(session);
+        super.rollbackIfNecessary(session);
+    }
+
+    @Override
+    protected void rollbackOnExceptionIfNecessary(Session session, Throwable ex) throws JMSException {
+        batches.remove(session);
+        super.rollbackOnExceptionIfNecessary(session, ex);
+    }
+
+    @Override
+    protected void doShutdown() throws JMSException {
+        super.doShutdown();
+        batches.clear();
+    }
+
+    private void completeBatch(Session session) throws JMSException {
+        Batch batch = batches.remove(session);
+        if (batch == null) {
+            return;
+        }
+        // For CLIENT_ACKNOWLEDGE, acknowledging the last message acknowledges all messages consumed by the session
+        super.commitIfNecessary(session, batch.last);
+    }
+
+    private boolean isBatchingSupported(Session session) throws JMSException {
+        if (session.getTransacted()) {
+            return isSessionLocallyTransacted(session);
+        }
+        return isClientAcknowledge(session);
+    }
+
+    private static final class Batch {
+        private int size;
+        private long firstMessageTimestamp;
+        private Message last;
+
+        void add(Message message) {
+            if (size == 0) {
+                firstMessageTimestamp = System.currentTimeMillis();
+            }
+            size++;
+            last = message;
+        }
+
+        long age() {
+            return size == 0 ? 0 : System.currentTimeMillis() - firstMessageTimestamp;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms;
+
+import org.apache.camel.component.jms.JmsEndpoint;
+import org.apache.camel.component.jms.MessageListenerContainerFactory;
+import org.springframework.jms.listener.AbstractMessageListenerContainer;
+
+/**
+ * Creates {@link BatchingMessageListenerContainer} instances for JMS endpoints configured with
+ * {@code consumerType=Custom}.
+ */
+public class BatchingMessageListenerContainerFactory implements MessageListenerContainerFactory {
+    private final int maxMessages;
+    private final long timeout;
+
+    public BatchingMessageListenerContainerFactory(int maxMessages, long timeout) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("maxMessages must be greater than 0");
+        }
+        this.maxMessages = maxMessages;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public AbstractMessageListenerContainer createMessageListenerContainer(JmsEndpoint endpoint) {
+        return new BatchingMessageListenerContainer(maxMessages, timeout);
+    }
+}
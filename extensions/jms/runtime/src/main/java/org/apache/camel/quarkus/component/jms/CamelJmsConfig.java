@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.jms;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "camel.jms", phase = ConfigPhase.RUN_TIME)
+public class CamelJmsConfig {
+
+    /**
+     * Configuration options for the {@code batchingMessageListenerContainerFactory} bean
+     */
+    @ConfigItem
+    public BatchConfig batch;
+
+    @ConfigGroup
+    public static class BatchConfig {
+
+        /**
+         * The maximum number of messages processed before the session is committed or the messages are acknowledged.
+         */
+        @ConfigItem(defaultValue = "100")
+        public int maxMessages;
+
+        /**
+         * The maximum time (with millisecond precision) to wait for further messages before the session is committed or
+         * the messages are acknowledged.
+         */
+        @ConfigItem(defaultValue = "100ms")
+        public Duration timeout;
+    }
+}
@@ -32,8 +32,12 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.dev.devservices.GlobalDevServicesConfig;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.kafka.client.deployment.KafkaBuildTimeConfig;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import org.apache.camel.quarkus.component.kafka.KafkaClientFactoryMetrics;
 import org.apache.camel.quarkus.component.kafka.KafkaClientFactoryProducer;
+import org.apache.camel.quarkus.component.kafka.KafkaKeyOrderedDispatcher;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.ClassInfo;
@@ -57,12 +61,21 @@ class KafkaProcessor {
     @BuildStep
     void createKafkaClientFactoryProducerBean(
             Capabilities capabilities,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
             BuildProducer<AdditionalBeanBuildItem> additionalBean) {
         if (capabilities.isPresent(Capability.KUBERNETES_SERVICE_BINDING)) {
             additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KafkaClientFactoryProducer.class));
+            if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+                additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(KafkaClientFactoryMetrics.class));
+            }
         }
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem keyOrderedDispatcherBean() {
+        return new AdditionalBeanBuildItem(KafkaKeyOrderedDispatcher.class);
+    }
+
     @BuildStep(onlyIfNot = IsNormal.class, onlyIf = GlobalDevServicesConfig.Enabled.class)
     public void configureKafkaComponentForDevServices(
             DevServicesLauncherConfigResultBuildItem devServiceResult,
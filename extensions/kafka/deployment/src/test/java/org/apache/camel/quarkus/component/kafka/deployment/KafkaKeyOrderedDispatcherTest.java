@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka.deployment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.consumer.KafkaAsyncManualCommit;
+import org.apache.camel.quarkus.component.kafka.KafkaKeyOrderedDispatcher;
+import org.apache.camel.quarkus.component.kafka.KeyOrderedDispatchProcessor;
+import org.apache.camel.support.DefaultExchange;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaKeyOrderedDispatcherTest {
+    private static final String[] KEYS = { "a", "b", "c" };
+    private static final int RECORD_COUNT = 30;
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.camel.kafka.ordered-dispatch.worker-pool-size", "4")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Inject
+    KafkaKeyOrderedDispatcher dispatcher;
+
+    @Inject
+    CamelContext context;
+
+    @Test
+    public void recordsProcessedInOrderPerKey() throws Exception {
+        Map<String, List<Long>> processed = new ConcurrentHashMap<>();
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(RECORD_COUNT);
+
+        Processor processor = dispatcher.dispatchTo(exchange -> {
+            String key = exchange.getMessage().getHeader(KafkaConstants.KEY, String.class);
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            // Make key "a" slow so that records with other keys complete first
+            Thread.sleep("a".equals(key) ? 20 : 1);
+            processed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(offset);
+            latch.countDown();
+        });
+
+        for (long offset = 0; offset < RECORD_COUNT; offset++) {
+            processor.process(createRecordExchange(KEYS[(int) (offset % KEYS.length)], offset, committed));
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        for (String key : KEYS) {
+            List<Long> offsets = processed.get(key);
+            assertEquals(RECORD_COUNT / KEYS.length, offsets.size());
+            List<Long> sorted = new ArrayList<>(offsets);
+            sorted.sort(Long::compareTo);
+            assertEquals(sorted, offsets, "Records for key " + key + " were processed out of order");
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!committed.contains((long) RECORD_COUNT - 1) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        List<Long> sortedCommits = new ArrayList<>(committed);
+        sortedCommits.sort(Long::compareTo);
+        assertEquals(sortedCommits, committed, "Offsets were committed out of order");
+        assertEquals(RECORD_COUNT - 1, committed.get(committed.size() - 1));
+    }
+
+    @Test
+    public void synchronousManualCommitRejected() {
+        Processor processor = dispatcher.dispatchTo(exchange -> {
+        });
+        Exchange exchange = createRecordExchange("a", 0, new ArrayList<>());
+        exchange.getMessage().setHeader(KafkaConstants.MANUAL_COMMIT, null);
+        assertThrows(IllegalStateException.class, () -> processor.process(exchange));
+    }
+
+    @Test
+    public void completedLanesRemovedWithSynchronousExecutor() throws Exception {
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        Processor processor = new KeyOrderedDispatchProcessor(
+                exchange -> processed.add(exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class)),
+                Runnable::run, 1);
+
+        // Each lane future is already complete when its cleanup callback gets registered
+        for (long offset = 0; offset < 3; offset++) {
+            processor.process(createRecordExchange("a", offset, committed));
+        }
+
+        assertEquals(List.of(0L, 1L, 2L), processed);
+        assertEquals(List.of(0L, 1L, 2L), committed);
+    }
+
+    @Test
+    public void rejectedDispatchReleasesInFlightPermit() throws Exception {
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        Processor processor = new KeyOrderedDispatchProcessor(exchange -> {
+        }, task -> {
+            throw new RejectedExecutionException("Rejected");
+        }, 1);
+
+        // With a single in flight permit, the second call would block forever if the first one leaked it
+        for (long offset = 0; offset < 2; offset++) {
+            Exchange exchange = createRecordExchange("a", offset, committed);
+            assertThrows(RejectedExecutionException.class, () -> processor.process(exchange));
+        }
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    public void synchronouslyRejectedRecordHoldsWatermark() throws Exception {
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        AtomicBoolean reject = new AtomicBoolean();
+        Processor processor = new KeyOrderedDispatchProcessor(
+                exchange -> processed.add(exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class)),
+                task -> {
+                    if (reject.get()) {
+                        throw new RejectedExecutionException("Rejected");
+                    }
+                    task.run();
+                }, 10);
+
+        processor.process(createRecordExchange("a", 0, committed));
+
+        reject.set(true);
+        Exchange rejected = createRecordExchange("b", 1, committed);
+        assertThrows(RejectedExecutionException.class, () -> processor.process(rejected));
+        reject.set(false);
+
+        // The following records of the partition are refused until the rejected record is consumed again
+        Exchange following = createRecordExchange("c", 2, committed);
+        assertThrows(RejectedExecutionException.class, () -> processor.process(following));
+        assertEquals(List.of(0L), processed);
+        assertEquals(List.of(0L), committed);
+
+        processor.process(createRecordExchange("b", 1, committed));
+        processor.process(createRecordExchange("c", 2, committed));
+        assertEquals(List.of(0L, 1L, 2L), processed);
+        assertEquals(List.of(0L, 1L, 2L), committed);
+    }
+
+    @Test
+    public void asynchronouslyRejectedRecordHoldsWatermark() throws Exception {
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        AtomicBoolean reject = new AtomicBoolean();
+        Processor processor = new KeyOrderedDispatchProcessor(
+                exchange -> processed.add(exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class)),
+                task -> {
+                    if (reject.get()) {
+                        throw new RejectedExecutionException("Rejected");
+                    }
+                    tasks.add(task);
+                }, 10);
+
+        processor.process(createRecordExchange("a", 0, committed));
+        // Submitted to the executor once record 0 has completed
+        processor.process(createRecordExchange("a", 1, committed));
+        processor.process(createRecordExchange("b", 2, committed));
+
+        // Record 1 gets rejected when record 0 completes, record 2 completes after it
+        reject.set(true);
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+
+        assertEquals(List.of(0L, 2L), processed);
+        assertEquals(List.of(0L), committed, "The offset of the rejected record was committed");
+
+        reject.set(false);
+        Exchange following = createRecordExchange("b", 3, committed);
+        assertThrows(RejectedExecutionException.class, () -> processor.process(following));
+
+        // The consumer polls the records again from the rejected record on
+        processor.process(createRecordExchange("a", 1, committed));
+        processor.process(createRecordExchange("b", 2, committed));
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+        assertEquals(List.of(0L, 2L, 1L, 2L), processed);
+        assertEquals(List.of(0L, 1L, 2L), committed);
+    }
+
+    private Exchange createRecordExchange(String key, long offset, List<Long> committed) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader(KafkaConstants.TOPIC, "test");
+        exchange.getMessage().setHeader(KafkaConstants.PARTITION, 0);
+        exchange.getMessage().setHeader(KafkaConstants.OFFSET, offset);
+        exchange.getMessage().setHeader(KafkaConstants.KEY, key);
+        exchange.getMessage().setHeader(KafkaConstants.MANUAL_COMMIT, (KafkaAsyncManualCommit) () -> committed.add(offset));
+        exchange.getMessage().setBody("record-" + offset);
+        return exchange;
+    }
+}
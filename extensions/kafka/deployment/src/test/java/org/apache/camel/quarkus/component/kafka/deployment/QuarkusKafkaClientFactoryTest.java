@@ -17,6 +17,7 @@
 package org.apache.camel.quarkus.component.kafka.deployment;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Properties;
 
 import io.quarkus.bootstrap.model.AppArtifact;
@@ -26,15 +27,20 @@ import jakarta.inject.Inject;
 import org.apache.camel.component.kafka.KafkaClientFactory;
 import org.apache.camel.component.kafka.KafkaConfiguration;
 import org.apache.camel.quarkus.component.kafka.QuarkusKafkaClientFactory;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class QuarkusKafkaClientFactoryTest {
 
@@ -67,4 +73,48 @@ public class QuarkusKafkaClientFactoryTest {
         assertEquals("1000",
                 properties.getProperty(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG));
     }
+
+    @Test
+    public void testMergedConfigurationAppliedToEachClient() {
+        QuarkusKafkaClientFactory quarkusKafkaClientFactory = (QuarkusKafkaClientFactory) factory;
+        long initialConsumerCount = quarkusKafkaClientFactory.getConsumerCount();
+
+        for (int i = 0; i < 3; i++) {
+            Properties properties = new Properties();
+            properties.put(ConsumerConfig.GROUP_ID_CONFIG, "camel-quarkus-group");
+            properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+            properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+
+            try (Consumer<?, ?> consumer = quarkusKafkaClientFactory.getConsumer(properties)) {
+                assertNotNull(consumer);
+            }
+
+            assertEquals("camel-quarkus-group", properties.getProperty(ConsumerConfig.GROUP_ID_CONFIG));
+            assertEquals("1000", properties.getProperty(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG));
+        }
+
+        assertEquals(initialConsumerCount + 3, quarkusKafkaClientFactory.getConsumerCount());
+    }
+
+    @Test
+    public void testMergedConfigurationSnapshotReused() {
+        QuarkusKafkaClientFactory quarkusKafkaClientFactory = (QuarkusKafkaClientFactory) factory;
+
+        Properties withGroupId = new Properties();
+        withGroupId.put(ConsumerConfig.GROUP_ID_CONFIG, "camel-quarkus-group");
+        Properties otherWithGroupId = new Properties();
+        otherWithGroupId.put(ConsumerConfig.GROUP_ID_CONFIG, "other-group");
+        otherWithGroupId.put(ConsumerConfig.CLIENT_ID_CONFIG, "other-client");
+        Properties withoutGroupId = new Properties();
+
+        Map<String, Object> merged = quarkusKafkaClientFactory.getMergedConfiguration(withGroupId);
+        assertSame(merged, quarkusKafkaClientFactory.getMergedConfiguration(otherWithGroupId));
+        assertFalse(merged.containsKey(ConsumerConfig.GROUP_ID_CONFIG));
+        assertEquals("1000", merged.get(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG));
+        assertThrows(UnsupportedOperationException.class, () -> merged.put("foo", "bar"));
+
+        Map<String, Object> mergedWithoutGroupId = quarkusKafkaClientFactory.getMergedConfiguration(withoutGroupId);
+        assertSame(mergedWithoutGroupId, quarkusKafkaClientFactory.getMergedConfiguration(new Properties()));
+        assertEquals("1000", mergedWithoutGroupId.get(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG));
+    }
 }
@@ -30,6 +30,12 @@ public final class CamelKafkaRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public KafkaServiceBindingConfig kubernetesServiceBinding;
 
+    /**
+     * Configuration options for the key ordered dispatcher used to process Kafka records in parallel
+     */
+    @ConfigItem
+    public KafkaOrderedDispatchConfig orderedDispatch;
+
     @ConfigGroup
     public static final class KafkaServiceBindingConfig {
 
@@ -43,4 +49,35 @@ public final class CamelKafkaRuntimeConfig {
         @ConfigItem(defaultValue = "true")
         public boolean mergeConfiguration;
     }
+
+    @ConfigGroup
+    public static final class KafkaOrderedDispatchConfig {
+
+        /**
+         * The type of executor that records dispatched by the `KafkaKeyOrderedDispatcher` are processed on.
+         *
+         * `worker` uses a dedicated Vert.x worker pool. `virtual` uses a virtual thread per record and requires
+         * a Java runtime with virtual thread support (Java 21+).
+         */
+        @ConfigItem(defaultValue = "worker")
+        public ExecutorType executor;
+
+        /**
+         * The maximum number of threads of the Vert.x worker pool when `executor` is set to `worker`.
+         */
+        @ConfigItem(defaultValue = "20")
+        public int workerPoolSize;
+
+        /**
+         * The maximum number of dispatched records that may be in flight at any one time. When the limit is reached,
+         * the Kafka consumer poll thread is blocked until a record completes.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxInFlight;
+    }
+
+    public enum ExecutorType {
+        WORKER,
+        VIRTUAL
+    }
 }
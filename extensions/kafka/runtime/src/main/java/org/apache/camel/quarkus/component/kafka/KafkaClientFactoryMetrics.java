@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.camel.component.kafka.KafkaClientFactory;
+
+/**
+ * Exposes the number of Kafka clients created by {@link QuarkusKafkaClientFactory} as Micrometer metrics.
+ */
+@Singleton
+public class KafkaClientFactoryMetrics implements MeterBinder {
+    static final String METRIC_NAME = "camel.kafka.clients.created";
+
+    @Inject
+    Instance<KafkaClientFactory> kafkaClientFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (kafkaClientFactory.isResolvable()
+                && kafkaClientFactory.get() instanceof QuarkusKafkaClientFactory) {
+            QuarkusKafkaClientFactory factory = (QuarkusKafkaClientFactory) kafkaClientFactory.get();
+            FunctionCounter.builder(METRIC_NAME, factory, QuarkusKafkaClientFactory::getProducerCount)
+                    .description("The number of Kafka producers created")
+                    .tag("type", "producer")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_NAME, factory, QuarkusKafkaClientFactory::getConsumerCount)
+                    .description("The number of Kafka consumers created")
+                    .tag("type", "consumer")
+                    .register(registry);
+        }
+    }
+}
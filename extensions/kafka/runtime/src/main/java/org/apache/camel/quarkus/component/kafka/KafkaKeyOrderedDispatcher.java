@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.quarkus.component.kafka.CamelKafkaRuntimeConfig.ExecutorType;
+import org.apache.camel.quarkus.component.kafka.CamelKafkaRuntimeConfig.KafkaOrderedDispatchConfig;
+
+/**
+ * Creates processors that hand Kafka records over from the consumer poll thread to a pool of threads, so that
+ * records with different keys are processed in parallel, while records sharing the same key are processed in the
+ * order they were polled.
+ *
+ * Offsets are committed only up to the highest offset of each partition for which all preceding records have
+ * completed. This requires the consumer endpoint to be configured with {@code allowManualCommit=true},
+ * {@code autoCommitEnable=false} and
+ * {@code kafkaManualCommitFactory=#class:org.apache.camel.component.kafka.consumer.DefaultKafkaManualAsyncCommitFactory}.
+ */
+@Singleton
+public class KafkaKeyOrderedDispatcher {
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    CamelKafkaRuntimeConfig camelKafkaRuntimeConfig;
+
+    private WorkerExecutor workerExecutor;
+    private ExecutorService virtualThreadExecutor;
+    private ProducerTemplate producerTemplate;
+
+    /**
+     * Creates a {@link Processor} that dispatches Kafka records to the given {@link Processor}.
+     */
+    public Processor dispatchTo(Processor processor) {
+        KafkaOrderedDispatchConfig config = camelKafkaRuntimeConfig.orderedDispatch;
+        return new KeyOrderedDispatchProcessor(processor, executor(config), config.maxInFlight);
+    }
+
+    /**
+     * Creates a {@link Processor} that dispatches Kafka records to the endpoint with the given URI.
+     */
+    public Processor dispatchTo(String endpointUri) {
+        ProducerTemplate template = producerTemplate();
+        return dispatchTo(exchange -> template.send(endpointUri, exchange));
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (workerExecutor != null) {
+            workerExecutor.close();
+            workerExecutor = null;
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+            virtualThreadExecutor = null;
+        }
+        if (producerTemplate != null) {
+            try {
+                producerTemplate.stop();
+            } finally {
+                producerTemplate = null;
+            }
+        }
+    }
+
+    private synchronized ProducerTemplate producerTemplate() {
+        if (producerTemplate == null) {
+            producerTemplate = camelContext.createProducerTemplate();
+        }
+        return producerTemplate;
+    }
+
+    private synchronized Executor executor(KafkaOrderedDispatchConfig config) {
+        if (config.executor == ExecutorType.VIRTUAL) {
+            if (virtualThreadExecutor == null) {
+                virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            }
+            return virtualThreadExecutor;
+        }
+
+        if (workerExecutor == null) {
+            workerExecutor = vertx.createSharedWorkerExecutor("camel-kafka-ordered-dispatch", config.workerPoolSize);
+        }
+        WorkerExecutor executor = workerExecutor;
+        return task -> executor.executeBlocking(() -> {
+            task.run();
+            return null;
+        }, false);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(
+                    "quarkus.camel.kafka.ordered-dispatch.executor=virtual requires a Java runtime with virtual thread support",
+                    e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.consumer.KafkaAsyncManualCommit;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.kafka.common.TopicPartition;
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Processor} that processes a copy of each Kafka record exchange on an {@link Executor}. Records are
+ * serialized per record key (or per partition for records without a key), so that ordering is preserved for each key.
+ */
+public class KeyOrderedDispatchProcessor implements Processor {
+    private static final Logger LOG = Logger.getLogger(KeyOrderedDispatchProcessor.class);
+
+    private final Processor processor;
+    private final Executor executor;
+    private final Semaphore inFlight;
+    private final Map<Object, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, PartitionOffsetTracker> offsetTrackers = new ConcurrentHashMap<>();
+
+    public KeyOrderedDispatchProcessor(Processor processor, Executor executor, int maxInFlight) {
+        this.processor = Objects.requireNonNull(processor, "processor");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        String topic = exchange.getMessage().getHeader(KafkaConstants.TOPIC, String.class);
+        Integer partition = exchange.getMessage().getHeader(KafkaConstants.PARTITION, Integer.class);
+        Long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+        if (topic == null || partition == null || offset == null) {
+            throw new IllegalStateException("Exchange " + exchange.getExchangeId()
+                    + " does not originate from a Kafka consumer. Missing topic, partition or offset headers");
+        }
+
+        KafkaManualCommit manualCommit = exchange.getMessage().getHeader(KafkaConstants.MANUAL_COMMIT,
+                KafkaManualCommit.class);
+        if (!(manualCommit instanceof KafkaAsyncManualCommit)) {
+            throw new IllegalStateException("Kafka records can only be dispatched when the consumer is configured with "
+                    + "allowManualCommit=true, autoCommitEnable=false and "
+                    + "kafkaManualCommitFactory=#class:org.apache.camel.component.kafka.consumer.DefaultKafkaManualAsyncCommitFactory");
+        }
+
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        long recordOffset = offset;
+        Exchange copy = exchange.copy();
+        AtomicBoolean started = new AtomicBoolean();
+
+        Runnable task = () -> {
+            started.set(true);
+            try {
+                processor.process(copy);
+            } catch (Throwable e) {
+                copy.setException(e);
+            }
+            if (copy.getException() != null) {
+                // Consistent with the Camel Kafka consumer default behavior, the offset of a failed record is committed
+                LOG.warnf(copy.getException(), "Failed processing Kafka record %s at offset %d", topicPartition,
+                        recordOffset);
+            }
+            completed(topicPartition, recordOffset);
+        };
+
+        inFlight.acquire();
+        Object laneKey = laneKey(topicPartition, exchange.getMessage().getHeader(KafkaConstants.KEY));
+        CompletableFuture<Void> next;
+        try {
+            AtomicBoolean accepted = new AtomicBoolean();
+            offsetTrackers.compute(topicPartition, (tp, tracker) -> {
+                PartitionOffsetTracker result = tracker == null ? new PartitionOffsetTracker(tp) : tracker;
+                accepted.set(result.dispatched(recordOffset, manualCommit));
+                return result;
+            });
+            if (!accepted.get()) {
+                throw new RejectedExecutionException("Kafka record " + topicPartition + " at offset " + recordOffset
+                        + " cannot be dispatched since a preceding record of the partition was rejected."
+                        + " No offset of the partition gets committed until the rejected record is consumed again");
+            }
+            // A lane only fails when the executor rejected a task. The following records of the lane are rejected
+            // as well, so that they are not processed before the rejected record
+            next = lanes.compute(laneKey, (key, tail) -> tail == null
+                    ? CompletableFuture.runAsync(task, executor)
+                    : tail.thenRunAsync(task, executor));
+        } catch (Throwable e) {
+            rejected(topicPartition, recordOffset);
+            throw e;
+        }
+
+        // Registered outside of compute() since the callback runs synchronously when next has already completed
+        next.whenComplete((result, throwable) -> {
+            lanes.remove(laneKey, next);
+            if (throwable != null && !started.get()) {
+                LOG.errorf(throwable, "Failed dispatching Kafka record %s at offset %d, no offset of the partition"
+                        + " gets committed until the record is consumed again", topicPartition, recordOffset);
+                rejected(topicPartition, recordOffset);
+            }
+        });
+    }
+
+    private void completed(TopicPartition topicPartition, long offset) {
+        try {
+            // Trackers are dropped once drained, so that the partitions revoked by a rebalance do not linger
+            offsetTrackers.computeIfPresent(topicPartition,
+                    (tp, tracker) -> tracker.completed(offset) ? null : tracker);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private void rejected(TopicPartition topicPartition, long offset) {
+        try {
+            offsetTrackers.computeIfPresent(topicPartition, (tp, tracker) -> {
+                tracker.rejected(offset);
+                return tracker;
+            });
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    static Object laneKey(TopicPartition topicPartition, Object recordKey) {
+        if (recordKey == null) {
+            return topicPartition;
+        }
+        if (recordKey instanceof byte[]) {
+            // Arrays do not implement equals & hashCode based on their contents
+            return new LaneKey(topicPartition.topic(), ByteBuffer.wrap((byte[]) recordKey));
+        }
+        return new LaneKey(topicPartition.topic(), recordKey);
+    }
+
+    static final class LaneKey {
+        private final String topic;
+        private final Object key;
+
+        LaneKey(String topic, Object key) {
+            this.topic = topic;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LaneKey)) {
+                return false;
+            }
+            LaneKey laneKey = (LaneKey) o;
+            return topic.equals(laneKey.topic) && key.equals(laneKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(topic, key);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kafka;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Tracks the dispatched records of a single partition and commits the offset of the last record of the contiguous
+ * range of completed records. Records are expected to be dispatched in offset order.
+ */
+final class PartitionOffsetTracker {
+    private final TopicPartition topicPartition;
+    private final TreeMap<Long, Entry> pending = new TreeMap<>();
+    private long rejectedOffset = -1;
+
+    PartitionOffsetTracker(TopicPartition topicPartition) {
+        this.topicPartition = topicPartition;
+    }
+
+    /**
+     * @return {@code false} if a preceding record of the partition was rejected and the record must not be processed
+     *         until the rejected record gets dispatched again
+     */
+    synchronized boolean dispatched(long offset, KafkaManualCommit manualCommit) {
+        if (rejectedOffset >= 0) {
+            if (offset > rejectedOffset) {
+                return false;
+            }
+            // The consumer went back to the rejected record, the records from there on get dispatched again
+            pending.tailMap(offset, true).clear();
+            rejectedOffset = -1;
+        }
+        pending.put(offset, new Entry(manualCommit));
+        return true;
+    }
+
+    /**
+     * @return {@code true} if no record remains in flight for the partition
+     */
+    synchronized boolean completed(long offset) {
+        Entry entry = pending.get(offset);
+        if (entry == null) {
+            return pending.isEmpty();
+        }
+        entry.completed = true;
+
+        KafkaManualCommit watermark = null;
+        Map.Entry<Long, Entry> first;
+        while ((first = pending.firstEntry()) != null && first.getValue().completed) {
+            pending.pollFirstEntry();
+            watermark = first.getValue().manualCommit;
+        }
+
+        if (watermark != null) {
+            watermark.commit();
+        }
+        return pending.isEmpty();
+    }
+
+    /**
+     * Holds the watermark below a record that could not be handed over for processing. The record stays pending, so
+     * that no offset from the record on gets committed, and the following records are refused until the record gets
+     * dispatched again.
+     */
+    synchronized void rejected(long offset) {
+        if (pending.containsKey(offset) && (rejectedOffset < 0 || offset < rejectedOffset)) {
+            rejectedOffset = offset;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionOffsetTracker[" + topicPartition + "]";
+    }
+
+    private static final class Entry {
+        private final KafkaManualCommit manualCommit;
+        private boolean completed;
+
+        private Entry(KafkaManualCommit manualCommit) {
+            this.manualCommit = manualCommit;
+        }
+    }
+}
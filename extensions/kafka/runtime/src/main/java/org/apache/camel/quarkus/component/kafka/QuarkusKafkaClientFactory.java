@@ -16,8 +16,11 @@
  */
 package org.apache.camel.quarkus.component.kafka;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.component.kafka.DefaultKafkaClientFactory;
 import org.apache.camel.component.kafka.KafkaConfiguration;
@@ -32,22 +35,38 @@ import org.apache.kafka.clients.producer.Producer;
  * the Camel Kafka component and endpoint URI options.
  */
 public class QuarkusKafkaClientFactory extends DefaultKafkaClientFactory {
-
     private final Map<String, Object> quarkusKafkaConfiguration;
+    // The merged result only depends on whether the Camel properties set the group id, both variants are computed once
+    private final Map<String, Object> mergedConfiguration;
+    private final Map<String, Object> mergedConfigurationWithoutGroupId;
+    private final LongAdder producerCount = new LongAdder();
+    private final LongAdder consumerCount = new LongAdder();
 
     public QuarkusKafkaClientFactory(Map<String, Object> quarkusKafkaConfiguration) {
         this.quarkusKafkaConfiguration = quarkusKafkaConfiguration;
+        if (quarkusKafkaConfiguration != null) {
+            Map<String, Object> withoutGroupId = new HashMap<>(quarkusKafkaConfiguration);
+            // Don't overwrite the group id if it has been set
+            withoutGroupId.remove(ConsumerConfig.GROUP_ID_CONFIG);
+            this.mergedConfiguration = Collections.unmodifiableMap(new HashMap<>(quarkusKafkaConfiguration));
+            this.mergedConfigurationWithoutGroupId = Collections.unmodifiableMap(withoutGroupId);
+        } else {
+            this.mergedConfiguration = Collections.emptyMap();
+            this.mergedConfigurationWithoutGroupId = Collections.emptyMap();
+        }
     }
 
     @Override
     public Producer getProducer(Properties camelKafkaProperties) {
         mergeConfiguration(camelKafkaProperties);
+        producerCount.increment();
         return super.getProducer(camelKafkaProperties);
     }
 
     @Override
     public Consumer getConsumer(Properties camelKafkaProperties) {
         mergeConfiguration(camelKafkaProperties);
+        consumerCount.increment();
         return super.getConsumer(camelKafkaProperties);
     }
 
@@ -62,15 +81,30 @@ public class QuarkusKafkaClientFactory extends DefaultKafkaClientFactory {
      * component & endpoint URI options. This behaviour can be suppressed via a configuration property.
      */
     public void mergeConfiguration(Properties camelKafkaProperties) {
-        if (quarkusKafkaConfiguration != null) {
-            for (Map.Entry<String, Object> entry : quarkusKafkaConfiguration.entrySet()) {
-                // Don't overwrite the group id if it has been set
-                if (entry.getKey().equals(ConsumerConfig.GROUP_ID_CONFIG)
-                        && camelKafkaProperties.containsKey(ConsumerConfig.GROUP_ID_CONFIG)) {
-                    continue;
-                }
-                camelKafkaProperties.put(entry.getKey(), entry.getValue());
-            }
-        }
+        camelKafkaProperties.putAll(getMergedConfiguration(camelKafkaProperties));
+    }
+
+    /**
+     * @return the immutable snapshot of the Quarkus kafka configuration properties to merge into the given Camel Kafka
+     *         properties
+     */
+    public Map<String, Object> getMergedConfiguration(Properties camelKafkaProperties) {
+        return camelKafkaProperties.containsKey(ConsumerConfig.GROUP_ID_CONFIG)
+                ? mergedConfigurationWithoutGroupId
+                : mergedConfiguration;
+    }
+
+    /**
+     * @return the number of Kafka producers created by this factory
+     */
+    public long getProducerCount() {
+        return producerCount.sum();
+    }
+
+    /**
+     * @return the number of Kafka consumers created by this factory
+     */
+    public long getConsumerCount() {
+        return consumerCount.sum();
     }
 }
@@ -21,9 +21,12 @@ import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import org.apache.camel.component.kubernetes.cluster.KubernetesClusterService;
+import org.apache.camel.component.kubernetes.cluster.LeaseResourceType;
 import org.apache.camel.quarkus.component.kubernetes.cluster.KubernetesClusterServiceConfig;
 import org.apache.camel.quarkus.component.kubernetes.cluster.KubernetesClusterServiceRecorder;
+import org.apache.camel.quarkus.component.kubernetes.cluster.KubernetesWatchClusterService;
 import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 import org.apache.camel.support.cluster.RebalancingCamelClusterService;
@@ -37,6 +40,24 @@ class KubernetesClusterServiceProcessor {
             KubernetesClusterServiceConfig config,
             KubernetesClusterServiceRecorder recorder) {
 
+        if (config.watch) {
+            if (config.leaseResourceType.orElse(LeaseResourceType.Lease) != LeaseResourceType.Lease) {
+                throw new ConfigurationException(
+                        "quarkus.camel.cluster.kubernetes.watch=true only supports the 'lease' lease resource type");
+            }
+            if (config.rebalancing) {
+                final RuntimeValue<RebalancingCamelClusterService> krcs = recorder
+                        .createKubernetesWatchRebalancingClusterService(config);
+                return new CamelBeanBuildItem("kubernetesRebalancingClusterService",
+                        RebalancingCamelClusterService.class.getName(), krcs);
+            } else {
+                final RuntimeValue<KubernetesWatchClusterService> kwcs = recorder
+                        .createKubernetesWatchClusterService(config);
+                return new CamelBeanBuildItem("kubernetesClusterService", KubernetesWatchClusterService.class.getName(),
+                        kwcs);
+            }
+        }
+
         if (config.rebalancing) {
             final RuntimeValue<RebalancingCamelClusterService> krcs = recorder
                     .createKubernetesRebalancingClusterService(config);
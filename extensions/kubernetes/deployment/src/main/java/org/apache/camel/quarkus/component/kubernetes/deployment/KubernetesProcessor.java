@@ -17,11 +17,13 @@
 package org.apache.camel.quarkus.component.kubernetes.deployment;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import org.apache.camel.quarkus.component.kubernetes.CamelKubernetesInformers;
 import org.apache.camel.quarkus.component.kubernetes.CamelKubernetesRecorder;
 import org.apache.camel.quarkus.core.deployment.spi.CamelRuntimeBeanBuildItem;
 
@@ -33,6 +35,11 @@ class KubernetesProcessor {
         return new FeatureBuildItem(FEATURE);
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem informers() {
+        return AdditionalBeanBuildItem.unremovableOf(CamelKubernetesInformers.class);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     CamelRuntimeBeanBuildItem configureKubernetesClient(CamelKubernetesRecorder recorder,
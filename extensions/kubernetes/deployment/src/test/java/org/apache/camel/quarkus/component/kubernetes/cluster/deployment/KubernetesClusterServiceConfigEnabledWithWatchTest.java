@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kubernetes.cluster.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Properties;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.quarkus.component.kubernetes.CamelKubernetesInformers;
+import org.apache.camel.quarkus.component.kubernetes.cluster.KubernetesWatchClusterService;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class KubernetesClusterServiceConfigEnabledWithWatchTest {
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addAsResource(applicationProperties(),
+                    "application.properties"));
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.cluster.kubernetes.enabled", "true");
+        props.setProperty("quarkus.camel.cluster.kubernetes.watch", "true");
+        props.setProperty("quarkus.camel.cluster.kubernetes.rebalancing", "false");
+        props.setProperty("quarkus.camel.cluster.kubernetes.id", "kwcs-id");
+        props.setProperty("quarkus.camel.cluster.kubernetes.namespace", "kwcs-namespace");
+        props.setProperty("quarkus.camel.cluster.kubernetes.pod-name", "kwcs-pod-name");
+        props.setProperty("quarkus.camel.cluster.kubernetes.jitter-factor", "1.5034");
+        props.setProperty("quarkus.camel.cluster.kubernetes.lease-duration-millis", "15036");
+        props.setProperty("quarkus.camel.cluster.kubernetes.renew-deadline-millis", "10037");
+        props.setProperty("quarkus.camel.cluster.kubernetes.retry-period-millis", "2038");
+        props.setProperty("quarkus.camel.cluster.kubernetes.order", "5039");
+        props.setProperty("quarkus.camel.cluster.kubernetes.resource-name", "kwcs-resource-name");
+        props.setProperty("quarkus.camel.cluster.kubernetes.labels.key1", "value1");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    CamelKubernetesInformers informers;
+
+    @Test
+    public void enabledConfigWithWatchShouldAutoConfigureWatchClusterService() {
+        KubernetesWatchClusterService[] kwcss = camelContext.getCamelContextExtension()
+                .getServices()
+                .stream()
+                .filter(s -> s instanceof KubernetesWatchClusterService)
+                .toArray(KubernetesWatchClusterService[]::new);
+        assertEquals(1, kwcss.length);
+
+        KubernetesWatchClusterService kwcs = kwcss[0];
+        assertNotNull(kwcs);
+
+        assertEquals("kwcs-id", kwcs.getId());
+        assertEquals("kwcs-namespace", kwcs.getKubernetesNamespace());
+        assertEquals("kwcs-pod-name", kwcs.getPodName());
+        assertEquals(1.5034, kwcs.getJitterFactor());
+        assertEquals(15036, kwcs.getLeaseDurationMillis());
+        assertEquals(10037, kwcs.getRenewDeadlineMillis());
+        assertEquals(2038, kwcs.getRetryPeriodMillis());
+        assertEquals(5039, kwcs.getOrder());
+        assertEquals("kwcs-resource-name", kwcs.getKubernetesResourceName());
+        assertEquals("value1", kwcs.getClusterLabels().get("key1"));
+        assertSame(informers, kwcs.getInformers());
+    }
+
+}
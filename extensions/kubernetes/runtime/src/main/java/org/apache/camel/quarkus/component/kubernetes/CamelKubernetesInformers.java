@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kubernetes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Informers shared by the components of the application watching the same kind of resources in the same
+ * namespace, so that the Kubernetes API server maintains a single watch for all of them.
+ * <p>
+ * An informer is started by the first {@link #register(Class, String, Map, ResourceEventHandler)} call for a
+ * resource type, namespace and label selector, and stopped when its last registration is closed.
+ */
+@Singleton
+public class CamelKubernetesInformers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CamelKubernetesInformers.class);
+
+    private final Map<Key, SharedInformer<?>> informers = new HashMap<>();
+
+    @Inject
+    KubernetesClient client;
+
+    public KubernetesClient getClient() {
+        return client;
+    }
+
+    /**
+     * Registers a handler notified of the changes of the resources of the given type, namespace and labels. The
+     * resources already known by the informer are notified to the handler as added resources, before any further
+     * change. The handler must not register or close a registration from its callbacks.
+     */
+    public synchronized <T extends HasMetadata> Registration<T> register(Class<T> type, String namespace,
+            Map<String, String> labels, ResourceEventHandler<T> handler) {
+        Key key = new Key(type, namespace, labels == null ? Map.of() : Map.copyOf(labels));
+
+        @SuppressWarnings("unchecked")
+        SharedInformer<T> informer = (SharedInformer<T>) informers.get(key);
+        if (informer == null) {
+            LOGGER.debug("Starting a shared informer for {} in namespace {} with labels {}", type.getSimpleName(),
+                    namespace, key.labels);
+            SharedIndexInformer<T> delegate = client.resources(type)
+                    .inNamespace(namespace)
+                    .withLabels(key.labels)
+                    .runnableInformer(0);
+            informer = new SharedInformer<>(key, delegate);
+            informers.put(key, informer);
+            informer.addHandler(handler);
+            informer.synced = delegate.start();
+        } else {
+            informer.addHandler(handler);
+        }
+        return new Registration<>(informer, handler);
+    }
+
+    private synchronized void unregister(SharedInformer<?> informer, ResourceEventHandler<?> handler) {
+        informer.handlers.remove(handler);
+        if (informer.handlers.isEmpty() && informers.remove(informer.key, informer)) {
+            LOGGER.debug("Stopping the shared informer for {} in namespace {} with labels {}",
+                    informer.key.type.getSimpleName(), informer.key.namespace, informer.key.labels);
+            informer.delegate.stop();
+        }
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        informers.values().forEach(informer -> informer.delegate.stop());
+        informers.clear();
+    }
+
+    /**
+     * The registration of a handler to a shared informer, which unregisters the handler when closed.
+     */
+    public final class Registration<T> implements AutoCloseable {
+        private final SharedInformer<T> informer;
+        private final ResourceEventHandler<T> handler;
+
+        private Registration(SharedInformer<T> informer, ResourceEventHandler<T> handler) {
+            this.informer = informer;
+            this.handler = handler;
+        }
+
+        /**
+         * The cache of the resources known by the informer, keyed by {@code <namespace>/<name>}.
+         */
+        public Store<T> getStore() {
+            return informer.delegate.getStore();
+        }
+
+        /**
+         * Completes once the informer has listed the existing resources.
+         */
+        public CompletionStage<Void> synced() {
+            return informer.synced;
+        }
+
+        @Override
+        public void close() {
+            unregister(informer, handler);
+        }
+    }
+
+    private static final class SharedInformer<T> implements ResourceEventHandler<T> {
+        private final Key key;
+        private final SharedIndexInformer<T> delegate;
+        private final List<ResourceEventHandler<T>> handlers = new CopyOnWriteArrayList<>();
+        private CompletionStage<Void> synced;
+
+        private SharedInformer(Key key, SharedIndexInformer<T> delegate) {
+            this.key = key;
+            this.delegate = delegate;
+            delegate.addEventHandler(this);
+        }
+
+        /**
+         * Adds the handler and replays the known resources to it while holding the lock of the event dispatch, so that
+         * a change notified concurrently cannot reach the handler before the older state of the replay.
+         */
+        synchronized void addHandler(ResourceEventHandler<T> handler) {
+            handlers.add(handler);
+            if (delegate.hasSynced()) {
+                for (T resource : delegate.getStore().list()) {
+                    handler.onAdd(resource);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onAdd(T resource) {
+            for (ResourceEventHandler<T> handler : handlers) {
+                handler.onAdd(resource);
+            }
+        }
+
+        @Override
+        public synchronized void onUpdate(T oldResource, T newResource) {
+            for (ResourceEventHandler<T> handler : handlers) {
+                handler.onUpdate(oldResource, newResource);
+            }
+        }
+
+        @Override
+        public synchronized void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            for (ResourceEventHandler<T> handler : handlers) {
+                handler.onDelete(resource, deletedFinalStateUnknown);
+            }
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> type;
+        private final String namespace;
+        private final Map<String, String> labels;
+
+        private Key(Class<?> type, String namespace, Map<String, String> labels) {
+            this.type = type;
+            this.namespace = namespace;
+            this.labels = labels;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return type.equals(key.type) && Objects.equals(namespace, key.namespace) && labels.equals(key.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, namespace, labels);
+        }
+    }
+}
@@ -127,6 +127,14 @@ public class KubernetesClusterServiceConfig {
     @ConfigItem
     public Map<String, String> labels;
 
+    /**
+     * Whether the leases should be tracked through a watch shared by all the camel master namespaces, instead of
+     * being polled by every pod every retry period. In this mode, only the leader of a namespace makes requests to
+     * the Kubernetes API server, to renew its lease, and the 'config-map' lease resource type is not supported.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean watch;
+
     public static final class Enabled implements BooleanSupplier {
         @Override
         public boolean getAsBoolean() {
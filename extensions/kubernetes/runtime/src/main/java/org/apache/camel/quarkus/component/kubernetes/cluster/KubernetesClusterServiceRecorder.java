@@ -37,6 +37,20 @@ public class KubernetesClusterServiceRecorder {
         return new RuntimeValue<RebalancingCamelClusterService>(rebalancingService);
     }
 
+    public RuntimeValue<KubernetesWatchClusterService> createKubernetesWatchClusterService(
+            KubernetesClusterServiceConfig config) {
+        KubernetesWatchClusterService kwcs = setupKubernetesWatchClusterServiceFromConfig(config);
+        return new RuntimeValue<KubernetesWatchClusterService>(kwcs);
+    }
+
+    public RuntimeValue<RebalancingCamelClusterService> createKubernetesWatchRebalancingClusterService(
+            KubernetesClusterServiceConfig config) {
+        KubernetesWatchClusterService kwcs = setupKubernetesWatchClusterServiceFromConfig(config);
+        RebalancingCamelClusterService rebalancingService = new RebalancingCamelClusterService(kwcs,
+                kwcs.getRenewDeadlineMillis());
+        return new RuntimeValue<RebalancingCamelClusterService>(rebalancingService);
+    }
+
     private KubernetesClusterService setupKubernetesClusterServiceFromConfig(KubernetesClusterServiceConfig config) {
         KubernetesClusterService clusterService = new KubernetesClusterService();
 
@@ -57,4 +71,23 @@ public class KubernetesClusterServiceRecorder {
 
         return clusterService;
     }
+
+    private KubernetesWatchClusterService setupKubernetesWatchClusterServiceFromConfig(
+            KubernetesClusterServiceConfig config) {
+        KubernetesWatchClusterService clusterService = new KubernetesWatchClusterService();
+
+        config.id.ifPresent(id -> clusterService.setId(id));
+        config.namespace.ifPresent(ns -> clusterService.setKubernetesNamespace(ns));
+        config.podName.ifPresent(pn -> clusterService.setPodName(pn));
+        config.jitterFactor.ifPresent(jf -> clusterService.setJitterFactor(jf));
+        config.leaseDurationMillis.ifPresent(ldm -> clusterService.setLeaseDurationMillis(ldm));
+        config.renewDeadlineMillis.ifPresent(rdm -> clusterService.setRenewDeadlineMillis(rdm));
+        config.retryPeriodMillis.ifPresent(rpm -> clusterService.setRetryPeriodMillis(rpm));
+        config.order.ifPresent(o -> clusterService.setOrder(o));
+        config.resourceName.ifPresent(krn -> clusterService.setKubernetesResourceName(krn));
+
+        clusterService.setClusterLabels(config.labels);
+
+        return clusterService;
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kubernetes.cluster;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.cluster.CamelPreemptiveClusterService;
+import org.apache.camel.quarkus.component.kubernetes.CamelKubernetesInformers;
+import org.apache.camel.support.cluster.AbstractCamelClusterService;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A cluster service electing the leader of each namespace through a Kubernetes {@code Lease} resource, like the
+ * {@code KubernetesClusterService} of Camel, but tracking the leases with an informer shared by all the namespaces
+ * instead of polling them.
+ * <p>
+ * The leader renews its lease every {@code retryPeriodMillis}. The other pods are notified of the renewals through
+ * the watch of the informer, and only try to acquire a lease once it has not been renewed for
+ * {@code leaseDurationMillis}, as measured by their own clock, or as soon as it has been released or deleted. The
+ * requests made to the API server are therefore the renewals of the leaders and the single watch of each pod.
+ */
+public class KubernetesWatchClusterService extends AbstractCamelClusterService<KubernetesWatchClusterView>
+        implements CamelPreemptiveClusterService {
+
+    private CamelKubernetesInformers informers;
+    private String kubernetesNamespace;
+    private String podName;
+    private String kubernetesResourceName = "leaders";
+    private double jitterFactor = 1.2;
+    private long leaseDurationMillis = 15000;
+    private long renewDeadlineMillis = 10000;
+    private long retryPeriodMillis = 2000;
+    private Map<String, String> clusterLabels = new HashMap<>();
+    private ScheduledExecutorService executor;
+
+    public KubernetesWatchClusterService() {
+    }
+
+    @Override
+    protected KubernetesWatchClusterView createView(String namespace) throws Exception {
+        return new KubernetesWatchClusterView(this, namespace);
+    }
+
+    public CamelKubernetesInformers getInformers() {
+        return informers;
+    }
+
+    /**
+     * The shared informers of the application (looked up in the registry by default).
+     */
+    public void setInformers(CamelKubernetesInformers informers) {
+        this.informers = informers;
+    }
+
+    public String getKubernetesNamespace() {
+        return kubernetesNamespace;
+    }
+
+    /**
+     * The name of the Kubernetes namespace containing the pods and the leases (the namespace of the client by
+     * default).
+     */
+    public void setKubernetesNamespace(String kubernetesNamespace) {
+        this.kubernetesNamespace = kubernetesNamespace;
+    }
+
+    public String getPodName() {
+        return podName;
+    }
+
+    /**
+     * The name of the current pod (the host name by default).
+     */
+    public void setPodName(String podName) {
+        this.podName = podName;
+    }
+
+    public String getKubernetesResourceName() {
+        return kubernetesResourceName;
+    }
+
+    /**
+     * The prefix of the names of the leases, which are named {@code <prefix>-<namespace>}.
+     */
+    public void setKubernetesResourceName(String kubernetesResourceName) {
+        this.kubernetesResourceName = kubernetesResourceName;
+    }
+
+    public double getJitterFactor() {
+        return jitterFactor;
+    }
+
+    /**
+     * The jitter factor applied to the time after which a pod tries to acquire an expired lease, in order to
+     * prevent all the pods to try at the same instant.
+     */
+    public void setJitterFactor(double jitterFactor) {
+        this.jitterFactor = jitterFactor;
+    }
+
+    public long getLeaseDurationMillis() {
+        return leaseDurationMillis;
+    }
+
+    /**
+     * The time after which a lease that has not been renewed can be acquired by another pod.
+     */
+    public void setLeaseDurationMillis(long leaseDurationMillis) {
+        this.leaseDurationMillis = leaseDurationMillis;
+    }
+
+    public long getRenewDeadlineMillis() {
+        return renewDeadlineMillis;
+    }
+
+    /**
+     * The time after which a leader that could not renew its lease gives up the leadership.
+     */
+    public void setRenewDeadlineMillis(long renewDeadlineMillis) {
+        this.renewDeadlineMillis = renewDeadlineMillis;
+    }
+
+    public long getRetryPeriodMillis() {
+        return retryPeriodMillis;
+    }
+
+    /**
+     * The time between two renewals of the lease by the leader.
+     */
+    public void setRetryPeriodMillis(long retryPeriodMillis) {
+        this.retryPeriodMillis = retryPeriodMillis;
+    }
+
+    public Map<String, String> getClusterLabels() {
+        return clusterLabels;
+    }
+
+    /**
+     * The labels identifying the pods of the cluster, which are the members of the views when set.
+     */
+    public void setClusterLabels(Map<String, String> clusterLabels) {
+        this.clusterLabels = clusterLabels;
+    }
+
+    @Override
+    public KubernetesWatchClusterView getView(String namespace) throws Exception {
+        return (KubernetesWatchClusterView) super.getView(namespace);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (informers == null) {
+            informers = getCamelContext().getRegistry().findSingleByType(CamelKubernetesInformers.class);
+        }
+        ObjectHelper.notNull(informers, "informers");
+        if (kubernetesNamespace == null) {
+            kubernetesNamespace = informers.getClient().getNamespace();
+        }
+        ObjectHelper.notNull(kubernetesNamespace, "kubernetesNamespace");
+        if (podName == null) {
+            podName = System.getenv("HOSTNAME");
+            if (podName == null) {
+                podName = InetAddress.getLocalHost().getHostName();
+            }
+        }
+        if (getId() == null) {
+            setId(podName);
+        }
+        if (jitterFactor < 1) {
+            throw new IllegalArgumentException("jitterFactor must be >= 1, was " + jitterFactor);
+        }
+        if (retryPeriodMillis <= 0 || renewDeadlineMillis <= retryPeriodMillis
+                || leaseDurationMillis <= renewDeadlineMillis) {
+            throw new IllegalArgumentException("leaseDurationMillis (" + leaseDurationMillis
+                    + ") must be greater than renewDeadlineMillis (" + renewDeadlineMillis
+                    + "), which must be greater than retryPeriodMillis (" + retryPeriodMillis + ")");
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        ScheduledExecutorService service;
+        synchronized (this) {
+            service = executor;
+            executor = null;
+        }
+        if (service != null) {
+            getCamelContext().getExecutorServiceManager().shutdownGraceful(service);
+        }
+    }
+
+    /**
+     * The executor serializing the lease operations of all the views.
+     */
+    synchronized ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            executor = getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "KubernetesWatchClusterService-" + getId());
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,469 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kubernetes.cluster;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelPreemptiveClusterView;
+import org.apache.camel.quarkus.component.kubernetes.CamelKubernetesInformers;
+import org.apache.camel.support.cluster.AbstractCamelClusterView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The view of a namespace of a {@link KubernetesWatchClusterService}, backed by the {@code <prefix>-<namespace>}
+ * lease.
+ * <p>
+ * The lease is tracked through the lease informer shared by all the views, and all the operations on it are executed
+ * by the executor of the cluster service.
+ */
+public class KubernetesWatchClusterView extends AbstractCamelClusterView implements CamelPreemptiveClusterView {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesWatchClusterView.class);
+    private static final int HTTP_CONFLICT = 409;
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final KubernetesWatchClusterService service;
+    private final String leaseName;
+    private final LocalMember localMember;
+    private volatile boolean disabled;
+    private volatile boolean leader;
+    private volatile String holder;
+    private CamelKubernetesInformers.Registration<Lease> leases;
+    private CamelKubernetesInformers.Registration<Pod> pods;
+    private ScheduledFuture<?> next;
+    // The last observed lease, and the local time it was observed at
+    private Lease lease;
+    private long observedNanos;
+    // The local time of the last renewal of the lease while leader
+    private long renewedNanos;
+
+    KubernetesWatchClusterView(KubernetesWatchClusterService service, String namespace) {
+        super(service, namespace);
+
+        this.service = service;
+        this.leaseName = service.getKubernetesResourceName() + "-" + namespace;
+        this.localMember = new LocalMember();
+    }
+
+    @Override
+    public Optional<CamelClusterMember> getLeader() {
+        if (leader) {
+            return Optional.of(localMember);
+        }
+        String current = holder;
+        return current != null && !current.equals(service.getPodName())
+                ? Optional.of(new Member(current))
+                : Optional.empty();
+    }
+
+    @Override
+    public CamelClusterMember getLocalMember() {
+        return localMember;
+    }
+
+    @Override
+    public List<CamelClusterMember> getMembers() {
+        List<CamelClusterMember> members = new ArrayList<>();
+        members.add(localMember);
+        if (pods != null) {
+            for (Pod pod : pods.getStore().list()) {
+                String name = pod.getMetadata().getName();
+                if (!service.getPodName().equals(name) && pod.getStatus() != null
+                        && "Running".equals(pod.getStatus().getPhase())) {
+                    members.add(new Member(name));
+                }
+            }
+        } else {
+            getLeader().filter(member -> !member.isLocal()).ifPresent(members::add);
+        }
+        return members;
+    }
+
+    @Override
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    @Override
+    public void setDisabled(boolean disabled) {
+        if (this.disabled != disabled) {
+            this.disabled = disabled;
+            execute(disabled ? this::release : this::reconcile);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        CamelKubernetesInformers informers = service.getInformers();
+        String namespace = service.getKubernetesNamespace();
+
+        if (!service.getClusterLabels().isEmpty()) {
+            pods = informers.register(Pod.class, namespace, service.getClusterLabels(), new PodHandler());
+        }
+        CamelKubernetesInformers.Registration<Lease> registration = informers.register(Lease.class, namespace, null,
+                new LeaseHandler());
+        leases = registration;
+        // The informer only notifies the existing leases, so the absence of the lease is checked once it is synced
+        String key = Cache.namespaceKeyFunc(namespace, leaseName);
+        registration.synced().thenRun(() -> execute(() -> onLease(registration.getStore().getByKey(key))));
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (leases != null) {
+            leases.close();
+            leases = null;
+        }
+        if (pods != null) {
+            pods.close();
+            pods = null;
+        }
+
+        // Release the lease so that another pod acquires it as soon as it is notified
+        try {
+            service.getExecutor().submit(this::release).get(service.getRetryPeriodMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            LOGGER.debug("Cannot release the lease {}", leaseName, e);
+        }
+    }
+
+    private void execute(Runnable task) {
+        if (isStarting() || isStarted()) {
+            service.getExecutor().execute(task);
+        }
+    }
+
+    private void schedule(Runnable task, long delayMillis) {
+        if (next != null) {
+            next.cancel(false);
+        }
+        next = service.getExecutor().schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Handles a change of the lease notified by the informer, or its absence.
+     */
+    private void onLease(Lease current) {
+        if (current != null && lease != null && leader && service.getPodName().equals(holderOf(current))) {
+            // The notifications of the renewals of the local pod are older than the lease it holds
+            return;
+        }
+
+        if (current == null || lease == null || !Objects.equals(resourceVersionOf(current), resourceVersionOf(lease))) {
+            lease = current;
+            observedNanos = System.nanoTime();
+        }
+        String currentHolder = current != null ? holderOf(current) : null;
+        holder = currentHolder;
+
+        if (leader && !service.getPodName().equals(currentHolder)) {
+            LOGGER.info("Lease {} acquired by {}", leaseName, currentHolder);
+            setLeader(false);
+        }
+        reconcile();
+    }
+
+    private void reconcile() {
+        if (leader) {
+            return;
+        }
+        if (disabled) {
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+            return;
+        }
+        if (lease == null || holder == null || service.getPodName().equals(holder)) {
+            // The lease is free, or still held by a previous incarnation of the local pod
+            schedule(this::acquire, 0);
+        } else {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - observedNanos);
+            long duration = (long) (leaseDurationMillisOf(lease) * jitter());
+            schedule(this::acquire, Math.max(0, duration - elapsed));
+        }
+    }
+
+    private void acquire() {
+        if (leader || disabled || !(isStarting() || isStarted())) {
+            return;
+        }
+        if (lease != null && holder != null && !service.getPodName().equals(holder)
+                && System.nanoTime() - observedNanos < TimeUnit.MILLISECONDS.toNanos(leaseDurationMillisOf(lease))) {
+            reconcile();
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            KubernetesClient client = service.getInformers().getClient();
+            Lease acquired;
+            if (lease == null) {
+                acquired = client.leases().inNamespace(service.getKubernetesNamespace()).resource(new LeaseBuilder()
+                        .withNewMetadata()
+                        .withName(leaseName)
+                        .withNamespace(service.getKubernetesNamespace())
+                        .endMetadata()
+                        .withNewSpec()
+                        .withHolderIdentity(service.getPodName())
+                        .withLeaseDurationSeconds(leaseDurationSeconds())
+                        .withAcquireTime(now)
+                        .withRenewTime(now)
+                        .withLeaseTransitions(0)
+                        .endSpec()
+                        .build()).create();
+            } else {
+                Integer transitions = lease.getSpec() != null ? lease.getSpec().getLeaseTransitions() : null;
+                acquired = client.leases().inNamespace(service.getKubernetesNamespace()).resource(new LeaseBuilder(lease)
+                        .editOrNewSpec()
+                        .withHolderIdentity(service.getPodName())
+                        .withLeaseDurationSeconds(leaseDurationSeconds())
+                        .withAcquireTime(now)
+                        .withRenewTime(now)
+                        .withLeaseTransitions(transitions != null ? transitions + 1 : 1)
+                        .endSpec()
+                        .build()).update();
+            }
+            lease = acquired;
+            holder = service.getPodName();
+            renewedNanos = System.nanoTime();
+            LOGGER.info("Lease {} acquired", leaseName);
+            setLeader(true);
+            schedule(this::renew, service.getRetryPeriodMillis());
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == HTTP_CONFLICT) {
+                // Another pod acquired or renewed the lease first, which the informer notifies
+                LOGGER.debug("Lease {} not acquired: {}", leaseName, e.getMessage());
+            } else {
+                LOGGER.warn("Lease {} not acquired: {}", leaseName, e.getMessage());
+                schedule(this::acquire, service.getRetryPeriodMillis());
+            }
+        }
+    }
+
+    private void renew() {
+        if (!leader) {
+            return;
+        }
+        if (disabled) {
+            release();
+            return;
+        }
+
+        try {
+            lease = service.getInformers().getClient().leases().inNamespace(service.getKubernetesNamespace())
+                    .resource(new LeaseBuilder(lease)
+                            .editSpec()
+                            .withRenewTime(ZonedDateTime.now())
+                            .endSpec()
+                            .build())
+                    .update();
+            renewedNanos = System.nanoTime();
+            LOGGER.trace("Lease {} renewed", leaseName);
+        } catch (KubernetesClientException e) {
+            LOGGER.debug("Lease {} not renewed: {}", leaseName, e.getMessage());
+            if (e.getCode() == HTTP_CONFLICT || e.getCode() == HTTP_NOT_FOUND) {
+                refresh();
+                if (!leader) {
+                    return;
+                }
+            }
+        }
+
+        if (System.nanoTime() - renewedNanos >= TimeUnit.MILLISECONDS.toNanos(service.getRenewDeadlineMillis())) {
+            LOGGER.warn("Lease {} not renewed for {} ms, giving up the leadership", leaseName,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - renewedNanos));
+            setLeader(false);
+            reconcile();
+        } else {
+            schedule(this::renew, service.getRetryPeriodMillis());
+        }
+    }
+
+    /**
+     * Reads the lease after a conflict, which the informer may not have notified yet.
+     */
+    private void refresh() {
+        try {
+            Lease current = service.getInformers().getClient().leases().inNamespace(service.getKubernetesNamespace())
+                    .withName(leaseName).get();
+            if (current != null && service.getPodName().equals(holderOf(current))) {
+                lease = current;
+            } else {
+                LOGGER.info("Lease {} lost", leaseName);
+                lease = current;
+                holder = current != null ? holderOf(current) : null;
+                observedNanos = System.nanoTime();
+                setLeader(false);
+                reconcile();
+            }
+        } catch (KubernetesClientException e) {
+            LOGGER.debug("Lease {} not read: {}", leaseName, e.getMessage());
+        }
+    }
+
+    private void release() {
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+        if (!leader) {
+            return;
+        }
+
+        setLeader(false);
+        try {
+            lease = service.getInformers().getClient().leases().inNamespace(service.getKubernetesNamespace())
+                    .resource(new LeaseBuilder(lease)
+                            .editSpec()
+                            .withHolderIdentity(null)
+                            .endSpec()
+                            .build())
+                    .update();
+            holder = null;
+            LOGGER.info("Lease {} released", leaseName);
+        } catch (KubernetesClientException e) {
+            LOGGER.debug("Lease {} not released: {}", leaseName, e.getMessage());
+        }
+    }
+
+    private void setLeader(boolean leader) {
+        if (this.leader != leader) {
+            this.leader = leader;
+            fireLeadershipChangedEvent(getLeader());
+        }
+    }
+
+    private double jitter() {
+        return 1 + (service.getJitterFactor() - 1) * ThreadLocalRandom.current().nextDouble();
+    }
+
+    private int leaseDurationSeconds() {
+        return (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(service.getLeaseDurationMillis()));
+    }
+
+    private long leaseDurationMillisOf(Lease lease) {
+        Integer seconds = lease.getSpec() != null ? lease.getSpec().getLeaseDurationSeconds() : null;
+        return seconds != null ? TimeUnit.SECONDS.toMillis(seconds) : service.getLeaseDurationMillis();
+    }
+
+    private static String holderOf(Lease lease) {
+        String identity = lease.getSpec() != null ? lease.getSpec().getHolderIdentity() : null;
+        return identity == null || identity.isEmpty() ? null : identity;
+    }
+
+    private static String resourceVersionOf(Lease lease) {
+        return lease.getMetadata() != null ? lease.getMetadata().getResourceVersion() : null;
+    }
+
+    private final class LeaseHandler implements ResourceEventHandler<Lease> {
+        @Override
+        public void onAdd(Lease lease) {
+            if (leaseName.equals(lease.getMetadata().getName())) {
+                execute(() -> onLease(lease));
+            }
+        }
+
+        @Override
+        public void onUpdate(Lease oldLease, Lease newLease) {
+            onAdd(newLease);
+        }
+
+        @Override
+        public void onDelete(Lease lease, boolean deletedFinalStateUnknown) {
+            if (leaseName.equals(lease.getMetadata().getName())) {
+                execute(() -> onLease(null));
+            }
+        }
+    }
+
+    private final class PodHandler implements ResourceEventHandler<Pod> {
+        @Override
+        public void onAdd(Pod pod) {
+            if (!service.getPodName().equals(pod.getMetadata().getName())) {
+                fireMemberAddedEvent(new Member(pod.getMetadata().getName()));
+            }
+        }
+
+        @Override
+        public void onUpdate(Pod oldPod, Pod newPod) {
+        }
+
+        @Override
+        public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+            if (!service.getPodName().equals(pod.getMetadata().getName())) {
+                fireMemberRemovedEvent(new Member(pod.getMetadata().getName()));
+            }
+        }
+    }
+
+    private final class LocalMember implements CamelClusterMember {
+        @Override
+        public boolean isLeader() {
+            return leader;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return true;
+        }
+
+        @Override
+        public String getId() {
+            return service.getPodName();
+        }
+    }
+
+    private final class Member implements CamelClusterMember {
+        private final String id;
+
+        private Member(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean isLeader() {
+            return id.equals(holder);
+        }
+
+        @Override
+        public boolean isLocal() {
+            return false;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -16,17 +16,37 @@
  */
 package org.apache.camel.quarkus.component.leveldb.deployment;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.quarkus.component.leveldb.CamelLevelDBConfig;
+import org.apache.camel.quarkus.component.leveldb.CamelLevelDBConfig.SerializerType;
+import org.apache.camel.quarkus.component.leveldb.CamelLevelDBRecorder;
+import org.apache.camel.quarkus.core.deployment.spi.CamelSerializationBuildItem;
 import org.apache.camel.support.DefaultExchangeHolder;
 import org.iq80.leveldb.impl.Iq80DBFactory;
 
 class LeveldbProcessor {
 
     private static final String FEATURE = "camel-leveldb";
+    private static final String[] BINARY_SERIALIZER_SERIALIZATION_CLASSES = {
+            BigDecimal.class.getName(),
+            CamelExchangeException.class.getName(),
+            IOException.class.getName(),
+            RuntimeCamelException.class.getName(),
+            UUID.class.getName(),
+    };
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -48,4 +68,28 @@ class LeveldbProcessor {
         resource.produce(new RuntimeInitializedClassBuildItem(
                 org.iq80.leveldb.table.Table.class.getName()));
     }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    void configureDefaultSerializer(CamelLevelDBRecorder recorder, CamelLevelDBConfig config) {
+        recorder.configureDefaultSerializer(config);
+    }
+
+    @BuildStep(onlyIf = BinarySerializerEnabled.class)
+    void registerForSerialization(
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<CamelSerializationBuildItem> camelSerialization) {
+        // The values not supported by the binary serializer fall back to Java serialization
+        camelSerialization.produce(new CamelSerializationBuildItem());
+        reflectiveClass.produce(ReflectiveClassBuildItem.serializationClass(BINARY_SERIALIZER_SERIALIZATION_CLASSES));
+    }
+
+    static final class BinarySerializerEnabled implements BooleanSupplier {
+        CamelLevelDBConfig config;
+
+        @Override
+        public boolean getAsBoolean() {
+            return config.serializer == SerializerType.BINARY;
+        }
+    }
 }
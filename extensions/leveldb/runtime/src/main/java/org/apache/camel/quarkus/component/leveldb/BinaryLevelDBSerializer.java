@@ -0,0 +1,515 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.leveldb;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Message;
+import org.apache.camel.component.leveldb.LevelDBSerializer;
+import org.apache.camel.support.DefaultExchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link LevelDBSerializer} writing exchanges in a compact binary format: length prefixed strings and raw
+ * {@code byte[]} bodies, type tags for the common JDK types of bodies, headers and exchange properties and
+ * {@link LevelDBValueCodec}s for other types. Collections and maps of supported values are read back as
+ * {@link ArrayList} and {@link LinkedHashMap}.
+ * <p>
+ * Values are written without reflection, so no extra native image configuration is needed unless the Java
+ * serialization fallback is used. Values of other types than the supported ones fall back to Java serialization if
+ * they are {@link Serializable}. For headers, exchange properties and the exception, this only happens if
+ * {@code allowSerializedHeaders} is enabled on the repository, otherwise they are skipped as with the other
+ * serializers. A body that can be serialized neither way fails the operation.
+ * <p>
+ * The data written by this serializer cannot be read by the other serializers and vice versa.
+ */
+public class BinaryLevelDBSerializer implements LevelDBSerializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryLevelDBSerializer.class);
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte SHORT = 7;
+    private static final byte BYTE = 8;
+    private static final byte BOOLEAN = 9;
+    private static final byte CHARACTER = 10;
+    private static final byte DATE = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte BIG_INTEGER = 13;
+    private static final byte UUID_VALUE = 14;
+    private static final byte LIST = 15;
+    private static final byte MAP = 16;
+    private static final byte CODEC = 17;
+    private static final byte SERIALIZED = 18;
+
+    private static final Map<Class<?>, Byte> BUILTIN_TAGS = Map.ofEntries(
+            Map.entry(String.class, STRING),
+            Map.entry(byte[].class, BYTES),
+            Map.entry(Integer.class, INTEGER),
+            Map.entry(Long.class, LONG),
+            Map.entry(Double.class, DOUBLE),
+            Map.entry(Float.class, FLOAT),
+            Map.entry(Short.class, SHORT),
+            Map.entry(Byte.class, BYTE),
+            Map.entry(Boolean.class, BOOLEAN),
+            Map.entry(Character.class, CHARACTER),
+            Map.entry(Date.class, DATE),
+            Map.entry(BigDecimal.class, BIG_DECIMAL),
+            Map.entry(BigInteger.class, BIG_INTEGER),
+            Map.entry(UUID.class, UUID_VALUE));
+
+    private static final ExchangePropertyKey[] AGGREGATION_PROPERTIES = {
+            ExchangePropertyKey.AGGREGATED_SIZE,
+            ExchangePropertyKey.AGGREGATED_TIMEOUT,
+            ExchangePropertyKey.AGGREGATED_COMPLETED_BY,
+            ExchangePropertyKey.AGGREGATED_CORRELATION_KEY
+    };
+    private static final String AGGREGATED_COLLECTION_GUARD = "CamelAggregatedCollectionGuard";
+    private static final String AGGREGATED_FROM_ENDPOINT = "CamelAggregatedFromEndpoint";
+
+    private final List<LevelDBValueCodec<?>> codecs = new CopyOnWriteArrayList<>();
+    private final Map<String, LevelDBValueCodec<?>> codecsById = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<LevelDBValueCodec<?>>> codecsByType = new ConcurrentHashMap<>();
+
+    public BinaryLevelDBSerializer() {
+    }
+
+    public BinaryLevelDBSerializer(LevelDBValueCodec<?>... codecs) {
+        for (LevelDBValueCodec<?> codec : codecs) {
+            addCodec(codec);
+        }
+    }
+
+    /**
+     * Registers a codec for values of a type not supported out of the box. Codecs take precedence over the built-in
+     * types and are looked up in registration order.
+     */
+    public void addCodec(LevelDBValueCodec<?> codec) {
+        if (codecsById.putIfAbsent(codec.getId(), codec) != null) {
+            throw new IllegalArgumentException("A codec with id " + codec.getId() + " is already registered");
+        }
+        codecs.add(codec);
+        codecsByType.clear();
+    }
+
+    @Override
+    public byte[] serializeKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String deserializeKey(byte[] buffer) {
+        return new String(buffer, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        Message message = exchange.getMessage();
+        ExchangeOutput out = new ExchangeOutput(256 + estimateSize(message.getBody()));
+
+        out.writeByte(FORMAT_VERSION);
+        writeNullableString(exchange.getExchangeId(), out);
+        writeMessage(message, allowSerializedHeaders, out);
+
+        Map<String, Object> properties = new LinkedHashMap<>(exchange.getProperties());
+        for (ExchangePropertyKey key : AGGREGATION_PROPERTIES) {
+            Object value = exchange.getProperty(key);
+            if (value != null) {
+                properties.put(key.getName(), value);
+            }
+        }
+        Object guard = exchange.getProperty(AGGREGATED_COLLECTION_GUARD);
+        if (guard != null) {
+            properties.put(AGGREGATED_COLLECTION_GUARD, guard);
+        }
+        if (exchange.getFromEndpoint() != null) {
+            properties.put(AGGREGATED_FROM_ENDPOINT, exchange.getFromEndpoint().getEndpointUri());
+        }
+        writeEntries("exchange property", properties, allowSerializedHeaders, out);
+
+        int position = out.position();
+        if (!writeValue(exchange.getException(), allowSerializedHeaders, out)) {
+            LOG.debug("Skipping the exception of exchange {} as it cannot be serialized", exchange.getExchangeId());
+            out.truncate(position);
+            writeValue(null, false, out);
+        }
+
+        return out.toByteArray();
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer));
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary exchange format version " + version);
+        }
+
+        Exchange exchange = new DefaultExchange(camelContext);
+        String exchangeId = readNullableString(in);
+        if (exchangeId != null) {
+            exchange.setExchangeId(exchangeId);
+        }
+        readMessage(exchange.getIn(), in);
+        readEntries(in).forEach(exchange::setProperty);
+        Object exception = readValue(in);
+        if (exception instanceof Throwable) {
+            exchange.setException((Throwable) exception);
+        }
+        return exchange;
+    }
+
+    private void writeMessage(Message message, boolean allowSerializedHeaders, ExchangeOutput out) throws IOException {
+        Object body = message.getBody();
+        if (!writeValue(body, true, out)) {
+            throw new IOException("Cannot serialize the body of type " + body.getClass().getName()
+                    + ", register a " + LevelDBValueCodec.class.getSimpleName() + " for it");
+        }
+        writeEntries("header", message.getHeaders(), allowSerializedHeaders, out);
+    }
+
+    private void readMessage(Message message, DataInput in) throws IOException {
+        message.setBody(readValue(in));
+        Map<String, Object> headers = readEntries(in);
+        if (!headers.isEmpty()) {
+            message.setHeaders(headers);
+        }
+    }
+
+    private void writeEntries(String kind, Map<String, Object> entries, boolean allowSerialized, ExchangeOutput out)
+            throws IOException {
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            int position = out.position();
+            out.writeBoolean(true);
+            writeString(entry.getKey(), out);
+            if (!writeValue(value, allowSerialized, out)) {
+                LOG.debug("Skipping {} {} of type {} as it cannot be serialized", kind, entry.getKey(),
+                        value.getClass().getName());
+                out.truncate(position);
+            }
+        }
+        out.writeBoolean(false);
+    }
+
+    private Map<String, Object> readEntries(DataInput in) throws IOException {
+        Map<String, Object> entries = new HashMap<>();
+        while (in.readBoolean()) {
+            String key = readString(in);
+            entries.put(key, readValue(in));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the value in a single pass over its content.
+     *
+     * @return {@code false} if the value or one of its elements cannot be serialized, in which case the caller has to
+     *         truncate what was partially written
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private boolean writeValue(Object value, boolean allowSerialized, ExchangeOutput out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return true;
+        }
+
+        LevelDBValueCodec codec = findCodec(value.getClass());
+        if (codec != null) {
+            out.writeByte(CODEC);
+            writeString(codec.getId(), out);
+            codec.write(value, out);
+            return true;
+        }
+
+        Byte tag = BUILTIN_TAGS.get(value.getClass());
+        if (tag != null) {
+            out.writeByte(tag);
+            switch (tag) {
+            case STRING:
+                writeString((String) value, out);
+                break;
+            case BYTES:
+                writeBytes((byte[]) value, out);
+                break;
+            case INTEGER:
+                out.writeInt((Integer) value);
+                break;
+            case LONG:
+                out.writeLong((Long) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case CHARACTER:
+                out.writeChar((Character) value);
+                break;
+            case DATE:
+                out.writeLong(((Date) value).getTime());
+                break;
+            case BIG_DECIMAL:
+                writeString(value.toString(), out);
+                break;
+            case BIG_INTEGER:
+                writeBytes(((BigInteger) value).toByteArray(), out);
+                break;
+            case UUID_VALUE:
+                out.writeLong(((UUID) value).getMostSignificantBits());
+                out.writeLong(((UUID) value).getLeastSignificantBits());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected type tag " + tag);
+            }
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(collection.size());
+            for (Object element : collection) {
+                if (!writeValue(element, allowSerialized, out)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!writeValue(entry.getKey(), allowSerialized, out)
+                        || !writeValue(entry.getValue(), allowSerialized, out)) {
+                    return false;
+                }
+            }
+        } else if (allowSerialized && value instanceof Serializable) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                objectOut.writeObject(value);
+            } catch (NotSerializableException e) {
+                return false;
+            }
+            out.writeByte(SERIALIZED);
+            writeBytes(bytes.toByteArray(), out);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+        case NULL:
+            return null;
+        case STRING:
+            return readString(in);
+        case BYTES:
+            return readBytes(in);
+        case INTEGER:
+            return in.readInt();
+        case LONG:
+            return in.readLong();
+        case DOUBLE:
+            return in.readDouble();
+        case FLOAT:
+            return in.readFloat();
+        case SHORT:
+            return in.readShort();
+        case BYTE:
+            return in.readByte();
+        case BOOLEAN:
+            return in.readBoolean();
+        case CHARACTER:
+            return in.readChar();
+        case DATE:
+            return new Date(in.readLong());
+        case BIG_DECIMAL:
+            return new BigDecimal(readString(in));
+        case BIG_INTEGER:
+            return new BigInteger(readBytes(in));
+        case UUID_VALUE:
+            return new UUID(in.readLong(), in.readLong());
+        case LIST: {
+            int size = in.readInt();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readValue(in));
+            }
+            return list;
+        }
+        case MAP: {
+            int size = in.readInt();
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(readValue(in), readValue(in));
+            }
+            return map;
+        }
+        case CODEC: {
+            String id = readString(in);
+            LevelDBValueCodec<?> codec = codecsById.get(id);
+            if (codec == null) {
+                throw new IOException("No " + LevelDBValueCodec.class.getSimpleName() + " registered with id " + id);
+            }
+            return codec.read(in);
+        }
+        case SERIALIZED:
+            try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                return objectIn.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        default:
+            throw new IOException("Unknown type tag " + tag);
+        }
+    }
+
+    private LevelDBValueCodec<?> findCodec(Class<?> type) {
+        if (codecs.isEmpty()) {
+            return null;
+        }
+        return codecsByType.computeIfAbsent(type, t -> {
+            for (LevelDBValueCodec<?> codec : codecs) {
+                if (codec.getType().isAssignableFrom(t)) {
+                    return Optional.of(codec);
+                }
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
+    private static int estimateSize(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        } else if (body instanceof String) {
+            return ((String) body).length();
+        }
+        return 0;
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableString(String value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(value, out);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    private static void writeBytes(byte[] value, DataOutput out) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+
+    /**
+     * Allows dropping the bytes of a value written before it turned out that it cannot be serialized.
+     */
+    private static final class ExchangeOutput extends DataOutputStream {
+
+        ExchangeOutput(int initialSize) {
+            super(new Buffer(initialSize));
+        }
+
+        int position() {
+            return ((Buffer) out).size();
+        }
+
+        void truncate(int size) {
+            ((Buffer) out).truncate(size);
+        }
+
+        byte[] toByteArray() {
+            return ((Buffer) out).toByteArray();
+        }
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        Buffer(int initialSize) {
+            super(initialSize);
+        }
+
+        void truncate(int size) {
+            count = size;
+        }
+    }
+}
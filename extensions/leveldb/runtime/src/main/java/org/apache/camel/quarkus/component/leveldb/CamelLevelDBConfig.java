@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.leveldb;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "camel.leveldb", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class CamelLevelDBConfig {
+
+    /**
+     * The serializer of the `QuarkusLevelDBAggregationRepository` instances created without a Jackson `Module`.
+     * `jackson` writes the aggregated exchanges as JSON, `binary` uses the `BinaryLevelDBSerializer`. The serializer of
+     * a repository can still be replaced with `setSerializer()`.
+     *
+     * With `binary`, the JDK types used by the Java serialization fallback of the serializer are registered for
+     * serialization in native mode.
+     */
+    @ConfigItem(defaultValue = "jackson")
+    public SerializerType serializer;
+
+    public enum SerializerType {
+        JACKSON,
+        BINARY
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.leveldb;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.iq80.leveldb.DB;
+import org.iq80.leveldb.DBException;
+import org.iq80.leveldb.DBIterator;
+import org.iq80.leveldb.Range;
+import org.iq80.leveldb.ReadOptions;
+import org.iq80.leveldb.Snapshot;
+import org.iq80.leveldb.WriteBatch;
+import org.iq80.leveldb.WriteOptions;
+
+/**
+ * Group commit on top of a {@link DB}. The thread holding {@link #commitLock} writes the operations queued by all
+ * threads in a single batch, the other threads wait for the lock and return once they find their write done.
+ */
+class GroupCommitDB implements DB {
+
+    private final DB delegate;
+    private final int maxOperations;
+    private final long maxDelayNanos;
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final ArrayDeque<PendingWrite> queue = new ArrayDeque<>();
+    private int queuedOperations;
+
+    GroupCommitDB(DB delegate, int maxOperations, long maxDelayNanos) {
+        this.delegate = delegate;
+        this.maxOperations = maxOperations;
+        this.maxDelayNanos = maxDelayNanos;
+    }
+
+    @Override
+    public byte[] get(byte[] key) throws DBException {
+        return delegate.get(key);
+    }
+
+    @Override
+    public byte[] get(byte[] key, ReadOptions options) throws DBException {
+        return delegate.get(key, options);
+    }
+
+    @Override
+    public DBIterator iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public DBIterator iterator(ReadOptions options) {
+        return delegate.iterator(options);
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws DBException {
+        submit(List.of(new Operation(key, value)), false);
+    }
+
+    @Override
+    public void delete(byte[] key) throws DBException {
+        submit(List.of(new Operation(key, null)), false);
+    }
+
+    @Override
+    public void write(WriteBatch updates) throws DBException {
+        write(updates, new WriteOptions());
+    }
+
+    @Override
+    public WriteBatch createWriteBatch() {
+        return new RecordingWriteBatch();
+    }
+
+    @Override
+    public Snapshot put(byte[] key, byte[] value, WriteOptions options) throws DBException {
+        submit(List.of(new Operation(key, value)), options.sync());
+        return null;
+    }
+
+    @Override
+    public Snapshot delete(byte[] key, WriteOptions options) throws DBException {
+        submit(List.of(new Operation(key, null)), options.sync());
+        return null;
+    }
+
+    @Override
+    public Snapshot write(WriteBatch updates, WriteOptions options) throws DBException {
+        if (updates instanceof RecordingWriteBatch) {
+            List<Operation> operations = ((RecordingWriteBatch) updates).operations;
+            if (!operations.isEmpty()) {
+                submit(new ArrayList<>(operations), options.sync());
+            }
+            return null;
+        }
+        commitLock.lock();
+        try {
+            return delegate.write(updates, options);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    @Override
+    public long[] getApproximateSizes(Range... ranges) {
+        return delegate.getApproximateSizes(ranges);
+    }
+
+    @Override
+    public String getProperty(String name) {
+        return delegate.getProperty(name);
+    }
+
+    @Override
+    public void suspendCompactions() throws InterruptedException {
+        delegate.suspendCompactions();
+    }
+
+    @Override
+    public void resumeCompactions() {
+        delegate.resumeCompactions();
+    }
+
+    @Override
+    public void compactRange(byte[] begin, byte[] end) throws DBException {
+        delegate.compactRange(begin, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private void submit(List<Operation> operations, boolean sync) {
+        PendingWrite pending = new PendingWrite(operations, sync);
+        synchronized (queue) {
+            queue.add(pending);
+            queuedOperations += operations.size();
+            if (queuedOperations >= maxOperations) {
+                queue.notifyAll();
+            }
+        }
+
+        commitLock.lock();
+        try {
+            while (!pending.done) {
+                awaitOperations();
+                commit(drain());
+            }
+        } finally {
+            commitLock.unlock();
+        }
+
+        if (pending.failure != null) {
+            throw new DBException(pending.failure);
+        }
+    }
+
+    private void awaitOperations() {
+        if (maxDelayNanos <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + maxDelayNanos;
+        synchronized (queue) {
+            long remaining = maxDelayNanos;
+            while (queuedOperations < maxOperations && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(queue, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    private List<PendingWrite> drain() {
+        List<PendingWrite> group = new ArrayList<>();
+        synchronized (queue) {
+            int operations = 0;
+            while (!queue.isEmpty() && (group.isEmpty() || operations + queue.peek().operations.size() <= maxOperations)) {
+                PendingWrite pending = queue.poll();
+                operations += pending.operations.size();
+                group.add(pending);
+            }
+            queuedOperations -= operations;
+        }
+        return group;
+    }
+
+    private void commit(List<PendingWrite> group) {
+        boolean sync = false;
+        Throwable failure = null;
+        try (WriteBatch batch = delegate.createWriteBatch()) {
+            for (PendingWrite pending : group) {
+                sync |= pending.sync;
+                for (Operation operation : pending.operations) {
+                    if (operation.value != null) {
+                        batch.put(operation.key, operation.value);
+                    } else {
+                        batch.delete(operation.key);
+                    }
+                }
+            }
+            delegate.write(batch, new WriteOptions().sync(sync));
+        } catch (Throwable e) {
+            failure = e;
+        }
+        for (PendingWrite pending : group) {
+            pending.failure = failure;
+            pending.done = true;
+        }
+    }
+
+    static final class Operation {
+        final byte[] key;
+        final byte[] value;
+
+        Operation(byte[] key, byte[] value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    static final class PendingWrite {
+        final List<Operation> operations;
+        final boolean sync;
+        // Guarded by commitLock
+        boolean done;
+        Throwable failure;
+
+        PendingWrite(List<Operation> operations, boolean sync) {
+            this.operations = operations;
+            this.sync = sync;
+        }
+    }
+
+    static final class RecordingWriteBatch implements WriteBatch {
+        final List<Operation> operations = new ArrayList<>();
+
+        @Override
+        public WriteBatch put(byte[] key, byte[] value) {
+            operations.add(new Operation(key, value));
+            return this;
+        }
+
+        @Override
+        public WriteBatch delete(byte[] key) {
+            operations.add(new Operation(key, null));
+            return this;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
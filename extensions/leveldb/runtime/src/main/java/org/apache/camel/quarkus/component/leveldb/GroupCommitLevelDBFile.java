@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.leveldb;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.leveldb.LevelDBFile;
+import org.iq80.leveldb.DB;
+
+/**
+ * A {@link LevelDBFile} coalescing the writes issued concurrently by several threads into a single {@code WriteBatch},
+ * so that they share a single write and, if {@code sync} is enabled, a single fsync.
+ * <p>
+ * A thread issuing a write blocks until the batch containing it was written, so the write is visible to subsequent
+ * reads and is as durable as with the plain {@link LevelDBFile} once the call returns. A batch is written as soon as
+ * the
+ * previous one is done. With a {@code maxDelay} greater than zero, the writer waits up to the given time for
+ * {@code maxOperations} writes to be queued before writing the batch, trading latency for fewer, larger writes.
+ */
+public class GroupCommitLevelDBFile extends LevelDBFile {
+
+    private int maxOperations = 1000;
+    private long maxDelay;
+    private volatile GroupCommitDB groupCommitDb;
+
+    @Override
+    public DB getDb() {
+        GroupCommitDB db = groupCommitDb;
+        return db != null ? db : super.getDb();
+    }
+
+    public int getMaxOperations() {
+        return maxOperations;
+    }
+
+    /**
+     * Sets the maximum number of operations written in a single batch.
+     */
+    public void setMaxOperations(int maxOperations) {
+        if (maxOperations <= 0) {
+            throw new IllegalArgumentException("maxOperations must be a positive integer: " + maxOperations);
+        }
+        this.maxOperations = maxOperations;
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Sets the maximum time in milliseconds to wait for further writes before writing a batch with less than
+     * {@code maxOperations} operations. Defaults to {@code 0}, meaning a batch contains the writes queued while the
+     * previous batch was being written.
+     */
+    public void setMaxDelay(long maxDelay) {
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelay);
+        }
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        groupCommitDb = new GroupCommitDB(super.getDb(), maxOperations, TimeUnit.MILLISECONDS.toNanos(maxDelay));
+    }
+
+    @Override
+    public void stop() {
+        groupCommitDb = null;
+        super.stop();
+    }
+}
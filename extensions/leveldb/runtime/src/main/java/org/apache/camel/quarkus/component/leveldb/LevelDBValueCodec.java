@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.leveldb;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads values of a given type for {@link BinaryLevelDBSerializer}. Register implementations for body,
+ * header or exchange property types the serializer does not support out of the box.
+ *
+ * @param <T> the type of the values handled by this codec
+ */
+public interface LevelDBValueCodec<T> {
+
+    /**
+     * @return an identifier of this codec stored along with every value it writes. It must not change once data were
+     *         written with this codec.
+     */
+    String getId();
+
+    /**
+     * @return the type of the values handled by this codec. The codec is also used for subtypes of this type.
+     */
+    Class<T> getType();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
@@ -20,9 +20,16 @@ import com.fasterxml.jackson.databind.Module;
 import org.apache.camel.component.leveldb.LevelDBAggregationRepository;
 import org.apache.camel.component.leveldb.LevelDBFile;
 import org.apache.camel.component.leveldb.serializer.JacksonLevelDBSerializer;
+import org.apache.camel.quarkus.component.leveldb.CamelLevelDBConfig.SerializerType;
 
 public class QuarkusLevelDBAggregationRepository extends LevelDBAggregationRepository {
 
+    private static volatile SerializerType defaultSerializerType = SerializerType.JACKSON;
+
+    private boolean groupCommit;
+    private int groupCommitMaxOperations = 1000;
+    private long groupCommitMaxDelay;
+
     public QuarkusLevelDBAggregationRepository() {
         initSerializer(null);
     }
@@ -64,7 +71,63 @@ public class QuarkusLevelDBAggregationRepository extends LevelDBAggregationRepos
         initSerializer(module);
     }
 
+    public boolean isGroupCommit() {
+        return groupCommit;
+    }
+
+    /**
+     * Whether the writes issued concurrently to the repository should be written to LevelDB in batches. Only applies
+     * if the repository is created with a {@code persistentFileName}, pass a {@link GroupCommitLevelDBFile} otherwise.
+     */
+    public void setGroupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    public int getGroupCommitMaxOperations() {
+        return groupCommitMaxOperations;
+    }
+
+    /**
+     * Sets the maximum number of operations written in a single batch when {@code groupCommit} is enabled.
+     */
+    public void setGroupCommitMaxOperations(int groupCommitMaxOperations) {
+        this.groupCommitMaxOperations = groupCommitMaxOperations;
+    }
+
+    public long getGroupCommitMaxDelay() {
+        return groupCommitMaxDelay;
+    }
+
+    /**
+     * Sets the maximum time in milliseconds to wait for further writes before writing a batch when {@code groupCommit}
+     * is enabled.
+     */
+    public void setGroupCommitMaxDelay(long groupCommitMaxDelay) {
+        this.groupCommitMaxDelay = groupCommitMaxDelay;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (groupCommit && getLevelDBFile() == null && getPersistentFileName() != null) {
+            GroupCommitLevelDBFile file = new GroupCommitLevelDBFile();
+            file.setFileName(getPersistentFileName());
+            file.setSync(isSync());
+            file.setMaxOperations(groupCommitMaxOperations);
+            file.setMaxDelay(groupCommitMaxDelay);
+            setLevelDBFile(file);
+        }
+        super.doStart();
+    }
+
+    static void setDefaultSerializerType(SerializerType serializerType) {
+        defaultSerializerType = serializerType;
+    }
+
     private void initSerializer(Module module) {
+        if (module == null && defaultSerializerType == SerializerType.BINARY) {
+            setSerializer(new BinaryLevelDBSerializer());
+            return;
+        }
         JacksonLevelDBSerializer serializer = new JacksonLevelDBSerializer(module);
         setSerializer(serializer);
     }
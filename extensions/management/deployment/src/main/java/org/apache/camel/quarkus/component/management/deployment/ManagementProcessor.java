@@ -20,6 +20,7 @@ import java.lang.reflect.Modifier;
 import java.rmi.NotBoundException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -33,6 +34,8 @@ import javax.management.modelmbean.ModelMBeanInfoSupport;
 import javax.management.modelmbean.ModelMBeanOperationInfo;
 import javax.management.modelmbean.RequiredModelMBean;
 
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -41,12 +44,16 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.vertx.http.deployment.spi.RouteBuildItem;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedNotification;
 import org.apache.camel.api.management.ManagedNotifications;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.quarkus.component.management.CamelManagementConfig;
 import org.apache.camel.quarkus.component.management.CamelManagementRecorder;
+import org.apache.camel.quarkus.component.management.PerformanceCounters;
+import org.apache.camel.quarkus.core.deployment.spi.CamelContextBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelSerializationBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.RuntimeCamelContextCustomizerBuildItem;
 import org.jboss.jandex.AnnotationInstance;
@@ -125,6 +132,37 @@ class ManagementProcessor {
         return new RuntimeCamelContextCustomizerBuildItem(recorder.createContextCustomizer());
     }
 
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = PerformanceCountersEnabled.class)
+    void configurePerformanceCounters(
+            CamelManagementRecorder recorder,
+            CamelManagementConfig config,
+            BuildProducer<RuntimeCamelContextCustomizerBuildItem> runtimeContextCustomizer,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        runtimeContextCustomizer.produce(
+                new RuntimeCamelContextCustomizerBuildItem(recorder.createPerformanceCountersCustomizer(config)));
+
+        // The MBean assembler introspects the managed operations of the counters
+        reflectiveClass.produce(ReflectiveClassBuildItem.builder(PerformanceCounters.class).methods().build());
+    }
+
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @BuildStep(onlyIf = PerformanceCountersEnabled.class)
+    void performanceCountersRoute(
+            CamelManagementRecorder recorder,
+            CamelManagementConfig config,
+            Capabilities capabilities,
+            CamelContextBuildItem camelContext,
+            BuildProducer<RouteBuildItem> routes) {
+        // Serve the statistics as JSON if the application exposes HTTP endpoints
+        if (capabilities.isPresent(Capability.VERTX_HTTP)) {
+            routes.produce(RouteBuildItem.newFrameworkRoute(config.performanceCounters.httpPath)
+                    .withRequestHandler(recorder.createPerformanceCountersHandler(camelContext.getCamelContext()))
+                    .displayOnNotFoundPage("Camel performance counters")
+                    .build());
+        }
+    }
+
     private Set<String> getManagedTypes(IndexView index, Predicate<ClassInfo> typeFilter) {
         return Stream.of(CAMEL_MANAGEMENT_ANNOTATIONS)
                 .flatMap(annotation -> index.getAnnotations(annotation).stream())
@@ -145,4 +183,13 @@ class ManagementProcessor {
                 .map(classInfo -> classInfo.name().toString())
                 .collect(Collectors.toSet());
     }
+
+    static final class PerformanceCountersEnabled implements BooleanSupplier {
+        CamelManagementConfig config;
+
+        @Override
+        public boolean getAsBoolean() {
+            return config.performanceCounters.enabled;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.management;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "camel.management", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class CamelManagementConfig {
+
+    /**
+     * Configuration options for the lock free performance counters of the routes and processors.
+     */
+    @ConfigItem
+    public PerformanceCountersConfig performanceCounters;
+
+    @ConfigGroup
+    public static class PerformanceCountersConfig {
+
+        /**
+         * Set whether to record the processing time of the routes and processors with lock free performance counters.
+         *
+         * The statistics are exposed by the `dumpStatisticsAsJson` operation of the
+         * `org.apache.camel:type=services,name=PerformanceCounters(0x...)` MBean, and as JSON over HTTP when the
+         * application depends on `quarkus-vertx-http`. They supersede the upstream processor counters, so
+         * `camel.main.jmx-management-statistics-level` must be set to `RoutesOnly` or `Off`, otherwise the application
+         * fails to start.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The percentiles of the processing times to report.
+         */
+        @ConfigItem(defaultValue = "0.5,0.9,0.99")
+        public List<Double> percentiles;
+
+        /**
+         * The HTTP path serving the statistics as JSON. A relative path is resolved against
+         * `quarkus.http.non-application-root-path`.
+         */
+        @ConfigItem(defaultValue = "camel/performance-counters")
+        public String httpPath;
+    }
+}
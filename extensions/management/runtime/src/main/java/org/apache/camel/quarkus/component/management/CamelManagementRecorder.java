@@ -16,9 +16,14 @@
  */
 package org.apache.camel.quarkus.component.management;
 
+import java.util.List;
+
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.CamelContextCustomizer;
 
 @Recorder
@@ -28,6 +33,14 @@ public class CamelManagementRecorder {
         return new RuntimeValue<>(new CamelManagementCustomizer());
     }
 
+    public RuntimeValue<CamelContextCustomizer> createPerformanceCountersCustomizer(CamelManagementConfig config) {
+        return new RuntimeValue<>(new PerformanceCountersCustomizer(config.performanceCounters.percentiles));
+    }
+
+    public Handler<RoutingContext> createPerformanceCountersHandler(RuntimeValue<CamelContext> camelContext) {
+        return new PerformanceCountersHandler(camelContext.getValue());
+    }
+
     private static final class CamelManagementCustomizer implements CamelContextCustomizer {
 
         @Override
@@ -35,4 +48,25 @@ public class CamelManagementRecorder {
             context.setManagementName(context.getName());
         }
     }
+
+    private static final class PerformanceCountersCustomizer implements CamelContextCustomizer {
+        private final List<Double> percentiles;
+
+        PerformanceCountersCustomizer(List<Double> percentiles) {
+            this.percentiles = percentiles;
+        }
+
+        @Override
+        public void configure(CamelContext context) {
+            PerformanceCounters performanceCounters = new PerformanceCounters(context, percentiles);
+            context.getCamelContextExtension().addInterceptStrategy(performanceCounters);
+            context.addRoutePolicyFactory(performanceCounters);
+            try {
+                // Registers the counters as a JMX service
+                context.addService(performanceCounters);
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
 }
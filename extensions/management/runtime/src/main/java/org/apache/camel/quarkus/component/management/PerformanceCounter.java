@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.management;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.camel.Exchange;
+import org.apache.camel.util.json.JsonObject;
+
+/**
+ * Counts the exchanges processed by a route or a processor, and records their processing time.
+ * <p>
+ * Unlike the upstream {@code ManagedPerformanceCounter}, no lock is taken when an exchange completes: the counters are
+ * striped {@link LongAdder} and {@link LongAccumulator}, and the processing times are recorded by a wait free
+ * HdrHistogram {@link Recorder}. Only the readers of the statistics synchronize, in order to accumulate the recorded
+ * intervals.
+ */
+public final class PerformanceCounter {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final LongAdder exchangesCompleted = new LongAdder();
+    private final LongAdder exchangesFailed = new LongAdder();
+    private final LongAdder exchangesInflight = new LongAdder();
+    private final LongAdder totalProcessingTime = new LongAdder();
+    private final LongAccumulator minProcessingTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxProcessingTime = new LongAccumulator(Math::max, 0);
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    public void begin() {
+        exchangesInflight.increment();
+    }
+
+    /**
+     * Records the completion of an exchange.
+     *
+     * @param exchange the completed exchange
+     * @param nanos    the processing time of the exchange, in nanoseconds
+     */
+    public void done(Exchange exchange, long nanos) {
+        exchangesInflight.decrement();
+        if (exchange.isFailed()) {
+            exchangesFailed.increment();
+        } else {
+            exchangesCompleted.increment();
+        }
+        totalProcessingTime.add(nanos);
+        minProcessingTime.accumulate(nanos);
+        maxProcessingTime.accumulate(nanos);
+        recorder.recordValue(nanos);
+    }
+
+    public long getExchangesCompleted() {
+        return exchangesCompleted.sum();
+    }
+
+    public long getExchangesFailed() {
+        return exchangesFailed.sum();
+    }
+
+    public long getExchangesInflight() {
+        return exchangesInflight.sum();
+    }
+
+    public void reset() {
+        exchangesCompleted.reset();
+        exchangesFailed.reset();
+        totalProcessingTime.reset();
+        minProcessingTime.reset();
+        maxProcessingTime.reset();
+        synchronized (histogram) {
+            interval = recorder.getIntervalHistogram(interval);
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Returns the statistics of this counter, with the processing times in milliseconds.
+     *
+     * @param percentiles the percentiles of the processing times to report, between 0 and 1
+     */
+    public JsonObject toJson(List<Double> percentiles) {
+        JsonObject json = new JsonObject();
+        long completed = exchangesCompleted.sum();
+        long failed = exchangesFailed.sum();
+        long count = completed + failed;
+        json.put("exchangesCompleted", completed);
+        json.put("exchangesFailed", failed);
+        json.put("exchangesInflight", exchangesInflight.sum());
+        json.put("minProcessingTime", count > 0 ? millis(minProcessingTime.get()) : 0);
+        json.put("meanProcessingTime", count > 0 ? millis(totalProcessingTime.sum() / count) : 0);
+        json.put("maxProcessingTime", millis(maxProcessingTime.get()));
+        json.put("totalProcessingTime", millis(totalProcessingTime.sum()));
+
+        JsonObject percentileValues = new JsonObject();
+        synchronized (histogram) {
+            interval = recorder.getIntervalHistogram(interval);
+            histogram.add(interval);
+            for (Double percentile : percentiles) {
+                percentileValues.put(String.valueOf(percentile),
+                        histogram.getValueAtPercentile(percentile * 100) / (double) TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        json.put("processingTimePercentiles", percentileValues);
+        return json;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
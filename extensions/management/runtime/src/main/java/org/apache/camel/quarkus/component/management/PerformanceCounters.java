@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.management;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ManagementStatisticsLevel;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.quarkus.core.TimingProcessor;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.ManagementAgent;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+
+/**
+ * Keeps a {@link PerformanceCounter} for each route and each processor of the routes.
+ * <p>
+ * The counters are created when the routes are created, so that processing an exchange only reads the clock and
+ * updates the counter held by the route policy or by the processor wrapping the route node.
+ */
+@ManagedResource(description = "Lock free performance counters of the routes and processors")
+public class PerformanceCounters extends ServiceSupport implements InterceptStrategy, RoutePolicyFactory {
+
+    private static final String START_TIME_PROPERTY_PREFIX = "CamelQuarkusPerformanceCountersStartTime-";
+
+    private final Map<String, RouteCounters> routes = new ConcurrentHashMap<>();
+    private final CamelContext camelContext;
+    private final List<Double> percentiles;
+
+    public PerformanceCounters(CamelContext camelContext, List<Double> percentiles) {
+        this.camelContext = camelContext;
+        this.percentiles = percentiles;
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context,
+            NamedNode definition,
+            Processor target,
+            Processor nextTarget) {
+        PerformanceCounter counter = routeCounters(ProcessorDefinitionHelper.getRouteId(definition))
+                .processor(String.valueOf(definition.getId()));
+        return new PerformanceCounterProcessor(target, counter);
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext context, String routeId, NamedNode route) {
+        return new PerformanceCounterRoutePolicy(routeId, routeCounters(routeId).route);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ManagementAgent agent = camelContext.getManagementStrategy().getManagementAgent();
+        if (agent != null) {
+            ManagementStatisticsLevel level = agent.getStatisticsLevel();
+            if (level != ManagementStatisticsLevel.RoutesOnly && level != ManagementStatisticsLevel.Off) {
+                throw new IllegalStateException("The performance counters enabled by"
+                        + " quarkus.camel.management.performance-counters.enabled supersede the processor counters of"
+                        + " the statistics level " + level
+                        + ". Set camel.main.jmx-management-statistics-level to RoutesOnly or Off");
+            }
+        }
+    }
+
+    public PerformanceCounter getRouteCounter(String routeId) {
+        RouteCounters counters = routes.get(routeId);
+        return counters != null ? counters.route : null;
+    }
+
+    public PerformanceCounter getProcessorCounter(String routeId, String nodeId) {
+        RouteCounters counters = routes.get(routeId);
+        return counters != null ? counters.processors.get(nodeId) : null;
+    }
+
+    @ManagedOperation(description = "Dumps the statistics of the routes and processors as JSON")
+    public String dumpStatisticsAsJson() {
+        return toJson().toJson();
+    }
+
+    @ManagedOperation(description = "Resets the statistics of the routes and processors")
+    public void resetStatistics() {
+        routes.values().forEach(counters -> {
+            counters.route.reset();
+            counters.processors.values().forEach(PerformanceCounter::reset);
+        });
+    }
+
+    public JsonObject toJson() {
+        JsonArray routesJson = new JsonArray();
+        routes.forEach((routeId, counters) -> {
+            JsonObject routeJson = new JsonObject();
+            routeJson.put("routeId", routeId);
+            routeJson.putAll(counters.route.toJson(percentiles));
+
+            JsonArray processorsJson = new JsonArray();
+            counters.processors.forEach((nodeId, counter) -> {
+                JsonObject processorJson = new JsonObject();
+                processorJson.put("nodeId", nodeId);
+                processorJson.putAll(counter.toJson(percentiles));
+                processorsJson.add(processorJson);
+            });
+            routeJson.put("processors", processorsJson);
+            routesJson.add(routeJson);
+        });
+
+        JsonObject json = new JsonObject();
+        json.put("camelContext", camelContext.getName());
+        json.put("routes", routesJson);
+        return json;
+    }
+
+    private RouteCounters routeCounters(String routeId) {
+        return routes.computeIfAbsent(String.valueOf(routeId), key -> new RouteCounters());
+    }
+
+    private static final class RouteCounters {
+        private final PerformanceCounter route = new PerformanceCounter();
+        private final Map<String, PerformanceCounter> processors = new ConcurrentHashMap<>();
+
+        PerformanceCounter processor(String nodeId) {
+            return processors.computeIfAbsent(nodeId, key -> new PerformanceCounter());
+        }
+    }
+
+    private final class PerformanceCounterRoutePolicy extends RoutePolicySupport {
+        private final String routeId;
+        private final String startTimeProperty;
+        private final PerformanceCounter counter;
+
+        PerformanceCounterRoutePolicy(String routeId, PerformanceCounter counter) {
+            this.routeId = routeId;
+            this.startTimeProperty = START_TIME_PROPERTY_PREFIX + routeId;
+            this.counter = counter;
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            counter.begin();
+            exchange.setProperty(startTimeProperty, System.nanoTime());
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Long start = (Long) exchange.removeProperty(startTimeProperty);
+            if (start != null) {
+                counter.done(exchange, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            routes.remove(routeId);
+        }
+    }
+
+    private static final class PerformanceCounterProcessor extends TimingProcessor {
+        private final PerformanceCounter counter;
+
+        PerformanceCounterProcessor(Processor processor, PerformanceCounter counter) {
+            super(processor);
+            this.counter = counter;
+        }
+
+        @Override
+        protected void begin(Exchange exchange) {
+            counter.begin();
+        }
+
+        @Override
+        protected void done(Exchange exchange, long elapsedNanos) {
+            counter.done(exchange, elapsedNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "PerformanceCounterProcessor[" + processor + "]";
+        }
+    }
+}
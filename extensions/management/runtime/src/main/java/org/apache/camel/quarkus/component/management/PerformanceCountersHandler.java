@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.management;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.camel.CamelContext;
+
+/**
+ * Serves the statistics of the {@link PerformanceCounters} as JSON.
+ */
+public class PerformanceCountersHandler implements Handler<RoutingContext> {
+
+    private final CamelContext camelContext;
+
+    public PerformanceCountersHandler(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        if (routingContext.request().method() != HttpMethod.GET) {
+            routingContext.response().setStatusCode(405).putHeader("Allow", "GET").end();
+            return;
+        }
+        PerformanceCounters performanceCounters = camelContext.hasService(PerformanceCounters.class);
+        if (performanceCounters == null) {
+            routingContext.response().setStatusCode(404).end();
+            return;
+        }
+        routingContext.response()
+                .putHeader("Content-Type", "application/json")
+                .end(performanceCounters.dumpStatisticsAsJson());
+    }
+}
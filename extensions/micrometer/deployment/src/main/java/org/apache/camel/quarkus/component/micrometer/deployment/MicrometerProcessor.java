@@ -32,6 +32,7 @@ import org.apache.camel.quarkus.component.micrometer.CamelMicrometerConfig;
 import org.apache.camel.quarkus.component.micrometer.CamelMicrometerRecorder;
 import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextCustomizerBuildItem;
+import org.apache.camel.quarkus.core.deployment.spi.CamelEndpointUriNormalizerBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.RuntimeCamelContextCustomizerBuildItem;
 
 class MicrometerProcessor {
@@ -51,6 +52,12 @@ class MicrometerProcessor {
                 registry.getValue());
     }
 
+    @BuildStep(onlyIf = MicrometerEnabled.class)
+    CamelEndpointUriNormalizerBuildItem endpointUriNormalizer() {
+        // The node metrics tag the timers with the normalized endpoint URIs
+        return new CamelEndpointUriNormalizerBuildItem();
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep(onlyIf = MicrometerEnabled.class)
     CamelContextCustomizerBuildItem contextCustomizer(
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.micrometer.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Properties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.quarkus.component.micrometer.MicrometerNodeMetrics;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MicrometerNodeMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(Routes.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Test
+    public void testNodeMetrics() {
+        Timer setBody = timer("start", "set-body").timer();
+        assertNotNull(setBody);
+        assertEquals(0, setBody.count());
+
+        producerTemplate.sendBodyAndHeader("direct:start", "Hello", "target", "a?timeout=1000");
+        producerTemplate.sendBodyAndHeader("direct:start", "Hello", "target", "a?timeout=2000");
+        producerTemplate.sendBodyAndHeader("direct:start", "Hello", "target", "b");
+
+        assertEquals(3, setBody.count());
+
+        Timer endpointA = timer("start", "send-dynamic").tag("endpoint", "direct://a").timer();
+        assertNotNull(endpointA);
+        assertEquals(2, endpointA.count());
+        assertEquals(1, timer("start", "send-dynamic").tag("endpoint", MicrometerNodeMetrics.OTHER_ENDPOINTS).timer().count());
+        assertNull(timer("start", "send-dynamic").tag("endpoint", "direct://b").timer());
+
+        assertEquals(2, setBody.takeSnapshot().percentileValues().length);
+    }
+
+    @Test
+    public void testNodeFailuresCountedOnce() {
+        Counter fail = failures("failing", "fail").counter();
+        assertNotNull(fail);
+
+        assertThrows(CamelExecutionException.class, () -> producerTemplate.sendBody("direct:call-failing", "Hello"));
+
+        assertEquals(1, fail.count());
+        assertEquals(0, failures("failing", "choice").counter().count());
+        assertEquals(0, failures("call-failing", "call").counter().count());
+    }
+
+    private Search failures(String routeId, String nodeId) {
+        return meterRegistry.find(MicrometerNodeMetrics.NODE_FAILURES_METER_NAME)
+                .tag("routeId", routeId)
+                .tag("nodeId", nodeId);
+    }
+
+    private Search timer(String routeId, String nodeId) {
+        return meterRegistry.find(MicrometerNodeMetrics.NODE_PROCESSING_METER_NAME)
+                .tag("routeId", routeId)
+                .tag("nodeId", nodeId);
+    }
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.metrics.enable-node-metrics", "true");
+        props.setProperty("quarkus.camel.metrics.node-metrics-percentiles", "0.5,0.99");
+        props.setProperty("quarkus.camel.metrics.node-metrics-max-endpoint-uris", "1");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:start").routeId("start")
+                    .setBody().constant("Hello World").id("set-body")
+                    .toD("direct:${header.target}").id("send-dynamic");
+
+            from("direct:a").routeId("a")
+                    .log("${body}");
+
+            from("direct:b").routeId("b")
+                    .log("${body}");
+
+            from("direct:call-failing").routeId("call-failing")
+                    .to("direct:failing").id("call");
+
+            from("direct:failing").routeId("failing")
+                    .choice().id("choice")
+                    .when(constant(true))
+                    .throwException(new IllegalStateException("Forced")).id("fail")
+                    .end();
+        }
+    }
+}
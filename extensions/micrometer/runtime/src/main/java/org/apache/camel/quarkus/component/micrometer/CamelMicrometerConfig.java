@@ -16,6 +16,9 @@
  */
 package org.apache.camel.quarkus.component.micrometer;
 
+import java.util.List;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -59,4 +62,38 @@ public class CamelMicrometerConfig {
      */
     @ConfigItem(defaultValue = "false")
     public boolean enableInstrumentedThreadPoolFactory;
+
+    /**
+     * Set whether to record the processing time of every route node with a timer registered when the route is
+     * created.
+     *
+     * Unlike the MicrometerMessageHistoryFactory, the timers are looked up once at startup, so processing an exchange
+     * only records a sample against a pre-registered timer, without building tags or querying the meter registry.
+     * Nodes sending to dynamic endpoints (`toD`) get a timer per endpoint URI, capped by
+     * `quarkus.camel.metrics.node-metrics-max-endpoint-uris`.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enableNodeMetrics;
+
+    /**
+     * The percentiles published by the route node timers, e.g. `0.5,0.95,0.99`. The percentiles are computed in the
+     * application and cannot be aggregated across instances. No percentile is published by default.
+     */
+    @ConfigItem
+    public Optional<List<Double>> nodeMetricsPercentiles;
+
+    /**
+     * Set whether the route node timers publish a percentile histogram, which monitoring systems supporting
+     * aggregable percentiles (e.g. Prometheus) can use to compute percentiles across instances.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean nodeMetricsPercentileHistogram;
+
+    /**
+     * The maximum number of distinct endpoint URIs a node sending to dynamic endpoints registers a timer for. The
+     * URIs are normalized as configured by `quarkus.camel.uri-normalizer.*`, and the processing times for the URIs above
+     * this limit are recorded by a single timer with the `other` endpoint tag.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int nodeMetricsMaxEndpointUris;
 }
@@ -27,6 +27,7 @@ import org.apache.camel.component.micrometer.eventnotifier.MicrometerRouteEventN
 import org.apache.camel.component.micrometer.messagehistory.MicrometerMessageHistoryFactory;
 import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
 import org.apache.camel.component.micrometer.spi.InstrumentedThreadPoolFactory;
+import org.apache.camel.quarkus.core.EndpointUriNormalizer;
 import org.apache.camel.spi.CamelContextCustomizer;
 import org.apache.camel.spi.ManagementStrategy;
 
@@ -90,6 +91,17 @@ public class CamelMicrometerRecorder {
                 camelContext.getExecutorServiceManager().setThreadPoolFactory(instrumentedThreadPoolFactory);
             }
 
+            if (config.enableNodeMetrics) {
+                double[] percentiles = config.nodeMetricsPercentiles
+                        .map(values -> values.stream().mapToDouble(Double::doubleValue).toArray())
+                        .orElse(null);
+                EndpointUriNormalizer endpointUriNormalizer = camelContext.getCamelContextExtension()
+                        .getContextPlugin(EndpointUriNormalizer.class);
+                camelContext.getCamelContextExtension().addInterceptStrategy(new MicrometerNodeMetrics(meterRegistry,
+                        endpointUriNormalizer, percentiles, config.nodeMetricsPercentileHistogram,
+                        config.nodeMetricsMaxEndpointUris));
+            }
+
             if (!config.enableMessageHistory) {
                 return;
             }
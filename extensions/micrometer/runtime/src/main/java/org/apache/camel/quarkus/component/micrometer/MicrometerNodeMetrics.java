@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.micrometer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.EndpointAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.quarkus.core.EndpointUriNormalizer;
+import org.apache.camel.quarkus.core.TimingProcessor;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.util.URISupport;
+
+/**
+ * Records the processing time of the route nodes with timers registered when the routes are created.
+ * <p>
+ * Processing an exchange only reads the clock and records a sample against the timer held by the node, so that no
+ * tags are built and the meter registry is not queried on the hot path. The endpoint URIs are tagged as normalized by
+ * the {@link EndpointUriNormalizer}. The nodes sending to dynamic endpoints look their timer up by normalized endpoint
+ * URI, and stop registering new timers once {@code maxEndpointUris} URIs are known.
+ * <p>
+ * A failure is counted by the innermost node that completes with the failed exchange: the enclosing nodes, and the
+ * nodes of the calling routes, complete with the same failure afterwards and do not count it again.
+ */
+public class MicrometerNodeMetrics implements InterceptStrategy {
+
+    public static final String NODE_PROCESSING_METER_NAME = "camel.route.node.processing";
+    public static final String NODE_FAILURES_METER_NAME = "camel.route.node.failures";
+    public static final String OTHER_ENDPOINTS = "other";
+
+    private static final String CAMEL_CONTEXT_TAG = "camelContext";
+    private static final String ROUTE_ID_TAG = "routeId";
+    private static final String NODE_ID_TAG = "nodeId";
+    private static final String ENDPOINT_TAG = "endpoint";
+    private static final String COUNTED_FAILURE_PROPERTY = "CamelQuarkusMicrometerNodeCountedFailure";
+
+    private final MeterRegistry meterRegistry;
+    private final EndpointUriNormalizer endpointUriNormalizer;
+    private final double[] percentiles;
+    private final boolean percentileHistogram;
+    private final int maxEndpointUris;
+
+    public MicrometerNodeMetrics(MeterRegistry meterRegistry, EndpointUriNormalizer endpointUriNormalizer,
+            double[] percentiles, boolean percentileHistogram, int maxEndpointUris) {
+        this.meterRegistry = meterRegistry;
+        this.endpointUriNormalizer = endpointUriNormalizer;
+        this.percentiles = percentiles;
+        this.percentileHistogram = percentileHistogram;
+        this.maxEndpointUris = maxEndpointUris;
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context,
+            NamedNode definition,
+            Processor target,
+            Processor nextTarget) {
+        Tags tags = Tags.of(
+                CAMEL_CONTEXT_TAG, context.getName(),
+                ROUTE_ID_TAG, String.valueOf(ProcessorDefinitionHelper.getRouteId(definition)),
+                NODE_ID_TAG, String.valueOf(definition.getId()));
+        Counter failures = Counter.builder(NODE_FAILURES_METER_NAME)
+                .description("The number of exchanges failed by a route node")
+                .tags(tags)
+                .register(meterRegistry);
+
+        if ("toD".equals(definition.getShortName())) {
+            return new DynamicEndpointNodeMetricsProcessor(target, tags, failures);
+        }
+        if (target instanceof EndpointAware) {
+            tags = tags.and(ENDPOINT_TAG, endpointUri(((EndpointAware) target).getEndpoint().getEndpointUri()));
+        }
+        return new NodeMetricsProcessor(target, timer(tags), failures);
+    }
+
+    Timer timer(Tags tags) {
+        return Timer.builder(NODE_PROCESSING_METER_NAME)
+                .description("The processing time of a route node")
+                .tags(tags)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+
+    String endpointUri(String uri) {
+        if (endpointUriNormalizer != null) {
+            return endpointUriNormalizer.normalize(uri);
+        }
+        return URISupport.sanitizeUri(URISupport.stripQuery(uri));
+    }
+
+    private abstract class AbstractNodeMetricsProcessor extends TimingProcessor {
+        private final Clock clock = meterRegistry.config().clock();
+        private final Counter failures;
+
+        AbstractNodeMetricsProcessor(Processor processor, Counter failures) {
+            super(processor);
+            this.failures = failures;
+        }
+
+        @Override
+        protected void done(Exchange exchange, long elapsedNanos) {
+            timer(exchange).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (exchange.isFailed()) {
+                countFailure(exchange);
+            }
+        }
+
+        @Override
+        protected long nanoTime() {
+            return clock.monotonicTime();
+        }
+
+        private void countFailure(Exchange exchange) {
+            // An exchange can be failed by setting it rollback only, without an exception
+            Object failure = exchange.getException() != null ? exchange.getException() : Boolean.TRUE;
+            if (exchange.getProperty(COUNTED_FAILURE_PROPERTY) != failure) {
+                exchange.setProperty(COUNTED_FAILURE_PROPERTY, failure);
+                failures.increment();
+            }
+        }
+
+        abstract Timer timer(Exchange exchange);
+    }
+
+    private final class NodeMetricsProcessor extends AbstractNodeMetricsProcessor {
+        private final Timer timer;
+
+        NodeMetricsProcessor(Processor processor, Timer timer, Counter failures) {
+            super(processor, failures);
+            this.timer = timer;
+        }
+
+        @Override
+        Timer timer(Exchange exchange) {
+            return timer;
+        }
+
+        @Override
+        public String toString() {
+            return "NodeMetricsProcessor[" + processor + "]";
+        }
+    }
+
+    private final class DynamicEndpointNodeMetricsProcessor extends AbstractNodeMetricsProcessor {
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final Tags tags;
+        private final Timer otherEndpoints;
+
+        DynamicEndpointNodeMetricsProcessor(Processor processor, Tags tags, Counter failures) {
+            super(processor, failures);
+            this.tags = tags;
+            this.otherEndpoints = MicrometerNodeMetrics.this.timer(tags.and(ENDPOINT_TAG, OTHER_ENDPOINTS));
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            // Clear the endpoint of a previous send, so that it cannot be mistaken for the one of this node when the
+            // dynamic endpoint fails to resolve
+            Object previousEndpoint = exchange.removeProperty(ExchangePropertyKey.TO_ENDPOINT);
+            return super.process(exchange, doneSync -> {
+                if (previousEndpoint != null && exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT) == null) {
+                    exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, previousEndpoint);
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        Timer timer(Exchange exchange) {
+            String uri = exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT, String.class);
+            if (uri == null) {
+                return otherEndpoints;
+            }
+            // Dynamic endpoints commonly carry per exchange values, turn them into a URI template
+            uri = endpointUri(uri);
+            Timer timer = timers.get(uri);
+            if (timer == null) {
+                if (timers.size() >= maxEndpointUris) {
+                    return otherEndpoints;
+                }
+                timer = timers.computeIfAbsent(uri, key -> MicrometerNodeMetrics.this.timer(tags.and(ENDPOINT_TAG, key)));
+            }
+            return timer;
+        }
+
+        @Override
+        public String toString() {
+            return "DynamicEndpointNodeMetricsProcessor[" + processor + "]";
+        }
+    }
+}
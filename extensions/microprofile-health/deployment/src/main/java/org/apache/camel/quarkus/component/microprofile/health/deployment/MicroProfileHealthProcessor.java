@@ -22,11 +22,13 @@ import java.util.List;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.smallrye.health.deployment.HealthBuildTimeConfig;
 import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckRegistry;
@@ -36,6 +38,9 @@ import org.apache.camel.impl.health.HealthCheckRegistryRepository;
 import org.apache.camel.impl.health.RoutesHealthCheckRepository;
 import org.apache.camel.quarkus.component.microprofile.health.runtime.CamelMicroProfileHealthConfig;
 import org.apache.camel.quarkus.component.microprofile.health.runtime.CamelMicroProfileHealthRecorder;
+import org.apache.camel.quarkus.component.microprofile.health.runtime.InflightExchangesHealthCheck;
+import org.apache.camel.quarkus.component.microprofile.health.runtime.SedaQueueFillHealthCheck;
+import org.apache.camel.quarkus.component.microprofile.health.runtime.ThreadPoolSaturationHealthCheck;
 import org.apache.camel.quarkus.core.deployment.spi.CamelBeanBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelContextCustomizerBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelServiceDestination;
@@ -54,6 +59,7 @@ class MicroProfileHealthProcessor {
     private static final DotName CAMEL_HEALTH_CHECK_REPOSITORY_DOTNAME = DotName
             .createSimple(HealthCheckRepository.class.getName());
     private static final String FEATURE = "camel-microprofile-health";
+    private static final String SEDA_ENDPOINT_CLASS_NAME = "org.apache.camel.component.seda.SedaEndpoint";
 
     static final class HealthEnabled implements BooleanSupplier {
         CamelMicroProfileHealthConfig camelHealthConfig;
@@ -83,6 +89,15 @@ class MicroProfileHealthProcessor {
         }
     }
 
+    static final class LoadHealthChecksEnabled implements BooleanSupplier {
+        CamelMicroProfileHealthConfig camelHealthConfig;
+
+        @Override
+        public boolean getAsBoolean() {
+            return camelHealthConfig.load.enabled;
+        }
+    }
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
@@ -101,6 +116,30 @@ class MicroProfileHealthProcessor {
         return new CamelContextCustomizerBuildItem(recorder.createHealthCheckRegistry());
     }
 
+    @BuildStep(onlyIf = { HealthEnabled.class, LoadHealthChecksEnabled.class })
+    @Record(ExecutionTime.STATIC_INIT)
+    void loadHealthChecks(
+            CamelMicroProfileHealthRecorder recorder,
+            CamelMicroProfileHealthConfig config,
+            BuildProducer<CamelBeanBuildItem> camelBean,
+            BuildProducer<CamelContextCustomizerBuildItem> contextCustomizer) {
+
+        camelBean.produce(new CamelBeanBuildItem("inflight-exchanges", InflightExchangesHealthCheck.class.getName(),
+                recorder.createInflightExchangesHealthCheck(config)));
+
+        if (isSedaPresent()) {
+            camelBean.produce(new CamelBeanBuildItem("seda-queue-fill", SedaQueueFillHealthCheck.class.getName(),
+                    recorder.createSedaQueueFillHealthCheck(config)));
+        }
+
+        // The thread pools are tracked from the creation of the context, so that none is missed
+        RuntimeValue<ThreadPoolSaturationHealthCheck> threadPoolSaturation = recorder
+                .createThreadPoolSaturationHealthCheck(config);
+        camelBean.produce(new CamelBeanBuildItem("thread-pool-saturation",
+                ThreadPoolSaturationHealthCheck.class.getName(), threadPoolSaturation));
+        contextCustomizer.produce(new CamelContextCustomizerBuildItem(recorder.createThreadPoolTracker(threadPoolSaturation)));
+    }
+
     @BuildStep(onlyIf = HealthEnabled.class)
     List<CamelBeanBuildItem> camelHealthDiscovery(CombinedIndexBuildItem combinedIndex) {
         IndexView index = combinedIndex.getIndex();
@@ -174,4 +213,13 @@ class MicroProfileHealthProcessor {
             throw new RuntimeException(e);
         }
     }
+
+    private static boolean isSedaPresent() {
+        try {
+            Class.forName(SEDA_ENDPOINT_CLASS_NAME, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.microprofile.health.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Properties;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.quarkus.component.microprofile.health.runtime.InflightExchangesHealthCheck;
+import org.apache.camel.quarkus.component.microprofile.health.runtime.SedaQueueFillHealthCheck;
+import org.apache.camel.quarkus.component.microprofile.health.runtime.ThreadPoolSaturationHealthCheck;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MicroProfileHealthLoadChecksTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(Routes.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    public static final Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.put("quarkus.camel.health.load.enabled", "true");
+        props.put("quarkus.camel.health.load.max-queue-fill-ratio", "0.5");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    @Test
+    public void inflightExchangesHealthCheck() {
+        InflightExchangesHealthCheck healthCheck = context.getRegistry().lookupByNameAndType("inflight-exchanges",
+                InflightExchangesHealthCheck.class);
+        assertNotNull(healthCheck);
+        assertTrue(healthCheck.isReadiness());
+        assertFalse(healthCheck.isLiveness());
+        assertEquals(HealthCheck.State.UP, healthCheck.call().getState());
+    }
+
+    @Test
+    public void sedaQueueFillHealthCheck() {
+        SedaQueueFillHealthCheck healthCheck = context.getRegistry().lookupByNameAndType("seda-queue-fill",
+                SedaQueueFillHealthCheck.class);
+        assertNotNull(healthCheck);
+        assertEquals(HealthCheck.State.UP, healthCheck.call().getState());
+
+        // Nothing consumes from the queue, which is half full after the first message
+        producerTemplate.sendBody("seda:unconsumed?size=2", "Hello");
+
+        HealthCheck.Result result = healthCheck.call();
+        assertEquals(HealthCheck.State.DOWN, result.getState());
+        assertEquals(1, result.getDetails().get("queue.seda://unconsumed.size"));
+    }
+
+    @Test
+    public void threadPoolSaturationHealthCheck() {
+        ThreadPoolSaturationHealthCheck healthCheck = context.getRegistry().lookupByNameAndType("thread-pool-saturation",
+                ThreadPoolSaturationHealthCheck.class);
+        assertNotNull(healthCheck);
+        assertEquals("Hello", producerTemplate.requestBody("direct:threads", "Hello", String.class));
+        assertEquals(HealthCheck.State.UP, healthCheck.call().getState());
+    }
+
+    public static final class Routes extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:threads")
+                    .threads(1, 1).maxQueueSize(10)
+                    .log("${body}");
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.quarkus.component.microprofile.health.runtime;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -28,4 +29,44 @@ public final class CamelMicroProfileHealthConfig {
      */
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
+
+    /**
+     * Configuration options for the readiness checks reporting overloaded routes.
+     */
+    @ConfigItem
+    public LoadConfig load;
+
+    @ConfigGroup
+    public static class LoadConfig {
+
+        /**
+         * Set whether to enable the readiness checks reporting `DOWN` when the routes are overloaded, so that no more
+         * traffic is routed to the application until the load decreases.
+         *
+         * The checks cover the number of inflight exchanges of each route, the fill ratio of the SEDA queues when
+         * `camel-quarkus-seda` is present, and the saturation of the thread pools created by Camel.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The number of inflight exchanges of a route above which the route is reported as overloaded.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxInflightExchanges;
+
+        /**
+         * The ratio of the capacity of a SEDA queue, between 0 and 1, from which the queue is reported as full.
+         */
+        @ConfigItem(defaultValue = "0.9")
+        public double maxQueueFillRatio;
+
+        /**
+         * The ratio of the capacity of a thread pool, between 0 and 1, from which the thread pool is reported as
+         * saturated. The capacity of a thread pool is its maximum number of threads plus the capacity of its task
+         * queue, so that thread pools with an unbounded task queue are never saturated.
+         */
+        @ConfigItem(defaultValue = "0.9")
+        public double maxThreadPoolSaturation;
+    }
 }
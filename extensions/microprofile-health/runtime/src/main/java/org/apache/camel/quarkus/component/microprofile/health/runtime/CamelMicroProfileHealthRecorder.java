@@ -39,4 +39,28 @@ public class CamelMicroProfileHealthRecorder {
             }
         });
     }
+
+    public RuntimeValue<InflightExchangesHealthCheck> createInflightExchangesHealthCheck(
+            CamelMicroProfileHealthConfig config) {
+        return new RuntimeValue<>(new InflightExchangesHealthCheck(config.load.maxInflightExchanges));
+    }
+
+    public RuntimeValue<SedaQueueFillHealthCheck> createSedaQueueFillHealthCheck(CamelMicroProfileHealthConfig config) {
+        return new RuntimeValue<>(new SedaQueueFillHealthCheck(config.load.maxQueueFillRatio));
+    }
+
+    public RuntimeValue<ThreadPoolSaturationHealthCheck> createThreadPoolSaturationHealthCheck(
+            CamelMicroProfileHealthConfig config) {
+        return new RuntimeValue<>(new ThreadPoolSaturationHealthCheck(config.load.maxThreadPoolSaturation));
+    }
+
+    public RuntimeValue<CamelContextCustomizer> createThreadPoolTracker(
+            RuntimeValue<ThreadPoolSaturationHealthCheck> healthCheck) {
+        return new RuntimeValue<>(new CamelContextCustomizer() {
+            @Override
+            public void configure(CamelContext camelContext) {
+                camelContext.addLifecycleStrategy(healthCheck.getValue().getThreadPoolTracker());
+            }
+        });
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.microprofile.health.runtime;
+
+import java.util.Map;
+
+import org.apache.camel.Route;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spi.InflightRepository;
+
+/**
+ * Readiness check reporting {@code DOWN} when a route has more inflight exchanges than {@code maxInflightExchanges}.
+ */
+public class InflightExchangesHealthCheck extends AbstractHealthCheck {
+
+    private final int maxInflightExchanges;
+
+    public InflightExchangesHealthCheck(int maxInflightExchanges) {
+        super("camel", "inflight-exchanges");
+        this.maxInflightExchanges = maxInflightExchanges;
+    }
+
+    @Override
+    public boolean isLiveness() {
+        return false;
+    }
+
+    @Override
+    protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+        InflightRepository inflightRepository = getCamelContext().getInflightRepository();
+        builder.detail("max.inflight.exchanges", maxInflightExchanges);
+        builder.up();
+        for (Route route : getCamelContext().getRoutes()) {
+            int inflight = inflightRepository.size(route.getRouteId());
+            if (inflight > maxInflightExchanges) {
+                builder.detail("route." + route.getRouteId() + ".inflight.exchanges", inflight);
+                builder.message("Route " + route.getRouteId() + " has " + inflight + " inflight exchanges");
+                builder.down();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.microprofile.health.runtime;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.seda.SedaEndpoint;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * Readiness check reporting {@code DOWN} when a SEDA queue is filled to at least {@code maxQueueFillRatio} of its
+ * capacity.
+ */
+public class SedaQueueFillHealthCheck extends AbstractHealthCheck {
+
+    private final double maxQueueFillRatio;
+
+    public SedaQueueFillHealthCheck(double maxQueueFillRatio) {
+        super("camel", "seda-queue-fill");
+        this.maxQueueFillRatio = maxQueueFillRatio;
+    }
+
+    @Override
+    public boolean isLiveness() {
+        return false;
+    }
+
+    @Override
+    protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+        builder.detail("max.queue.fill.ratio", maxQueueFillRatio);
+        builder.up();
+        for (Endpoint endpoint : getCamelContext().getEndpoints()) {
+            // Only look at the started endpoints, as getting the queue of an endpoint creates it
+            if (endpoint instanceof SedaEndpoint && ServiceHelper.isStarted(endpoint)) {
+                BlockingQueue<Exchange> queue = ((SedaEndpoint) endpoint).getQueue();
+                int size = queue.size();
+                long capacity = (long) size + queue.remainingCapacity();
+                double fillRatio = capacity > 0 ? (double) size / capacity : 1;
+                if (fillRatio >= maxQueueFillRatio) {
+                    String uri = endpoint.getEndpointBaseUri();
+                    builder.detail("queue." + uri + ".size", size);
+                    builder.detail("queue." + uri + ".capacity", capacity);
+                    builder.message("Queue " + uri + " is full (" + size + "/" + capacity + ")");
+                    builder.down();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.microprofile.health.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spi.LifecycleStrategy;
+import org.apache.camel.support.LifecycleStrategySupport;
+
+/**
+ * Readiness check reporting {@code DOWN} when a thread pool created by Camel is saturated to at least
+ * {@code maxThreadPoolSaturation} of its capacity.
+ * <p>
+ * The thread pools are tracked by the {@link LifecycleStrategy} returned by {@link #getThreadPoolTracker()}, which has
+ * to be added to the {@link CamelContext} before the routes are started.
+ */
+public class ThreadPoolSaturationHealthCheck extends AbstractHealthCheck {
+
+    private final Map<ThreadPoolExecutor, String> threadPools = new ConcurrentHashMap<>();
+    private final LifecycleStrategy threadPoolTracker = new ThreadPoolTracker();
+    private final double maxThreadPoolSaturation;
+
+    public ThreadPoolSaturationHealthCheck(double maxThreadPoolSaturation) {
+        super("camel", "thread-pool-saturation");
+        this.maxThreadPoolSaturation = maxThreadPoolSaturation;
+    }
+
+    public LifecycleStrategy getThreadPoolTracker() {
+        return threadPoolTracker;
+    }
+
+    @Override
+    public boolean isLiveness() {
+        return false;
+    }
+
+    @Override
+    protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+        builder.detail("max.thread.pool.saturation", maxThreadPoolSaturation);
+        builder.up();
+        threadPools.forEach((threadPool, id) -> {
+            int active = threadPool.getActiveCount();
+            int queued = threadPool.getQueue().size();
+            long capacity = (long) threadPool.getMaximumPoolSize() + queued + threadPool.getQueue().remainingCapacity();
+            double saturation = (double) (active + queued) / capacity;
+            if (saturation >= maxThreadPoolSaturation) {
+                builder.detail("thread.pool." + id + ".active.threads", active);
+                builder.detail("thread.pool." + id + ".queued.tasks", queued);
+                builder.message("Thread pool " + id + " is saturated (" + active + " active threads, " + queued
+                        + " queued tasks)");
+                builder.down();
+            }
+        });
+    }
+
+    private final class ThreadPoolTracker extends LifecycleStrategySupport {
+
+        @Override
+        public void onThreadPoolAdd(
+                CamelContext camelContext,
+                ThreadPoolExecutor threadPool,
+                String id,
+                String sourceId,
+                String routeId,
+                String threadPoolProfileId) {
+            threadPools.put(threadPool, id != null ? id : String.valueOf(sourceId));
+        }
+
+        @Override
+        public void onThreadPoolRemove(CamelContext camelContext, ThreadPoolExecutor threadPool) {
+            threadPools.remove(threadPool);
+        }
+    }
+}
@@ -16,8 +16,12 @@
  */
 package org.apache.camel.quarkus.component.mllp.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import org.apache.camel.quarkus.component.mllp.CamelMllpNettyProducers;
 
 class MllpProcessor {
 
@@ -27,4 +31,11 @@ class MllpProcessor {
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
     }
+
+    @BuildStep
+    void nettyChannelHandlers(BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (QuarkusClassLoader.isClassPresentAtRuntime("org.apache.camel.component.netty.NettyComponent")) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(CamelMllpNettyProducers.class));
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mllp;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "camel.mllp", phase = ConfigPhase.RUN_TIME)
+public class CamelMllpConfig {
+
+    /**
+     * Configuration options for the {@code mllpNettyDecoder} and {@code mllpNettyEncoder} beans that are available when
+     * the `camel-quarkus-netty` extension is present.
+     */
+    @ConfigItem
+    public NettyConfig netty;
+
+    @ConfigGroup
+    public static class NettyConfig {
+
+        /**
+         * The maximum length in bytes of the payload of an MLLP frame. Frames exceeding this length fail with a
+         * `TooLongFrameException` and the Netty consumer or producer closes the connection.
+         */
+        @ConfigItem(defaultValue = "1048576")
+        public int maxFrameLength;
+
+        /**
+         * The charset used to decode the payload of inbound frames to a `String` and to encode outbound `String`
+         * payloads. If not set, inbound payloads are passed to the route as `byte[]` and outbound `String` payloads are
+         * encoded with `UTF-8`.
+         */
+        @ConfigItem
+        public Optional<String> charset;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mllp;
+
+import java.nio.charset.Charset;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.apache.camel.component.netty.ChannelHandlerFactory;
+import org.apache.camel.component.netty.DefaultChannelHandlerFactory;
+import org.apache.camel.component.netty.ShareableChannelHandlerFactory;
+
+@Singleton
+public class CamelMllpNettyProducers {
+
+    @Produces
+    @Singleton
+    @Named("mllpNettyDecoder")
+    public ChannelHandlerFactory mllpNettyDecoder(CamelMllpConfig config) {
+        int maxFrameLength = config.netty.maxFrameLength;
+        Charset charset = config.netty.charset.map(Charset::forName).orElse(null);
+        return new DefaultChannelHandlerFactory() {
+            @Override
+            public MllpFrameDecoder newChannelHandler() {
+                return new MllpFrameDecoder(maxFrameLength, charset);
+            }
+        };
+    }
+
+    @Produces
+    @Singleton
+    @Named("mllpNettyEncoder")
+    public ChannelHandlerFactory mllpNettyEncoder(CamelMllpConfig config) {
+        return new ShareableChannelHandlerFactory(
+                new MllpFrameEncoder(config.netty.charset.map(Charset::forName).orElse(null)));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mllp;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.TooLongFrameException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes MLLP frames ({@code <VT>payload<FS><CR>}) from the pooled cumulation buffer maintained by
+ * {@link ByteToMessageDecoder}.
+ * <p>
+ * The start and end block detection runs on the event loop directly against the inbound {@link ByteBuf}. The bytes of a
+ * partially received frame are scanned only once, regardless of how many reads it takes to receive the whole frame. The
+ * only allocation per message is the decoded payload handed over to Camel, either as a {@code byte[]} or as a
+ * {@link String} if a charset was configured.
+ */
+public class MllpFrameDecoder extends ByteToMessageDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MllpFrameDecoder.class);
+
+    private final int maxFrameLength;
+    private final Charset charset;
+
+    /**
+     * Offset from the current reader index from which the search for the end block continues, or {@code -1} if the
+     * start block was not found yet.
+     */
+    private int scannedLength = -1;
+
+    public MllpFrameDecoder(int maxFrameLength, Charset charset) {
+        if (maxFrameLength <= 0) {
+            throw new IllegalArgumentException("maxFrameLength must be a positive integer: " + maxFrameLength);
+        }
+        this.maxFrameLength = maxFrameLength;
+        this.charset = charset;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        while (in.isReadable()) {
+            if (scannedLength < 0) {
+                int start = in.indexOf(in.readerIndex(), in.writerIndex(), MllpFraming.START_OF_BLOCK);
+                if (start < 0) {
+                    discard(ctx, in, in.readableBytes());
+                    return;
+                }
+                discard(ctx, in, start - in.readerIndex());
+                in.skipBytes(1);
+                scannedLength = 0;
+            }
+
+            int end = findEndOfBlock(in);
+            if (end < 0) {
+                scannedLength = Math.max(0, in.readableBytes() - 1);
+                if (scannedLength > maxFrameLength) {
+                    // Drop what was received so far. The Camel Netty consumer and producer close the channel on failures
+                    in.skipBytes(in.readableBytes());
+                    scannedLength = -1;
+                    throw new TooLongFrameException("MLLP frame exceeds " + maxFrameLength + " bytes");
+                }
+                return;
+            }
+
+            int length = end - in.readerIndex();
+            scannedLength = -1;
+            if (length > maxFrameLength) {
+                in.readerIndex(end + 2);
+                throw new TooLongFrameException("MLLP frame of " + length + " bytes exceeds " + maxFrameLength + " bytes");
+            }
+
+            out.add(charset != null ? in.toString(in.readerIndex(), length, charset) : readBytes(in, length));
+            in.readerIndex(end + 2);
+        }
+    }
+
+    /**
+     * @return the index of the {@code <FS>} byte of the first {@code <FS><CR>} sequence after the already scanned part
+     *         of the frame or {@code -1} if the frame is incomplete
+     */
+    private int findEndOfBlock(ByteBuf in) {
+        int from = in.readerIndex() + scannedLength;
+        int to = in.writerIndex() - 1;
+        while (from < to) {
+            int index = in.indexOf(from, to, MllpFraming.END_OF_BLOCK);
+            if (index < 0) {
+                return -1;
+            }
+            if (in.getByte(index + 1) == MllpFraming.END_OF_DATA) {
+                return index;
+            }
+            from = index + 1;
+        }
+        return -1;
+    }
+
+    private void discard(ChannelHandlerContext ctx, ByteBuf in, int length) {
+        if (length > 0) {
+            LOG.debug("Discarding {} bytes received outside of an MLLP frame on {}", length, ctx.channel());
+            in.skipBytes(length);
+        }
+    }
+
+    private static byte[] readBytes(ByteBuf in, int length) {
+        byte[] payload = new byte[length];
+        in.getBytes(in.readerIndex(), payload);
+        return payload;
+    }
+}
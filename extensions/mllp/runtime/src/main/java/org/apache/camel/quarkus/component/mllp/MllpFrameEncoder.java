@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.mllp;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Wraps outbound {@code byte[]}, {@link ByteBuf} and {@link CharSequence} payloads into an MLLP frame written directly
+ * into a pooled buffer obtained from the channel allocator.
+ */
+@ChannelHandler.Sharable
+public class MllpFrameEncoder extends MessageToByteEncoder<Object> {
+
+    private final Charset charset;
+
+    public MllpFrameEncoder(Charset charset) {
+        this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof byte[] || msg instanceof ByteBuf || msg instanceof CharSequence;
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) {
+        int capacity;
+        if (msg instanceof byte[]) {
+            capacity = ((byte[]) msg).length;
+        } else if (msg instanceof ByteBuf) {
+            capacity = ((ByteBuf) msg).readableBytes();
+        } else if (StandardCharsets.UTF_8.equals(charset)) {
+            capacity = ByteBufUtil.utf8Bytes((CharSequence) msg);
+        } else {
+            capacity = ((CharSequence) msg).length();
+        }
+        capacity += 3;
+        return preferDirect ? ctx.alloc().ioBuffer(capacity) : ctx.alloc().heapBuffer(capacity);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) {
+        out.writeByte(MllpFraming.START_OF_BLOCK);
+        if (msg instanceof byte[]) {
+            out.writeBytes((byte[]) msg);
+        } else if (msg instanceof ByteBuf) {
+            ByteBuf payload = (ByteBuf) msg;
+            out.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+        } else {
+            out.writeCharSequence((CharSequence) msg, charset);
+        }
+        out.writeByte(MllpFraming.END_OF_BLOCK);
+        out.writeByte(MllpFraming.END_OF_DATA);
+    }
+}
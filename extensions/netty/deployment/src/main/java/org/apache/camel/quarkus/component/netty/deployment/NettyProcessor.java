@@ -16,9 +16,11 @@
  */
 package org.apache.camel.quarkus.component.netty.deployment;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import org.apache.camel.quarkus.component.netty.CamelNettyProducers;
 import org.apache.camel.quarkus.core.deployment.spi.CamelSerializationBuildItem;
 import org.apache.commons.pool2.impl.DefaultEvictionPolicy;
 
@@ -36,6 +38,11 @@ class NettyProcessor {
         return new CamelSerializationBuildItem();
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem channelHandlers() {
+        return AdditionalBeanBuildItem.unremovableOf(CamelNettyProducers.class);
+    }
+
     @BuildStep
     ReflectiveClassBuildItem registerForReflection() {
         return ReflectiveClassBuildItem.builder(DefaultEvictionPolicy.class.getName())
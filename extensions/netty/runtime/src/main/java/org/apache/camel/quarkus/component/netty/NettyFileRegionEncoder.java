@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.netty;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.ssl.SslHandler;
+import org.apache.camel.WrappedFile;
+
+/**
+ * Writes outbound {@link File}, {@link Path} and {@link WrappedFile} payloads, such as the {@code GenericFile} bodies
+ * of the file consumer, as a {@link FileRegion} so that the transport copies the file content to the socket with
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)} instead of through heap buffers.
+ * <p>
+ * A {@link FileRegion} cannot be encrypted, so when the pipeline contains a {@link SslHandler} the file content is read
+ * into a pooled buffer instead. Other payloads are passed to the next encoder unchanged.
+ */
+@ChannelHandler.Sharable
+public class NettyFileRegionEncoder extends MessageToMessageEncoder<Object> {
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) {
+        return toFile(msg) != null;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+        File file = toFile(msg);
+        if (ctx.pipeline().get(SslHandler.class) == null) {
+            out.add(new DefaultFileRegion(file, 0, file.length()));
+        } else {
+            out.add(readFile(ctx, file));
+        }
+    }
+
+    private static ByteBuf readFile(ChannelHandlerContext ctx, File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Cannot write " + file + " of " + size + " bytes through a SslHandler");
+            }
+            ByteBuf buffer = ctx.alloc().ioBuffer((int) size);
+            try {
+                long position = 0;
+                while (position < size) {
+                    int read = buffer.writeBytes(channel, position, (int) (size - position));
+                    if (read < 0) {
+                        break;
+                    }
+                    position += read;
+                }
+                return buffer;
+            } catch (IOException | RuntimeException e) {
+                buffer.release();
+                throw e;
+            }
+        }
+    }
+
+    private static File toFile(Object msg) {
+        if (msg instanceof WrappedFile) {
+            msg = ((WrappedFile<?>) msg).getFile();
+        }
+        if (msg instanceof File) {
+            return (File) msg;
+        }
+        if (msg instanceof Path && ((Path) msg).getFileSystem() == FileSystems.getDefault()) {
+            return ((Path) msg).toFile();
+        }
+        return null;
+    }
+}
@@ -21,6 +21,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.opentelemetry.deployment.tracing.TracerEnabled;
 import org.apache.camel.quarkus.component.opentelemetry.OpenTelemetryTracerProducer;
+import org.apache.camel.quarkus.core.deployment.spi.CamelEndpointUriNormalizerBuildItem;
 
 class OpenTelemetryProcessor {
 
@@ -38,4 +39,10 @@ class OpenTelemetryProcessor {
                 .addBeanClass(OpenTelemetryTracerProducer.class)
                 .build();
     }
+
+    @BuildStep(onlyIf = TracerEnabled.class)
+    CamelEndpointUriNormalizerBuildItem endpointUriNormalizer() {
+        // The tracer can name the spans after the normalized endpoint URIs
+        return new CamelEndpointUriNormalizerBuildItem();
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.opentelemetry.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.opentelemetry.CamelQuarkusOpenTelemetryTracer;
+import org.apache.camel.opentelemetry.OpenTelemetryTracer;
+import org.apache.camel.quarkus.component.opentelemetry.TailSamplingTracer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OpenTelemetryTailSamplingBufferLimitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class, SpanExporterProducer.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    InMemorySpanExporter exporter;
+
+    @Test
+    public void spansBeyondMaxBufferedSpansDropped() {
+        CamelQuarkusOpenTelemetryTracer camelTracer = (CamelQuarkusOpenTelemetryTracer) context.getRegistry()
+                .findSingleByType(OpenTelemetryTracer.class);
+        TailSamplingTracer tracer = camelTracer.getTailSamplingTracer();
+
+        producerTemplate.sendBody("direct:limited", "Hello");
+
+        // The span of the route is deferred, the spans of the send to the child route and of the child route are not
+        await().atMost(10, TimeUnit.SECONDS).until(() -> exporter.getFinishedSpanItems().size() == 2);
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData root = spans.stream().filter(span -> span.getKind() == SpanKind.CLIENT).findFirst().get();
+        SpanData route = spans.stream().filter(span -> span.getKind() == SpanKind.INTERNAL).findFirst().get();
+        assertEquals("limited", root.getName());
+        assertEquals("limited", route.getName());
+        assertEquals(root.getSpanId(), route.getParentSpanId());
+        assertEquals(2, tracer.getDroppedSpans());
+        assertEquals(1, tracer.getSampledExchanges());
+        assertEquals(0, tracer.getBufferedSpans());
+    }
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.opentelemetry.tail-sampling.enabled", "true");
+        props.setProperty("quarkus.camel.opentelemetry.tail-sampling.latency-threshold", "0ms");
+        props.setProperty("quarkus.camel.opentelemetry.tail-sampling.max-buffered-spans", "1");
+        props.setProperty("quarkus.otel.bsp.schedule.delay", "1");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:limited")
+                    .to("direct:limited-child");
+
+            from("direct:limited-child")
+                    .setBody().constant("Child");
+        }
+    }
+
+    @ApplicationScoped
+    public static class SpanExporterProducer {
+        @Produces
+        @Singleton
+        public InMemorySpanExporter createInMemoryExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
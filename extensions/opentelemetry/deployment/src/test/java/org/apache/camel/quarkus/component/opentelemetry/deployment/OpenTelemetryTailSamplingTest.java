@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.opentelemetry.deployment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.opentelemetry.CamelQuarkusOpenTelemetryTracer;
+import org.apache.camel.opentelemetry.OpenTelemetryTracer;
+import org.apache.camel.quarkus.component.opentelemetry.TailSamplingTracer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenTelemetryTailSamplingTest {
+
+    private static final AttributeKey<Boolean> ERROR = AttributeKey.booleanKey("error");
+
+    @RegisterExtension
+    static final QuarkusUnitTest CONFIG = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class, SpanExporterProducer.class)
+                    .addAsResource(applicationProperties(), "application.properties"));
+
+    @Inject
+    CamelContext context;
+
+    @Inject
+    ProducerTemplate producerTemplate;
+
+    @Inject
+    InMemorySpanExporter exporter;
+
+    @BeforeEach
+    public void reset() {
+        exporter.reset();
+    }
+
+    @Test
+    public void tailSamplingTracerConfigured() {
+        assertEquals(0, tailSamplingTracer().getBufferedSpans());
+    }
+
+    @Test
+    public void fastExchangeChildSpansDiscarded() {
+        TailSamplingTracer tracer = tailSamplingTracer();
+        long discarded = tracer.getDiscardedExchanges();
+
+        producerTemplate.sendBody("direct:fast", "Hello");
+
+        List<SpanData> spans = awaitSpans(1);
+        assertEquals("fast", spans.get(0).getName());
+        assertEquals(SpanKind.CLIENT, spans.get(0).getKind());
+        assertEquals(discarded + 1, tracer.getDiscardedExchanges());
+        assertEquals(0, tracer.getBufferedSpans());
+    }
+
+    @Test
+    public void slowExchangeChildSpansExported() {
+        TailSamplingTracer tracer = tailSamplingTracer();
+        long sampled = tracer.getSampledExchanges();
+
+        producerTemplate.sendBody("direct:slow", "Hello");
+
+        List<SpanData> spans = awaitSpans(4);
+        assertEquals(sampled + 1, tracer.getSampledExchanges());
+        assertEquals(0, tracer.getBufferedSpans());
+
+        // The deferred spans are created after their deferred parent
+        SpanData root = span(spans, "slow", SpanKind.CLIENT);
+        SpanData route = span(spans, "slow", SpanKind.INTERNAL);
+        SpanData send = span(spans, "child", SpanKind.CLIENT);
+        SpanData child = span(spans, "child", SpanKind.INTERNAL);
+        assertParent(root, route);
+        assertParent(route, send);
+        assertParent(send, child);
+
+        // The deferred spans keep the timestamps of the operations they recorded
+        assertTrue(send.getStartEpochNanos() - route.getStartEpochNanos() >= TimeUnit.MILLISECONDS.toNanos(300));
+        assertTrue(child.getEndEpochNanos() <= send.getEndEpochNanos());
+    }
+
+    @Test
+    public void failedExchangeChildSpansExported() {
+        TailSamplingTracer tracer = tailSamplingTracer();
+        long sampled = tracer.getSampledExchanges();
+
+        assertThrows(CamelExecutionException.class, () -> producerTemplate.sendBody("direct:failing", "Hello"));
+
+        List<SpanData> spans = awaitSpans(4);
+        assertEquals(sampled + 1, tracer.getSampledExchanges());
+        assertEquals(Boolean.TRUE, span(spans, "failing", SpanKind.INTERNAL).getAttributes().get(ERROR));
+        assertNull(span(spans, "child", SpanKind.INTERNAL).getAttributes().get(ERROR));
+    }
+
+    @Test
+    public void errorStatusPromotesExchange() {
+        TailSamplingTracer tracer = tailSamplingTracer();
+        long sampled = tracer.getSampledExchanges();
+
+        // The exchange recovers from the failure of a child route, whose spans alone are marked as failed
+        assertEquals("Recovered", producerTemplate.requestBody("direct:recovered", "Hello", String.class));
+
+        List<SpanData> spans = awaitSpans(4);
+        assertEquals(sampled + 1, tracer.getSampledExchanges());
+        assertNull(span(spans, "recovered", SpanKind.INTERNAL).getAttributes().get(ERROR));
+        assertEquals(Boolean.TRUE, span(spans, "child-failing", SpanKind.INTERNAL).getAttributes().get(ERROR));
+    }
+
+    private TailSamplingTracer tailSamplingTracer() {
+        Set<OpenTelemetryTracer> tracers = context.getRegistry().findByType(OpenTelemetryTracer.class);
+        assertEquals(1, tracers.size());
+
+        CamelQuarkusOpenTelemetryTracer tracer = (CamelQuarkusOpenTelemetryTracer) tracers.iterator().next();
+        TailSamplingTracer tailSamplingTracer = tracer.getTailSamplingTracer();
+        assertNotNull(tailSamplingTracer);
+        return tailSamplingTracer;
+    }
+
+    private List<SpanData> awaitSpans(int count) {
+        // The first span of the exchange ends last, after the deferred spans are created
+        await().atMost(10, TimeUnit.SECONDS).until(() -> exporter.getFinishedSpanItems().stream()
+                .anyMatch(span -> !span.getParentSpanContext().isValid()));
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(count, spans.size(), () -> "Unexpected spans " + spans);
+        return spans;
+    }
+
+    private static SpanData span(List<SpanData> spans, String name, SpanKind kind) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name) && span.getKind() == kind)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + kind + " span named " + name + " in " + spans));
+    }
+
+    private static void assertParent(SpanData parent, SpanData child) {
+        assertEquals(parent.getTraceId(), child.getTraceId());
+        assertEquals(parent.getSpanId(), child.getParentSpanId());
+    }
+
+    public static Asset applicationProperties() {
+        Writer writer = new StringWriter();
+
+        Properties props = new Properties();
+        props.setProperty("quarkus.camel.opentelemetry.tail-sampling.enabled", "true");
+        props.setProperty("quarkus.camel.opentelemetry.tail-sampling.latency-threshold", "200ms");
+        props.setProperty("quarkus.otel.bsp.schedule.delay", "1");
+
+        try {
+            props.store(writer, "");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return new StringAsset(writer.toString());
+    }
+
+    public static class Routes extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:fast")
+                    .to("direct:child");
+
+            from("direct:slow")
+                    .process(exchange -> Thread.sleep(300))
+                    .to("direct:child");
+
+            from("direct:failing")
+                    .to("direct:child")
+                    .throwException(new IllegalStateException("Forced"));
+
+            from("direct:recovered")
+                    .doTry()
+                    .to("direct:child-failing")
+                    .doCatch(IllegalStateException.class)
+                    .setBody().constant("Recovered")
+                    .end();
+
+            from("direct:child")
+                    .setBody().constant("Child");
+
+            from("direct:child-failing")
+                    .throwException(new IllegalStateException("Forced"));
+        }
+    }
+
+    @ApplicationScoped
+    public static class SpanExporterProducer {
+        @Produces
+        @Singleton
+        public InMemorySpanExporter createInMemoryExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
@@ -20,11 +20,16 @@ import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.quarkus.component.opentelemetry.TailSamplingTracer;
+import org.apache.camel.quarkus.core.EndpointUriNormalizer;
+import org.apache.camel.tracing.InjectAdapter;
 import org.apache.camel.tracing.SpanAdapter;
 import org.apache.camel.tracing.SpanDecorator;
 import org.apache.camel.tracing.SpanKind;
 import org.apache.camel.tracing.decorators.PlatformHttpSpanDecorator;
 import org.apache.camel.tracing.decorators.ServletSpanDecorator;
+import org.apache.camel.util.URISupport;
 
 /**
  * Custom {@link OpenTelemetryTracer} to integrate better with the existing Vert.x tracing configured by the
@@ -32,6 +37,49 @@ import org.apache.camel.tracing.decorators.ServletSpanDecorator;
  */
 public class CamelQuarkusOpenTelemetryTracer extends OpenTelemetryTracer {
 
+    private boolean normalizeSpanNames;
+    private EndpointUriNormalizer endpointUriNormalizer;
+    private TailSamplingTracer tailSamplingTracer;
+
+    public boolean isNormalizeSpanNames() {
+        return normalizeSpanNames;
+    }
+
+    /**
+     * Sets whether the span names derived from endpoint URIs are normalized with the {@link EndpointUriNormalizer} of
+     * the CamelContext, so that the URIs of dynamic endpoints do not create a span name per identifier.
+     */
+    public void setNormalizeSpanNames(boolean normalizeSpanNames) {
+        this.normalizeSpanNames = normalizeSpanNames;
+    }
+
+    public TailSamplingTracer getTailSamplingTracer() {
+        return tailSamplingTracer;
+    }
+
+    /**
+     * Sets the {@link TailSamplingTracer} deferring the child spans of the exchanges, which must also be set as the
+     * tracer.
+     */
+    public void setTailSamplingTracer(TailSamplingTracer tailSamplingTracer) {
+        this.tailSamplingTracer = tailSamplingTracer;
+    }
+
+    @Override
+    protected SpanAdapter startSendingEventSpan(String operationName, SpanKind kind, SpanAdapter parent, Exchange exchange,
+            InjectAdapter injectAdapter) {
+        if (normalizeSpanNames) {
+            operationName = normalizeOperationName(operationName,
+                    exchange.getProperty(ExchangePropertyKey.TO_ENDPOINT, String.class));
+        }
+        if (tailSamplingTracer != null) {
+            String name = operationName;
+            return tailSamplingTracer.startSpan(exchange,
+                    () -> super.startSendingEventSpan(name, kind, parent, exchange, injectAdapter));
+        }
+        return super.startSendingEventSpan(operationName, kind, parent, exchange, injectAdapter);
+    }
+
     @Override
     protected SpanAdapter startExchangeBeginSpan(Exchange exchange, SpanDecorator sd, String operationName, SpanKind kind,
             SpanAdapter parent) {
@@ -40,8 +88,46 @@ public class CamelQuarkusOpenTelemetryTracer extends OpenTelemetryTracer {
         if (sd instanceof PlatformHttpSpanDecorator || sd instanceof ServletSpanDecorator) {
             Span span = Span.fromContext(Context.current());
             Baggage baggage = Baggage.fromContext(Context.current());
+            if (tailSamplingTracer != null) {
+                // The HTTP span then counts as the first span of the exchange
+                return tailSamplingTracer.startSpan(exchange, () -> new OpenTelemetrySpanAdapter(span, baggage));
+            }
             return new OpenTelemetrySpanAdapter(span, baggage);
         }
+        if (normalizeSpanNames && exchange.getFromEndpoint() != null) {
+            operationName = normalizeOperationName(operationName, exchange.getFromEndpoint().getEndpointUri());
+        }
+        if (tailSamplingTracer != null) {
+            String name = operationName;
+            return tailSamplingTracer.startSpan(exchange,
+                    () -> super.startExchangeBeginSpan(exchange, sd, name, kind, parent));
+        }
         return super.startExchangeBeginSpan(exchange, sd, operationName, kind, parent);
     }
+
+    /**
+     * The span decorators mostly name the spans after the endpoint URI without its scheme and query string. Such names
+     * are replaced by the normalized endpoint URI, stripped the same way, while the other names, such as the HTTP
+     * methods, are kept.
+     */
+    private String normalizeOperationName(String operationName, String endpointUri) {
+        if (operationName == null || endpointUri == null
+                || !URISupport.stripQuery(endpointUri).endsWith(operationName)) {
+            return operationName;
+        }
+
+        if (endpointUriNormalizer == null) {
+            endpointUriNormalizer = getCamelContext().getCamelContextExtension().getContextPlugin(EndpointUriNormalizer.class);
+            if (endpointUriNormalizer == null) {
+                return operationName;
+            }
+        }
+
+        String normalized = endpointUriNormalizer.normalize(endpointUri);
+        int start = normalized.indexOf(':') + 1;
+        while (start < normalized.length() && normalized.charAt(start) == '/') {
+            start++;
+        }
+        return normalized.substring(start);
+    }
 }
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.quarkus.component.opentelemetry;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -49,4 +51,48 @@ public final class CamelOpenTelemetryConfig {
      */
     @ConfigItem
     public Optional<String> excludePatterns;
+
+    /**
+     * Sets whether the names of the spans derived from endpoint URIs are normalized, in order to keep their
+     * cardinality low when routes send to dynamic endpoints. The URIs sent to by `toD` nodes are replaced by their URI
+     * template, the path segments of other URIs looking like identifiers are replaced by `{id}`, and the names are
+     * reported as `other` once `quarkus.camel.uri-normalizer.max-uris` distinct URIs have been seen.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean normalizeSpanNames;
+
+    /**
+     * Configuration options for the tail sampling of the spans created for the Camel exchanges.
+     */
+    @ConfigItem
+    public TailSamplingConfig tailSampling;
+
+    @ConfigGroup
+    public static class TailSamplingConfig {
+
+        /**
+         * Sets whether the child spans of the Camel exchanges, such as the spans of the endpoints they are sent to,
+         * are only exported for the exchanges that failed or were slow.
+         *
+         * The first span of each exchange, usually the one of the route consuming it, is always exported. The child
+         * spans are kept in memory until the exchange completes, and are then discarded unless the exchange failed,
+         * one of them is marked as failed or the exchange took at least
+         * `quarkus.camel.opentelemetry.tail-sampling.latency-threshold` to complete.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The minimum processing time of an exchange for its child spans to be exported.
+         */
+        @ConfigItem(defaultValue = "500ms")
+        public Duration latencyThreshold;
+
+        /**
+         * The maximum number of child spans kept in memory, across all the exchanges in flight. The child spans started
+         * beyond this limit are not recorded.
+         */
+        @ConfigItem(defaultValue = "10000")
+        public int maxBufferedSpans;
+    }
 }
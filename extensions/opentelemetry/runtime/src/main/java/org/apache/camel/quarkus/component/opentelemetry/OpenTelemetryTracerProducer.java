@@ -37,13 +37,21 @@ public class OpenTelemetryTracerProducer {
     @Singleton
     @DefaultBean
     public OpenTelemetryTracer getOpenTelemetry() {
-        OpenTelemetryTracer openTelemetryTracer = new CamelQuarkusOpenTelemetryTracer();
+        CamelQuarkusOpenTelemetryTracer openTelemetryTracer = new CamelQuarkusOpenTelemetryTracer();
         if (tracer != null) {
-            openTelemetryTracer.setTracer(tracer);
+            if (config.tailSampling.enabled) {
+                TailSamplingTracer tailSamplingTracer = new TailSamplingTracer(tracer,
+                        config.tailSampling.latencyThreshold.toMillis(), config.tailSampling.maxBufferedSpans);
+                openTelemetryTracer.setTailSamplingTracer(tailSamplingTracer);
+                openTelemetryTracer.setTracer(tailSamplingTracer);
+            } else {
+                openTelemetryTracer.setTracer(tracer);
+            }
             if (config.excludePatterns.isPresent()) {
                 openTelemetryTracer.setExcludePatterns(config.excludePatterns.get());
             }
             openTelemetryTracer.setEncoding(config.encoding);
+            openTelemetryTracer.setNormalizeSpanNames(config.normalizeSpanNames);
         }
         return openTelemetryTracer;
     }
@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.opentelemetry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * A {@link Tracer} deferring the creation of the child spans of the Camel exchanges until the exchanges complete.
+ * <p>
+ * The first span of an exchange, usually the one of the route consuming it, is created as usual. The spans started
+ * within it for the same exchange, e.g. for the endpoints the exchange is sent to, only record their name, attributes,
+ * events, status and timestamps. When the exchange completes, they are created with their original timestamps if
+ * the exchange failed, took at least {@code latencyThreshold} to complete or one of them has an error status or the
+ * {@code error} attribute set, and discarded otherwise.
+ * <p>
+ * A deferred span shares the span context of its closest created ancestor, which is then propagated to the
+ * downstream services in place of its own. At most {@code maxBufferedSpans} spans are deferred at any time, the spans
+ * started beyond this limit are not recorded.
+ */
+public class TailSamplingTracer implements Tracer {
+
+    static final String EXCHANGE_SPANS_PROPERTY = "CamelQuarkusOpenTelemetryTailSamplingSpans";
+
+    private static final AttributeKey<Boolean> ERROR = AttributeKey.booleanKey("error");
+    private static final ThreadLocal<ExchangeSpans> CURRENT = new ThreadLocal<>();
+
+    private final Tracer delegate;
+    private final long latencyThresholdMillis;
+    private final int maxBufferedSpans;
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+    private final LongAdder sampledExchanges = new LongAdder();
+    private final LongAdder discardedExchanges = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+
+    public TailSamplingTracer(Tracer delegate, long latencyThresholdMillis, int maxBufferedSpans) {
+        this.delegate = delegate;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+        this.maxBufferedSpans = maxBufferedSpans;
+    }
+
+    @Override
+    public SpanBuilder spanBuilder(String spanName) {
+        SpanBuilder spanBuilder = delegate.spanBuilder(spanName);
+        ExchangeSpans exchangeSpans = CURRENT.get();
+        return exchangeSpans != null ? new DeferredSpanBuilder(spanBuilder, exchangeSpans) : spanBuilder;
+    }
+
+    /**
+     * Starts a span for the given exchange. The span is deferred when the exchange already has a span.
+     *
+     * @param  exchange the exchange the span is started for
+     * @param  start    starts the span with this tracer
+     * @return          the result of {@code start}
+     */
+    public <T> T startSpan(Exchange exchange, Supplier<T> start) {
+        ExchangeSpans exchangeSpans = exchange.getProperty(EXCHANGE_SPANS_PROPERTY, ExchangeSpans.class);
+        if (exchangeSpans == null) {
+            // The first span of the exchange is always created
+            exchangeSpans = new ExchangeSpans();
+            exchange.setProperty(EXCHANGE_SPANS_PROPERTY, exchangeSpans);
+            exchange.getExchangeExtension().addOnCompletion(exchangeSpans);
+            return start.get();
+        }
+
+        CURRENT.set(exchangeSpans);
+        try {
+            return start.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * The number of exchanges whose deferred spans were created.
+     */
+    public long getSampledExchanges() {
+        return sampledExchanges.sum();
+    }
+
+    /**
+     * The number of exchanges whose deferred spans were discarded.
+     */
+    public long getDiscardedExchanges() {
+        return discardedExchanges.sum();
+    }
+
+    /**
+     * The number of spans not recorded because {@code maxBufferedSpans} spans were already deferred.
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    /**
+     * The number of spans currently deferred.
+     */
+    public int getBufferedSpans() {
+        return bufferedSpans.get();
+    }
+
+    private static long now() {
+        Instant now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    final class ExchangeSpans extends SynchronizationAdapter {
+        private final List<DeferredSpan> spans = new ArrayList<>();
+        private boolean decided;
+        private boolean sampled;
+        private boolean error;
+
+        @Override
+        public void onDone(Exchange exchange) {
+            boolean slow = System.currentTimeMillis() - exchange.getCreated() >= latencyThresholdMillis;
+            List<DeferredSpan> deferredSpans;
+            synchronized (this) {
+                decided = true;
+                sampled = exchange.isFailed() || slow || error;
+                deferredSpans = new ArrayList<>(spans);
+                spans.clear();
+            }
+            bufferedSpans.addAndGet(-deferredSpans.size());
+            if (sampled) {
+                sampledExchanges.increment();
+                deferredSpans.forEach(DeferredSpan::create);
+            } else {
+                discardedExchanges.increment();
+                deferredSpans.forEach(DeferredSpan::discard);
+            }
+        }
+
+        /**
+         * Starts a span, deferred unless the sampling decision is already made.
+         */
+        Span startSpan(SpanBuilder spanBuilder, Context parentContext) {
+            Span parent = Span.fromContext(parentContext);
+            synchronized (this) {
+                if (decided) {
+                    return sampled ? spanBuilder.startSpan() : Span.wrap(parent.getSpanContext());
+                }
+                if (bufferedSpans.incrementAndGet() > maxBufferedSpans) {
+                    bufferedSpans.decrementAndGet();
+                    droppedSpans.increment();
+                    return Span.wrap(parent.getSpanContext());
+                }
+                DeferredSpan span = new DeferredSpan(this, spanBuilder, parentContext);
+                spans.add(span);
+                return span;
+            }
+        }
+
+        synchronized void onError() {
+            error = true;
+        }
+    }
+
+    final class DeferredSpanBuilder implements SpanBuilder {
+        private final SpanBuilder delegate;
+        private final ExchangeSpans exchangeSpans;
+        private Context parentContext;
+
+        DeferredSpanBuilder(SpanBuilder delegate, ExchangeSpans exchangeSpans) {
+            this.delegate = delegate;
+            this.exchangeSpans = exchangeSpans;
+        }
+
+        @Override
+        public SpanBuilder setParent(Context context) {
+            parentContext = context;
+            delegate.setParent(context);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setNoParent() {
+            parentContext = Context.root();
+            delegate.setNoParent();
+            return this;
+        }
+
+        @Override
+        public SpanBuilder addLink(SpanContext spanContext) {
+            delegate.addLink(spanContext);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder addLink(SpanContext spanContext, Attributes attributes) {
+            delegate.addLink(spanContext, attributes);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setAttribute(String key, String value) {
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setAttribute(String key, long value) {
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setAttribute(String key, double value) {
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setAttribute(String key, boolean value) {
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public <T> SpanBuilder setAttribute(AttributeKey<T> key, T value) {
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setSpanKind(SpanKind spanKind) {
+            delegate.setSpanKind(spanKind);
+            return this;
+        }
+
+        @Override
+        public SpanBuilder setStartTimestamp(long startTimestamp, TimeUnit unit) {
+            delegate.setStartTimestamp(startTimestamp, unit);
+            return this;
+        }
+
+        @Override
+        public Span startSpan() {
+            Context context = parentContext != null ? parentContext : Context.current();
+            if (!Span.fromContext(context).getSpanContext().isValid()) {
+                // Without a parent, the span would start a new trace that nothing else would link to
+                return delegate.startSpan();
+            }
+            return exchangeSpans.startSpan(delegate, context);
+        }
+    }
+
+    /**
+     * A span recording the operations applied to it, in order to apply them to the actual span once created.
+     */
+    static final class DeferredSpan implements Span {
+        private final ExchangeSpans exchangeSpans;
+        private final SpanBuilder spanBuilder;
+        private final Context parentContext;
+        private final Span parent;
+        private final long startTimestamp = now();
+        private final List<Consumer<Span>> operations = new ArrayList<>();
+        private long endTimestamp;
+        private boolean discarded;
+        private Span span;
+
+        DeferredSpan(ExchangeSpans exchangeSpans, SpanBuilder spanBuilder, Context parentContext) {
+            this.exchangeSpans = exchangeSpans;
+            this.spanBuilder = spanBuilder;
+            this.parentContext = parentContext;
+            this.parent = Span.fromContext(parentContext);
+        }
+
+        /**
+         * Creates the actual span, after the parent one when deferred too, and applies the recorded operations. The span
+         * is created in the context it was started in, so that the other entries of that context, such as the baggage,
+         * are kept.
+         */
+        synchronized Span create() {
+            if (span == null) {
+                Context context = parentContext;
+                if (parent instanceof DeferredSpan) {
+                    context = context.with(((DeferredSpan) parent).create());
+                }
+                span = spanBuilder.setParent(context)
+                        .setStartTimestamp(startTimestamp, TimeUnit.NANOSECONDS)
+                        .startSpan();
+                operations.forEach(operation -> operation.accept(span));
+                operations.clear();
+                if (endTimestamp != 0) {
+                    span.end(endTimestamp, TimeUnit.NANOSECONDS);
+                }
+            }
+            return span;
+        }
+
+        /**
+         * Stops recording the operations, as the actual span will not be created.
+         */
+        synchronized void discard() {
+            discarded = true;
+            operations.clear();
+        }
+
+        private synchronized Span record(Consumer<Span> operation) {
+            if (span != null) {
+                operation.accept(span);
+            } else if (!discarded) {
+                operations.add(operation);
+            }
+            return this;
+        }
+
+        @Override
+        public <T> Span setAttribute(AttributeKey<T> key, T value) {
+            if (ERROR.equals(key) && Boolean.TRUE.equals(value)) {
+                // Camel marks the spans of the failed exchanges with this attribute rather than with a status
+                exchangeSpans.onError();
+            }
+            return record(span -> span.setAttribute(key, value));
+        }
+
+        @Override
+        public Span addEvent(String name, Attributes attributes) {
+            long timestamp = now();
+            return record(span -> span.addEvent(name, attributes, timestamp, TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public Span addEvent(String name, Attributes attributes, long timestamp, TimeUnit unit) {
+            return record(span -> span.addEvent(name, attributes, timestamp, unit));
+        }
+
+        @Override
+        public Span setStatus(StatusCode statusCode, String description) {
+            if (statusCode == StatusCode.ERROR) {
+                exchangeSpans.onError();
+            }
+            return record(span -> span.setStatus(statusCode, description));
+        }
+
+        @Override
+        public Span recordException(Throwable exception, Attributes additionalAttributes) {
+            return record(span -> span.recordException(exception, additionalAttributes));
+        }
+
+        @Override
+        public Span updateName(String name) {
+            return record(span -> span.updateName(name));
+        }
+
+        @Override
+        public void end() {
+            end(now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public synchronized void end(long timestamp, TimeUnit unit) {
+            if (endTimestamp == 0) {
+                endTimestamp = unit.toNanos(timestamp);
+                if (span != null) {
+                    span.end(endTimestamp, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        @Override
+        public synchronized SpanContext getSpanContext() {
+            return span != null ? span.getSpanContext() : parent.getSpanContext();
+        }
+
+        @Override
+        public boolean isRecording() {
+            return true;
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.quarkus.component.platform.http.deployment;
 
+import java.util.function.BooleanSupplier;
+
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
@@ -28,7 +30,9 @@ import org.apache.camel.component.platform.http.PlatformHttpComponent;
 import org.apache.camel.component.platform.http.PlatformHttpConstants;
 import org.apache.camel.component.platform.http.vertx.VertxPlatformHttpEngine;
 import org.apache.camel.component.platform.http.vertx.VertxPlatformHttpRouter;
+import org.apache.camel.quarkus.component.platform.http.runtime.PlatformHttpBuildTimeConfig;
 import org.apache.camel.quarkus.component.platform.http.runtime.PlatformHttpRecorder;
+import org.apache.camel.quarkus.core.deployment.spi.CamelContextCustomizerBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelRuntimeBeanBuildItem;
 import org.apache.camel.quarkus.core.deployment.spi.CamelServiceFilter;
 import org.apache.camel.quarkus.core.deployment.spi.CamelServiceFilterBuildItem;
@@ -85,4 +89,19 @@ class PlatformHttpProcessor {
                 PlatformHttpComponent.class.getName(),
                 recorder.createComponent(engine.getInstance()));
     }
+
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep(onlyIf = StreamFileResponsesEnabled.class)
+    CamelContextCustomizerBuildItem fileResponseCustomizer(PlatformHttpRecorder recorder) {
+        return new CamelContextCustomizerBuildItem(recorder.createFileResponseCustomizer());
+    }
+
+    static class StreamFileResponsesEnabled implements BooleanSupplier {
+        PlatformHttpBuildTimeConfig config;
+
+        @Override
+        public boolean getAsBoolean() {
+            return config.streamFileResponses;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.platform.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "camel.platform-http", phase = ConfigPhase.BUILD_TIME)
+public class PlatformHttpBuildTimeConfig {
+    /**
+     * If {@code true}, a `java.io.File`, `java.nio.file.Path` or `GenericFile` response body of the routes consuming
+     * from `platform-http` is replaced with an `InputStream` on the file when the route completes, so that the file is
+     * written to the response in chunks instead of being read into the heap at once.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean streamFileResponses;
+}
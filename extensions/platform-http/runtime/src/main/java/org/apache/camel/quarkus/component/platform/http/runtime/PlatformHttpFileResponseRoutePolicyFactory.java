@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.platform.http.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+
+/**
+ * Replaces a {@link File}, {@link Path} or {@link WrappedFile} response body of the routes consuming from
+ * {@code platform-http} with an {@link java.io.InputStream} on the file. Installed when
+ * {@code quarkus.camel.platform-http.stream-file-responses} is enabled, and only on the routes consuming from
+ * {@code platform-http}.
+ * <p>
+ * The Vert.x platform HTTP engine converts a file body to a {@link java.nio.ByteBuffer} holding the complete file, that
+ * is then copied into a Vert.x buffer. An input stream is instead written in chunks as the response is sent, so that
+ * the heap used to serve a file no longer depends on its size. The route policy is notified when the route completes,
+ * before the engine writes the response.
+ */
+public class PlatformHttpFileResponseRoutePolicyFactory implements RoutePolicyFactory {
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        if (route instanceof RouteDefinition && consumesFromPlatformHttp((RouteDefinition) route)) {
+            return new FileResponseRoutePolicy();
+        }
+        return null;
+    }
+
+    static boolean consumesFromPlatformHttp(RouteDefinition route) {
+        if (route.getInput() == null || route.getInput().getEndpointUri() == null) {
+            return false;
+        }
+        String uri = route.getInput().getEndpointUri();
+        // REST DSL routes may be served by platform-http too, the policy checks the actual endpoint of the exchanges
+        return uri.startsWith("platform-http:") || uri.startsWith("rest:");
+    }
+
+    static class FileResponseRoutePolicy extends RoutePolicySupport {
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            if (exchange.getException() != null || !(exchange.getFromEndpoint() instanceof PlatformHttpEndpoint)) {
+                return;
+            }
+
+            Message message = exchange.getMessage();
+            Path path = toPath(message.getBody());
+            if (path == null || !Files.isRegularFile(path)) {
+                return;
+            }
+            try {
+                // The engine closes the stream once the response is written
+                message.setBody(Files.newInputStream(path));
+            } catch (IOException e) {
+                exchange.setException(e);
+            }
+        }
+
+        private static Path toPath(Object body) {
+            if (body instanceof WrappedFile) {
+                body = ((WrappedFile<?>) body).getFile();
+            }
+            if (body instanceof File) {
+                return ((File) body).toPath();
+            }
+            if (body instanceof Path) {
+                return (Path) body;
+            }
+            return null;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.camel.component.platform.http.PlatformHttpComponent;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
 import org.apache.camel.component.platform.http.vertx.VertxPlatformHttpEngine;
 import org.apache.camel.component.platform.http.vertx.VertxPlatformHttpRouter;
+import org.apache.camel.spi.CamelContextCustomizer;
 
 @Recorder
 public class PlatformHttpRecorder {
@@ -50,4 +51,9 @@ public class PlatformHttpRecorder {
         };
         return new RuntimeValue<>(vertxPlatformHttpRouter);
     }
+
+    public RuntimeValue<CamelContextCustomizer> createFileResponseCustomizer() {
+        return new RuntimeValue<>(
+                context -> context.addRoutePolicyFactory(new PlatformHttpFileResponseRoutePolicyFactory()));
+    }
 }
@@ -29,6 +29,8 @@ import jakarta.ws.rs.core.Response;
 import org.apache.camel.CamelContext;
 import org.apache.camel.FluentProducerTemplate;
 import org.apache.camel.component.caffeine.CaffeineConstants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.quarkus.component.caffeine.CaffeineAggregationRepository;
 
 @Path("/caffeine")
 @ApplicationScoped
@@ -79,4 +81,31 @@ public class CaffeineResource {
 
         return t.request(String.class);
     }
+
+    @Path("/aggregation/{key}")
+    @POST
+    @Consumes(MediaType.TEXT_PLAIN)
+    public void aggregate(@PathParam("key") String key, String value) {
+        template.to("direct:aggregate").withHeader("key", key).withBody(value).send();
+    }
+
+    @Path("/aggregation/{repositoryName}/stats")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String aggregationStats(@PathParam("repositoryName") String repositoryName) {
+        CaffeineAggregationRepository repository = context.getRegistry().lookupByNameAndType(repositoryName,
+                CaffeineAggregationRepository.class);
+        repository.getCache().cleanUp();
+        return repository.getCache().policy().eviction().get().weightedSize().getAsLong() + ","
+                + repository.getEvictionCount();
+    }
+
+    @Path("/idempotent/{id}")
+    @POST
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Produces(MediaType.TEXT_PLAIN)
+    public int idempotent(@PathParam("id") String id, String value) {
+        template.to("direct:idempotent").withHeader("id", id).withBody(value).send();
+        return context.getEndpoint("mock:idempotent", MockEndpoint.class).getReceivedCounter();
+    }
 }
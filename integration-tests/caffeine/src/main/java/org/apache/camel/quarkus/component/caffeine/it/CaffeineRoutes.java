@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.caffeine.it;
+
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.IdempotentRepository;
+
+public class CaffeineRoutes extends RouteBuilder {
+    @Override
+    public void configure() throws Exception {
+        from("direct:aggregate")
+                .aggregate(header("key"), AggregationStrategies.string())
+                .aggregationRepository(
+                        getContext().getRegistry().lookupByNameAndType("boundedAggregation", AggregationRepository.class))
+                .completionSize(100)
+                .to("mock:aggregated");
+
+        from("direct:idempotent")
+                .idempotentConsumer(header("id"),
+                        getContext().getRegistry().lookupByNameAndType("boundedIdempotent", IdempotentRepository.class))
+                .to("mock:idempotent");
+    }
+}
@@ -26,6 +26,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 class CaffeineTest {
@@ -66,4 +68,45 @@ class CaffeineTest {
                 .statusCode(200)
                 .body(is(value.toUpperCase(Locale.US)));
     }
+
+    @Test
+    public void aggregationRepositoryIsBoundedByBodySize() {
+        for (int i = 0; i < 10; i++) {
+            RestAssured.given()
+                    .body("12345")
+                    .post("/caffeine/aggregation/{key}", "key-" + i)
+                    .then()
+                    .statusCode(204);
+        }
+
+        String[] stats = RestAssured.get("/caffeine/aggregation/{repositoryName}/stats", "boundedAggregation")
+                .then()
+                .statusCode(200)
+                .extract().asString().split(",");
+        assertTrue(Long.parseLong(stats[0]) <= 10, "Weighted size " + stats[0] + " exceeds the maximum weight");
+        assertTrue(Long.parseLong(stats[1]) >= 8, "Only " + stats[1] + " aggregations were evicted");
+    }
+
+    @Test
+    public void idempotentRepositoryFiltersDuplicates() {
+        RestAssured.given()
+                .body("first")
+                .post("/caffeine/idempotent/{id}", "id-1")
+                .then()
+                .statusCode(200)
+                .body(is("1"));
+        RestAssured.given()
+                .body("duplicate")
+                .post("/caffeine/idempotent/{id}", "id-1")
+                .then()
+                .statusCode(200)
+                .body(is("1"));
+        String count = RestAssured.given()
+                .body("second")
+                .post("/caffeine/idempotent/{id}", "id-2")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+        assertEquals("2", count);
+    }
 }
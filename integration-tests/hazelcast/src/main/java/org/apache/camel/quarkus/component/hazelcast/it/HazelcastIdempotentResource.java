@@ -18,22 +18,29 @@ package org.apache.camel.quarkus.component.hazelcast.it;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.hazelcast.core.HazelcastInstance;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.quarkus.component.hazelcast.HazelcastNearCacheIdempotentRepository;
 import org.apache.camel.quarkus.component.hazelcast.it.model.HazelcastMapRequest;
 
 import static org.apache.camel.quarkus.component.hazelcast.it.HazelcastRoutes.MOCK_IDEMPOTENT_ADDED;
+import static org.apache.camel.quarkus.component.hazelcast.it.HazelcastRoutes.MOCK_IDEMPOTENT_NEAR_CACHE_ADDED;
+import static org.apache.camel.quarkus.component.hazelcast.it.HazelcastRoutes.NEAR_CACHE_REPOSITORY;
 
 @Path("/hazelcast/instance")
 @ApplicationScoped
@@ -51,6 +58,13 @@ public class HazelcastIdempotentResource {
     @Named("hazelcastResults")
     Map<String, List<String>> hazelcastResults;
 
+    @Inject
+    @Named("nearCacheIdempotentRepository")
+    HazelcastNearCacheIdempotentRepository nearCacheIdempotentRepository;
+
+    @Inject
+    HazelcastInstance hazelcastInstance;
+
     @POST
     public Response add(HazelcastMapRequest request) {
         producerTemplate.sendBodyAndHeader("direct:in-idempotent", request.getValue(), "messageId", request.getId());
@@ -61,4 +75,38 @@ public class HazelcastIdempotentResource {
     public List<String> get() {
         return hazelcastResults.get(MOCK_IDEMPOTENT_ADDED);
     }
+
+    @POST
+    @Path("near-cache")
+    public Response addNearCache(HazelcastMapRequest request) {
+        producerTemplate.sendBodyAndHeader("direct:in-idempotent-near-cache", request.getValue(), "messageId",
+                request.getId());
+        return Response.accepted().build();
+    }
+
+    @GET
+    @Path("near-cache")
+    public List<String> getNearCache() {
+        return hazelcastResults.get(MOCK_IDEMPOTENT_NEAR_CACHE_ADDED);
+    }
+
+    @GET
+    @Path("near-cache/hits")
+    public long getNearCacheHits() {
+        return nearCacheIdempotentRepository.getNearCacheHits();
+    }
+
+    @POST
+    @Path("near-cache/batch")
+    public Set<String> addAllNearCache(List<String> ids) {
+        return nearCacheIdempotentRepository.addAll(ids);
+    }
+
+    @DELETE
+    @Path("near-cache/{id}")
+    public Response removeFromMap(@PathParam("id") String id) {
+        // Bypass the repository, so that only the map listener can invalidate the near cache
+        hazelcastInstance.getMap(NEAR_CACHE_REPOSITORY).remove(id);
+        return Response.accepted().build();
+    }
 }
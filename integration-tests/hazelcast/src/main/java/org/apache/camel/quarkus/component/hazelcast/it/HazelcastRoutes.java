@@ -47,6 +47,7 @@ import org.apache.camel.component.hazelcast.seda.HazelcastSedaComponent;
 import org.apache.camel.component.hazelcast.set.HazelcastSetComponent;
 import org.apache.camel.component.hazelcast.topic.HazelcastTopicComponent;
 import org.apache.camel.processor.idempotent.hazelcast.HazelcastIdempotentRepository;
+import org.apache.camel.quarkus.component.hazelcast.HazelcastNearCacheIdempotentRepository;
 import org.apache.camel.spi.RoutePolicy;
 import org.jboss.logging.Logger;
 
@@ -77,6 +78,8 @@ public class HazelcastRoutes extends RouteBuilder {
     public static final String MOCK_INSTANCE_ADDED = "mock:instance-added";
     public static final String MOCK_INSTANCE_REMOVED = "mock:instance-removed";
     public static final String MOCK_IDEMPOTENT_ADDED = "mock:idempotent-added";
+    public static final String MOCK_IDEMPOTENT_NEAR_CACHE_ADDED = "mock:idempotent-near-cache-added";
+    public static final String NEAR_CACHE_REPOSITORY = "myNearCacheRepo";
     public static final String MOCK_POLICY = "mock:policy";
 
     @Inject
@@ -86,6 +89,10 @@ public class HazelcastRoutes extends RouteBuilder {
     @Named("hazelcastResults")
     Map<String, List<String>> hazelcastResults;
 
+    @Inject
+    @Named("nearCacheIdempotentRepository")
+    HazelcastNearCacheIdempotentRepository nearCacheIdempotentRepository;
+
     @Named("hazelcast-instance")
     HazelcastDefaultComponent hazelcastInstance() {
         final HazelcastInstanceComponent hazelcastComponent = new HazelcastInstanceComponent();
@@ -291,6 +298,11 @@ public class HazelcastRoutes extends RouteBuilder {
                 .idempotentConsumer(header("messageId"), repo)
                 .process(new StringBodyCollector(hazelcastResults, MOCK_IDEMPOTENT_ADDED));
 
+        // Idempotent Repository with a near cache
+        from("direct:in-idempotent-near-cache")
+                .idempotentConsumer(header("messageId"), nearCacheIdempotentRepository)
+                .process(new StringBodyCollector(hazelcastResults, MOCK_IDEMPOTENT_NEAR_CACHE_ADDED));
+
         // route policy
         from("direct:in-policy")
                 .routeId("id-value")
@@ -319,6 +331,13 @@ public class HazelcastRoutes extends RouteBuilder {
         Map<String, List<String>> hazelcastResults() {
             return new ConcurrentHashMap<>();
         }
+
+        @jakarta.enterprise.inject.Produces
+        @Singleton
+        @Named("nearCacheIdempotentRepository")
+        HazelcastNearCacheIdempotentRepository nearCacheIdempotentRepository(HazelcastInstance hazelcastInstance) {
+            return new HazelcastNearCacheIdempotentRepository(hazelcastInstance, NEAR_CACHE_REPOSITORY);
+        }
     }
 
     static class ObjectIdCollector implements Processor {
@@ -30,6 +30,9 @@ import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 @TestHTTPEndpoint(HazelcastIdempotentResource.class)
@@ -85,4 +88,42 @@ public class HazelcastIdempotentTest {
             return body.size() == 3 && body.containsAll(Arrays.asList("val1", "val2")) && !body.contains("val4");
         });
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testNearCacheIdempotentRepository() {
+        HazelcastMapRequest request = new HazelcastMapRequest().withVaLue("near1").withId("n1");
+        given().contentType(ContentType.JSON).body(request).post("/near-cache").then().statusCode(202);
+
+        request = request.withVaLue("near2").withId("n2");
+        given().contentType(ContentType.JSON).body(request).post("/near-cache").then().statusCode(202);
+
+        // duplicate answered by the near cache
+        request = request.withVaLue("near3").withId("n1");
+        given().contentType(ContentType.JSON).body(request).post("/near-cache").then().statusCode(202);
+
+        long hits = given().get("/near-cache/hits").then().statusCode(200).extract().as(Long.class);
+        assertTrue(hits > 0, "near cache hits: " + hits);
+
+        // bulk add skips the known keys and the duplicates within the batch
+        given()
+                .contentType(ContentType.JSON)
+                .body(Arrays.asList("n1", "n4", "n4", "n5"))
+                .post("/near-cache/batch")
+                .then()
+                .statusCode(200)
+                .body("", contains("n4", "n5"));
+
+        // removing the key from the map behind the repository invalidates the near cache
+        given().delete("/near-cache/n1").then().statusCode(202);
+        await().atMost(10L, TimeUnit.SECONDS).until(() -> {
+            HazelcastMapRequest again = new HazelcastMapRequest().withVaLue("near4").withId("n1");
+            given().contentType(ContentType.JSON).body(again).post("/near-cache").then().statusCode(202);
+            List<String> body = RestAssured.get("/near-cache").then().extract().body().as(List.class);
+            return body.contains("near4");
+        });
+
+        List<String> body = RestAssured.get("/near-cache").then().extract().body().as(List.class);
+        assertEquals(Arrays.asList("near1", "near2", "near4"), body);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.infinispan;
+
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+
+import static org.apache.camel.quarkus.component.infinispan.common.InfinispanCommonResources.CACHE_NAME;
+
+public class InfinispanNearCacheProducers {
+    public static final int NEAR_CACHE_SIZE = 3;
+
+    @Produces
+    @Singleton
+    @Named("nearCacheManager")
+    RemoteCacheManager nearCacheManager() {
+        return new RemoteCacheManager(InfinispanRoutes.createConfiguration());
+    }
+
+    void closeNearCacheManager(@Disposes @Named("nearCacheManager") RemoteCacheManager cacheManager) {
+        cacheManager.close();
+    }
+
+    @Produces
+    @Singleton
+    @Named("nearCacheIdempotentRepository")
+    InfinispanNearCacheIdempotentRepository nearCacheIdempotentRepository(
+            @Named("nearCacheManager") RemoteCacheManager cacheManager) {
+        InfinispanNearCacheIdempotentRepository repository = new InfinispanNearCacheIdempotentRepository(cacheManager,
+                CACHE_NAME);
+        repository.setNearCacheSize(NEAR_CACHE_SIZE);
+        return repository;
+    }
+}
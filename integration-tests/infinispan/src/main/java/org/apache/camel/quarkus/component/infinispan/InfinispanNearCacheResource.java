@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.infinispan;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+
+import static org.apache.camel.quarkus.component.infinispan.InfinispanRoutes.MOCK_IDEMPOTENT_NEAR_CACHE_RESULT;
+import static org.apache.camel.quarkus.component.infinispan.common.InfinispanCommonResources.CACHE_NAME;
+
+@Path("/infinispan/near-cache")
+@ApplicationScoped
+public class InfinispanNearCacheResource {
+
+    @Inject
+    ProducerTemplate template;
+
+    @Inject
+    CamelContext camelContext;
+
+    @Inject
+    @Named("nearCacheIdempotentRepository")
+    InfinispanNearCacheIdempotentRepository nearCacheIdempotentRepository;
+
+    @Inject
+    @Named("nearCacheManager")
+    RemoteCacheManager nearCacheManager;
+
+    @Path("/{id}")
+    @POST
+    @Consumes(MediaType.TEXT_PLAIN)
+    public void add(@PathParam("id") String id, String content) {
+        template.sendBodyAndHeader("direct:idempotent-near-cache", content, "MessageID", id);
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<String> received() {
+        return camelContext.getEndpoint(MOCK_IDEMPOTENT_NEAR_CACHE_RESULT, MockEndpoint.class)
+                .getReceivedExchanges()
+                .stream()
+                .map(exchange -> exchange.getMessage().getBody(String.class))
+                .collect(Collectors.toList());
+    }
+
+    @Path("/hits")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public long hits() {
+        return nearCacheIdempotentRepository.getNearCacheHits();
+    }
+
+    @Path("/entries")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public int entries() {
+        return nearCacheIdempotentRepository.getNearCacheEntries();
+    }
+
+    @Path("/{id}")
+    @DELETE
+    public void removeFromRemoteCache(@PathParam("id") String id) {
+        // Bypass the repository, so that only the client listener can invalidate the near cache
+        nearCacheManager.getCache(CACHE_NAME).remove(id);
+    }
+}
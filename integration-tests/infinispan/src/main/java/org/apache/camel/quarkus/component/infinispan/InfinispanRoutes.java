@@ -19,6 +19,7 @@ package org.apache.camel.quarkus.component.infinispan;
 import java.util.HashMap;
 import java.util.Map;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.ws.rs.Produces;
 import org.apache.camel.component.infinispan.remote.InfinispanRemoteConfiguration;
@@ -34,6 +35,20 @@ import static org.infinispan.client.hotrod.impl.ConfigurationProperties.CLIENT_I
 import static org.infinispan.client.hotrod.impl.ConfigurationProperties.MARSHALLER;
 
 public class InfinispanRoutes extends InfinispanCommonRoutes {
+    public static final String MOCK_IDEMPOTENT_NEAR_CACHE_RESULT = "mock:idempotentNearCacheResult";
+
+    @Inject
+    @Named("nearCacheIdempotentRepository")
+    InfinispanNearCacheIdempotentRepository nearCacheIdempotentRepository;
+
+    @Override
+    public void configure() {
+        super.configure();
+
+        from("direct:idempotent-near-cache")
+                .idempotentConsumer(header("MessageID"), nearCacheIdempotentRepository)
+                .to(MOCK_IDEMPOTENT_NEAR_CACHE_RESULT);
+    }
 
     @Produces
     @Named("additionalConfig")
@@ -48,6 +63,10 @@ public class InfinispanRoutes extends InfinispanCommonRoutes {
 
     @Override
     protected Configuration getConfigurationBuilder() {
+        return createConfiguration();
+    }
+
+    static Configuration createConfiguration() {
         Config config = ConfigProvider.getConfig();
         ConfigurationBuilder clientBuilder = new ConfigurationBuilder();
         String[] hostParts = config.getValue("camel.component.infinispan.hosts", String.class).split(":");
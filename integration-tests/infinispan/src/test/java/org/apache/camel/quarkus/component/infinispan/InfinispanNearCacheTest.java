@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.infinispan;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.quarkus.component.infinispan.InfinispanNearCacheProducers.NEAR_CACHE_SIZE;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+@QuarkusTest
+@QuarkusTestResource(InfinispanServerTestResource.class)
+public class InfinispanNearCacheTest {
+
+    @Test
+    public void nearCacheIdempotentRepository() {
+        String prefix = UUID.randomUUID().toString();
+        String first = prefix + "-1";
+        String second = prefix + "-2";
+
+        add(first, prefix + " near1");
+        add(second, prefix + " near2");
+
+        // The duplicate is answered by the near cache
+        long hits = RestAssured.get("/infinispan/near-cache/hits").then().statusCode(200).extract().as(Long.class);
+        add(first, prefix + " near3");
+        RestAssured.get("/infinispan/near-cache/hits")
+                .then()
+                .statusCode(200)
+                .body(greaterThan((int) hits));
+        RestAssured.get("/infinispan/near-cache")
+                .then()
+                .statusCode(200)
+                .body(hasItems(prefix + " near1", prefix + " near2"), not(hasItems(prefix + " near3")));
+
+        // Removing the key from the remote cache behind the repository invalidates the near cache
+        RestAssured.delete("/infinispan/near-cache/" + first).then().statusCode(204);
+        await().atMost(10L, TimeUnit.SECONDS).until(() -> {
+            add(first, prefix + " near4");
+            List<String> received = RestAssured.get("/infinispan/near-cache").then().extract().jsonPath().getList(".");
+            return received.contains(prefix + " near4");
+        });
+
+        RestAssured.get("/infinispan/near-cache")
+                .then()
+                .statusCode(200)
+                .body(".findAll { it.startsWith('" + prefix + "') }",
+                        contains(prefix + " near1", prefix + " near2", prefix + " near4"));
+    }
+
+    @Test
+    public void nearCacheBounded() {
+        String prefix = UUID.randomUUID().toString();
+        for (int i = 0; i < NEAR_CACHE_SIZE * 3; i++) {
+            add(prefix + "-" + i, prefix + " bounded" + i);
+        }
+
+        await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> RestAssured.get("/infinispan/near-cache/entries")
+                .then()
+                .statusCode(200)
+                .body(lessThanOrEqualTo(NEAR_CACHE_SIZE)));
+
+        // A key evicted from the near cache is still detected as a duplicate by the remote cache
+        add(prefix + "-0", prefix + " bounded-duplicate");
+        RestAssured.get("/infinispan/near-cache")
+                .then()
+                .statusCode(200)
+                .body(not(hasItems(prefix + " bounded-duplicate")));
+    }
+
+    private static void add(String id, String content) {
+        RestAssured.given()
+                .body(content)
+                .contentType("text/plain")
+                .post("/infinispan/near-cache/" + id)
+                .then()
+                .statusCode(204);
+    }
+}
@@ -35,7 +35,10 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.apache.camel.CamelContext;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.cluster.CamelClusterMember;
+import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.component.kubernetes.KubernetesConstants;
 
 @Path("/kubernetes")
@@ -45,6 +48,17 @@ public class KubernetesResource {
     @Inject
     ProducerTemplate producerTemplate;
 
+    @Inject
+    CamelContext context;
+
+    @Path("/cluster/{namespace}/leader")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String getLeader(@PathParam("namespace") String namespace) throws Exception {
+        CamelClusterService service = context.hasService(CamelClusterService.class);
+        return service.getView(namespace).getLeader().map(CamelClusterMember::getId).orElse("");
+    }
+
     @Path("/pod/{namespace}/{podName}")
     @GET
     @Produces(MediaType.TEXT_PLAIN)
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kubernetes.it;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+public class KubernetesClusterServiceWatchProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> props = new HashMap<>();
+        props.put("quarkus.camel.cluster.kubernetes.enabled", "true");
+        props.put("quarkus.camel.cluster.kubernetes.watch", "true");
+        props.put("quarkus.camel.cluster.kubernetes.rebalancing", "false");
+        props.put("quarkus.camel.cluster.kubernetes.namespace", KubernetesClusterServiceWatchTest.NAMESPACE);
+        props.put("quarkus.camel.cluster.kubernetes.pod-name", KubernetesClusterServiceWatchTest.POD_NAME);
+        props.put("quarkus.camel.cluster.kubernetes.lease-duration-millis", "3000");
+        props.put("quarkus.camel.cluster.kubernetes.renew-deadline-millis", "2000");
+        props.put("quarkus.camel.cluster.kubernetes.retry-period-millis", "500");
+        return props;
+    }
+}
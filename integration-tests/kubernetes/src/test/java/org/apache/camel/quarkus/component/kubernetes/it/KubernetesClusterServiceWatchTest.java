@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.component.kubernetes.it;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.kubernetes.client.KubernetesServerTestResource;
+import io.quarkus.test.kubernetes.client.KubernetesTestServer;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the watch mode of the cluster service against the CRUD mode of the mock API server, which stores the leases
+ * and notifies their changes to the watches like a real API server.
+ */
+@QuarkusTest
+@QuarkusTestResource(KubernetesServerTestResource.class)
+@TestProfile(KubernetesClusterServiceWatchProfile.class)
+public class KubernetesClusterServiceWatchTest {
+
+    static final String NAMESPACE = "test";
+    static final String POD_NAME = "camel-pod-1";
+    private static final String OTHER_POD_NAME = "camel-pod-2";
+
+    @KubernetesTestServer
+    private KubernetesServer mockServer;
+
+    @Test
+    public void leaseShouldBeAcquiredReleasedToAndTakenOverFromAnotherPod() {
+        KubernetesClient client = mockServer.getClient();
+
+        // No lease exists yet, so the local pod creates and acquires it
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            RestAssured.get("/kubernetes/cluster/watch-ns/leader")
+                    .then()
+                    .statusCode(200)
+                    .body(is(POD_NAME));
+        });
+        Lease lease = client.leases().inNamespace(NAMESPACE).withName("leaders-watch-ns").get();
+        assertEquals(POD_NAME, lease.getSpec().getHolderIdentity());
+        assertEquals(3, lease.getSpec().getLeaseDurationSeconds());
+
+        // Another pod overrides the lease, which the local pod is notified of
+        lease = client.leases().inNamespace(NAMESPACE).resource(new LeaseBuilder(lease)
+                .editMetadata()
+                .withResourceVersion(null)
+                .endMetadata()
+                .editSpec()
+                .withHolderIdentity(OTHER_POD_NAME)
+                .withAcquireTime(ZonedDateTime.now())
+                .withRenewTime(ZonedDateTime.now())
+                .endSpec()
+                .build()).update();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            RestAssured.get("/kubernetes/cluster/watch-ns/leader")
+                    .then()
+                    .statusCode(200)
+                    .body(is(OTHER_POD_NAME));
+        });
+
+        // The other pod keeps renewing the lease, so the local pod must not take it over
+        long start = System.nanoTime();
+        long renewed = start;
+        while (System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5)) {
+            lease = client.leases().inNamespace(NAMESPACE).resource(new LeaseBuilder(lease)
+                    .editSpec()
+                    .withRenewTime(ZonedDateTime.now())
+                    .endSpec()
+                    .build()).update();
+            renewed = System.nanoTime();
+            RestAssured.get("/kubernetes/cluster/watch-ns/leader")
+                    .then()
+                    .statusCode(200)
+                    .body(is(OTHER_POD_NAME));
+            sleep(500);
+        }
+
+        // The other pod stops renewing the lease, which the local pod takes over once it has expired
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            RestAssured.get("/kubernetes/cluster/watch-ns/leader")
+                    .then()
+                    .statusCode(200)
+                    .body(is(POD_NAME));
+        });
+        assertTrue(System.nanoTime() - renewed >= TimeUnit.SECONDS.toNanos(3));
+
+        lease = client.leases().inNamespace(NAMESPACE).withName("leaders-watch-ns").get();
+        assertEquals(POD_NAME, lease.getSpec().getHolderIdentity());
+        assertEquals(1, lease.getSpec().getLeaseTransitions());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
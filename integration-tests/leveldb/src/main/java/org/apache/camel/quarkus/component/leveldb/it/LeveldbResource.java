@@ -16,11 +16,19 @@
  */
 package org.apache.camel.quarkus.component.leveldb.it;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -28,6 +36,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -35,8 +44,11 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.quarkus.component.leveldb.QuarkusLevelDBAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
 
 import static java.util.stream.Collectors.joining;
 
@@ -121,6 +133,93 @@ public class LeveldbResource {
 
     }
 
+    @Path("/serializer")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public String serializer() {
+        return new QuarkusLevelDBAggregationRepository("repoSerializer").getSerializer().getClass().getSimpleName();
+    }
+
+    @Path("/groupCommit")
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    public boolean groupCommitTest(@QueryParam("threads") int threads, @QueryParam("exchanges") int exchanges)
+            throws Exception {
+        String fileName = LeveldbRouteBuilder.DATA_FOLDER + "leveldbGroupCommit.dat";
+
+        String crashedFileName = LeveldbRouteBuilder.DATA_FOLDER + "leveldbGroupCommitCrashed.dat";
+
+        QuarkusLevelDBAggregationRepository repo = createGroupCommitRepository(fileName);
+        repo.start();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < exchanges; i++) {
+                        Exchange exchange = new DefaultExchange(context);
+                        exchange.getIn().setBody("body-" + thread + "-" + i);
+                        repo.add(context, "key-" + thread + "-" + i, exchange);
+                        if (i % 2 == 1) {
+                            repo.remove(context, "key-" + thread + "-" + i, exchange);
+                            repo.confirm(context, exchange.getExchangeId());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            // Simulate a crash: take the files as they are on disk while the database is still open, so that neither the
+            // memtable nor the group commit writer get flushed or closed
+            copyDirectory(new File(fileName), new File(crashedFileName));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Check that all the committed operations are recovered from the write ahead log of the crashed database
+        QuarkusLevelDBAggregationRepository recovered = createGroupCommitRepository(crashedFileName);
+        recovered.start();
+        try {
+            if (recovered.getKeys().size() != threads * (exchanges / 2) || !recovered.scan(context).isEmpty()) {
+                return false;
+            }
+            for (int t = 0; t < threads; t++) {
+                for (int i = 0; i < exchanges; i += 2) {
+                    Exchange exchange = recovered.get(context, "key-" + t + "-" + i);
+                    if (exchange == null || !("body-" + t + "-" + i).equals(exchange.getIn().getBody(String.class))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            recovered.stop();
+            repo.stop();
+        }
+    }
+
+    private static void copyDirectory(File source, File target) throws IOException {
+        Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        File[] files = source.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                copyDirectory(file, new File(target, file.getName()));
+            }
+        }
+    }
+
+    private QuarkusLevelDBAggregationRepository createGroupCommitRepository(String fileName) {
+        QuarkusLevelDBAggregationRepository repo = new QuarkusLevelDBAggregationRepository("repoGroupCommit", fileName);
+        repo.setSync(true);
+        repo.setGroupCommit(true);
+        repo.setGroupCommitMaxOperations(64);
+        repo.setGroupCommitMaxDelay(2);
+        return repo;
+    }
+
     private List<Map<String, Object>> extractDataFromMock(MockEndpoint mockEndpoint) {
         List<Map<String, Object>> data = mockEndpoint.getReceivedExchanges().stream().sequential()
                 .map(exchange -> {
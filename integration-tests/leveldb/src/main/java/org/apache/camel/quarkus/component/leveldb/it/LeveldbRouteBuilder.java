@@ -24,6 +24,7 @@ import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.leveldb.LevelDBAggregationRepository;
+import org.apache.camel.quarkus.component.leveldb.BinaryLevelDBSerializer;
 import org.apache.camel.quarkus.component.leveldb.QuarkusLevelDBAggregationRepository;
 
 public class LeveldbRouteBuilder extends RouteBuilder {
@@ -31,12 +32,14 @@ public class LeveldbRouteBuilder extends RouteBuilder {
     public static final String DIRECT_BINARY = "direct:binary";
     public static final String DIRECT_START_WITH_FAILURE = "direct:startWithFailure";
     public static final String DIRECT_START_DEAD_LETTER = "direct:startDeadLetter";
+    public static final String DIRECT_START_BINARY_SERIALIZER = "direct:startBinarySerializer";
     public static final String MOCK_AGGREGATED = "mock:aggregated";
     public static final String MOCK_RESULT = "mock:result";
     public static final String MOCK_DEAD = "mock:dead";
     public static final String DATA_FOLDER = "target/data";
 
     private static AtomicInteger counter = new AtomicInteger(0);
+    private static AtomicInteger binarySerializerCounter = new AtomicInteger(0);
 
     @Override
     public void configure() {
@@ -92,6 +95,26 @@ public class LeveldbRouteBuilder extends RouteBuilder {
                 .log("XXX: result exchange id ${exchangeId} with ${body}")
                 .to(MOCK_RESULT)
                 .end();
+
+        LevelDBAggregationRepository repoBinarySerializer = new QuarkusLevelDBAggregationRepository("repoBinarySerializer",
+                DATA_FOLDER + "leveldbBinarySerializer.dat");
+
+        repoBinarySerializer.setSerializer(new BinaryLevelDBSerializer());
+        repoBinarySerializer.setUseRecovery(true);
+        repoBinarySerializer.setRecoveryInterval(500, TimeUnit.MILLISECONDS);
+
+        from(DIRECT_START_BINARY_SERIALIZER)
+                .aggregate(header("id"), new MyAggregationStrategy())
+                .completionSize(7).aggregationRepository(repoBinarySerializer)
+                .to(MOCK_AGGREGATED)
+                .process(exchange -> {
+                    int count = binarySerializerCounter.incrementAndGet();
+                    if (count <= 2) {
+                        throw new IllegalArgumentException("Failure");
+                    }
+                })
+                .to(MOCK_RESULT)
+                .end();
     }
 
     public static class MyAggregationStrategy implements AggregationStrategy {
@@ -33,6 +33,7 @@ import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -62,6 +63,19 @@ class LeveldbTest {
         assertEquals("direct://startWithFailure", resultData.get(0).get(LeveldbResource.PARAMETER_FROM_ENDPOINT));
     }
 
+    @Test
+    public void testAggregateRecoveryWithBinarySerializer() {
+        Map<String, List<Map<String, Object>>> data = testAggregate(LeveldbRouteBuilder.DIRECT_START_BINARY_SERIALIZER,
+                Arrays.asList("S", "H", "E", "L", "D", "O", "N"));
+
+        List<Map<String, Object>> resultData = data.get(LeveldbRouteBuilder.MOCK_RESULT);
+
+        assertEquals(Boolean.TRUE, resultData.get(0).get(Exchange.REDELIVERED));
+        assertEquals(2, resultData.get(0).get(Exchange.REDELIVERY_COUNTER));
+        assertEquals(123, resultData.get(0).get("id"));
+        assertEquals("direct://startBinarySerializer", resultData.get(0).get(LeveldbResource.PARAMETER_FROM_ENDPOINT));
+    }
+
     @Test
     public void testDeadLetter() {
         Map<String, List<Map<String, Object>>> data = testAggregate(LeveldbRouteBuilder.DIRECT_START_DEAD_LETTER,
@@ -105,6 +119,27 @@ class LeveldbTest {
         assertTrue(theSame);
     }
 
+    @Test
+    public void testGroupCommit() {
+        boolean recovered = RestAssured.given()
+                .queryParam("threads", 8)
+                .queryParam("exchanges", 200)
+                .post("/leveldb/groupCommit")
+                .then()
+                .statusCode(200)
+                .extract().as(Boolean.class);
+
+        assertTrue(recovered);
+    }
+
+    @Test
+    public void defaultSerializer() {
+        RestAssured.get("/leveldb/serializer")
+                .then()
+                .statusCode(200)
+                .body(is("JacksonLevelDBSerializer"));
+    }
+
     private Map<String, List<Map<String, Object>>> testAggregate(String path, List<String> messages) {
         return testAggregate(path, messages, null);
     }
@@ -23,6 +23,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 
 @QuarkusTest
@@ -107,4 +109,41 @@ class ManagementTest {
                 .statusCode(200)
                 .body(is("2"));
     }
+
+    @Test
+    public void testPerformanceCounters() {
+        RestAssured.given()
+                .queryParam("endpointUri", "direct:start")
+                .post("/management/invoke/route")
+                .then()
+                .statusCode(200)
+                .body(is("Hello World"));
+
+        RestAssured.get("/q/camel/performance-counters")
+                .then()
+                .statusCode(200)
+                .body(
+                        "routes.find { it.routeId == 'hello' }.exchangesCompleted", greaterThanOrEqualTo(1),
+                        "routes.find { it.routeId == 'hello' }.exchangesFailed", is(0),
+                        "routes.find { it.routeId == 'hello' }.processingTimePercentiles", hasKey("0.99"),
+                        "routes.find { it.routeId == 'hello' }.processors.size()", is(1));
+
+        // The name of the service MBeans ends with the identity hash code of the service
+        RestAssured.given()
+                .queryParam("name", "org.apache.camel:type=services,name=PerformanceCounters*,*")
+                .queryParam("operation", "dumpStatisticsAsJson")
+                .post("/management/invoke")
+                .then()
+                .statusCode(200)
+                .body(containsString("\"routeId\":\"hello\""));
+
+        // The statistics level required by the performance counters
+        RestAssured.given()
+                .queryParam("name", "org.apache.camel:type=context,*")
+                .queryParam("attribute", "ManagementStatisticsLevel")
+                .get("/management/attribute")
+                .then()
+                .statusCode(200)
+                .body(is("RoutesOnly"));
+    }
 }
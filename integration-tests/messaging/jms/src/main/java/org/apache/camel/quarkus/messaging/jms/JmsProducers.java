@@ -33,6 +33,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.jms.JmsConstants;
 import org.apache.camel.component.jms.MessageListenerContainerFactory;
+import org.apache.camel.quarkus.component.jms.BatchingMessageListenerContainerFactory;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.support.converter.MessageConversionException;
 import org.springframework.jms.support.converter.MessageConverter;
@@ -47,6 +48,12 @@ public class JmsProducers {
         return jmsEndpoint -> new DefaultMessageListenerContainer();
     }
 
+    @Named
+    public MessageListenerContainerFactory longTimeoutBatchingMessageListenerContainerFactory() {
+        // Prevents the batch from being acknowledged by the timeout before the forced failure occurs
+        return new BatchingMessageListenerContainerFactory(100, 30000);
+    }
+
     @Named
     public DestinationResolver customDestinationResolver() {
         return (session, destinationName, pubSubDomain) -> {
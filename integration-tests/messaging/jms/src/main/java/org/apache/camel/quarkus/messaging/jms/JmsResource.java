@@ -20,6 +20,7 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.jms.Destination;
@@ -119,6 +120,47 @@ public class JmsResource {
         return Response.ok().entity(result).build();
     }
 
+    @Path("/batch")
+    @Produces(MediaType.TEXT_PLAIN)
+    @POST
+    public Response testBatchingMessageListenerContainer(@QueryParam("messageCount") int messageCount)
+            throws InterruptedException {
+        MockEndpoint mockEndpoint = context.getEndpoint("mock:batchResult", MockEndpoint.class);
+        mockEndpoint.reset();
+        mockEndpoint.expectedMessageCount(messageCount);
+
+        for (int i = 0; i < messageCount; i++) {
+            producerTemplate.sendBody(componentScheme + ":queue:batch", "Batch message " + i);
+        }
+
+        mockEndpoint.assertIsSatisfied(10000);
+
+        return Response.ok().entity(mockEndpoint.getReceivedCounter()).build();
+    }
+
+    @Path("/batch/redelivery")
+    @Produces(MediaType.TEXT_PLAIN)
+    @POST
+    public String testBatchingMessageListenerContainerRedelivery(@QueryParam("messageCount") int messageCount)
+            throws InterruptedException {
+        MockEndpoint mockEndpoint = context.getEndpoint("mock:batchRedeliveryResult", MockEndpoint.class);
+        mockEndpoint.reset();
+        // Messages up to the failed one are delivered twice
+        mockEndpoint.expectedMessageCount(messageCount + 4);
+
+        for (int i = 0; i < messageCount; i++) {
+            producerTemplate.sendBody(componentScheme + ":queue:batchRedelivery", "Batch message " + i);
+        }
+
+        mockEndpoint.assertIsSatisfied(10000);
+
+        return mockEndpoint.getReceivedExchanges()
+                .stream()
+                .map(exchange -> exchange.getMessage().getBody(String.class).replace("Batch message ", "")
+                        + (exchange.getMessage().getHeader("JMSRedelivered", false, Boolean.class) ? "r" : ""))
+                .collect(Collectors.joining(","));
+    }
+
     @Path("/{queueName}/transfer/exception")
     @Produces(MediaType.TEXT_PLAIN)
     @GET
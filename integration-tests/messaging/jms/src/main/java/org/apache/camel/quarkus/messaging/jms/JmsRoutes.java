@@ -43,6 +43,17 @@ public class JmsRoutes extends RouteBuilder {
         fromF("%s:queue:testJmsTransferException?transferException=true", componentScheme)
                 .throwException(new IllegalStateException("Forced exception"));
 
+        fromF("%s:queue:batch?consumerType=Custom&messageListenerContainerFactory=#batchingMessageListenerContainerFactory"
+                + "&acknowledgementModeName=CLIENT_ACKNOWLEDGE", componentScheme)
+                .to("mock:batchResult");
+
+        fromF("%s:queue:batchRedelivery?consumerType=Custom"
+                + "&messageListenerContainerFactory=#longTimeoutBatchingMessageListenerContainerFactory"
+                + "&acknowledgementModeName=CLIENT_ACKNOWLEDGE", componentScheme)
+                .to("mock:batchRedeliveryResult")
+                .filter(simple("${body} == 'Batch message 3' && ${header.JMSRedelivered} == false"))
+                .throwException(new IllegalStateException("Forced exception"));
+
         from("direct:computedDestination")
                 .bean("destinationHeaderSetter")
                 .toF("%s:queue:override", componentScheme);
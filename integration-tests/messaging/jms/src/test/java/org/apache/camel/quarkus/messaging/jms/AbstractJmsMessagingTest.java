@@ -16,6 +16,9 @@
  */
 package org.apache.camel.quarkus.messaging.jms;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import io.restassured.RestAssured;
@@ -23,6 +26,8 @@ import io.restassured.http.ContentType;
 import org.apache.camel.quarkus.component.messaging.it.AbstractMessagingTest;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -48,6 +53,35 @@ public class AbstractJmsMessagingTest extends AbstractMessagingTest {
                 .body(is("java.lang.IllegalStateException"));
     }
 
+    @Test
+    public void testJmsBatchingMessageListenerContainer() {
+        RestAssured.given()
+                .queryParam("messageCount", 250)
+                .post("/messaging/jms/batch")
+                .then()
+                .statusCode(200)
+                .body(is("250"));
+    }
+
+    @Test
+    public void testJmsBatchingMessageListenerContainerRedelivery() {
+        String deliveries = RestAssured.given()
+                .queryParam("messageCount", 5)
+                .post("/messaging/jms/batch/redelivery")
+                .then()
+                .statusCode(200)
+                .extract()
+                .body()
+                .asString();
+
+        // The messages of the incomplete batch were not acknowledged when message 3 failed, so they are all
+        // redelivered. The delivery order, and whether message 4 is flagged as redelivered when the broker had already
+        // dispatched it to the consumer, depend on the broker
+        List<String> received = new ArrayList<>(Arrays.asList(deliveries.split(",")));
+        assertTrue(received.remove("4") || received.remove("4r"), () -> "Message 4 not received: " + deliveries);
+        assertThat(deliveries, received, containsInAnyOrder("0", "1", "2", "3", "0r", "1r", "2r", "3r"));
+    }
+
     @Test
     public void testJmsMessageListenerContainerFactory() {
         String message = "Camel JMS With Custom MessageListenerContainerFactory";
@@ -22,6 +22,7 @@ import jakarta.inject.Named;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -71,6 +72,48 @@ public class MllpResource {
         return ack.split("\r")[0];
     }
 
+    @Path("/netty/send")
+    @POST
+    @Produces(MediaType.TEXT_PLAIN)
+    public String sendMessageWithNetty(String message) {
+        Integer mllpPort = ConfigProvider.getConfig().getValue("mllp.test.port", Integer.class);
+        String uri = String.format("netty:tcp://%s:%d?%s", MllpRoutes.MLLP_HOST, mllpPort, MllpRoutes.NETTY_MLLP_OPTIONS);
+        return producerTemplate.requestBody(uri, message, String.class);
+    }
+
+    @Path("/netty/receive")
+    @POST
+    @Produces(MediaType.TEXT_PLAIN)
+    public String receiveMessageWithNetty(String message) throws Exception {
+        MockEndpoint mockEndpoint = context.getEndpoint("mock:nettyReceived", MockEndpoint.class);
+        mockEndpoint.reset();
+        mockEndpoint.expectedBodiesReceived(message);
+
+        Integer nettyPort = ConfigProvider.getConfig().getValue("mllp.test.netty.port", Integer.class);
+        String mllpHostPort = String.format("mllp:%s:%d", MllpRoutes.MLLP_HOST, nettyPort);
+        Exchange exchange = producerTemplate.request(mllpHostPort, e -> e.getMessage().setBody(message));
+
+        mockEndpoint.assertIsSatisfied(5000);
+        return exchange.getMessage().getHeader(MllpConstants.MLLP_ACKNOWLEDGEMENT_STRING, String.class);
+    }
+
+    @Path("/netty/receive/too/long")
+    @POST
+    @Produces(MediaType.TEXT_PLAIN)
+    public String receiveTooLongMessageWithNetty(@QueryParam("length") int length) throws Exception {
+        MockEndpoint mockEndpoint = context.getEndpoint("mock:nettyReceived", MockEndpoint.class);
+        mockEndpoint.reset();
+        mockEndpoint.expectedMessageCount(0);
+
+        Integer nettyPort = ConfigProvider.getConfig().getValue("mllp.test.netty.port", Integer.class);
+        String mllpHostPort = String.format("mllp:%s:%d", MllpRoutes.MLLP_HOST, nettyPort);
+        Exchange exchange = producerTemplate.request(mllpHostPort, e -> e.getMessage().setBody("A".repeat(length)));
+
+        mockEndpoint.assertIsSatisfied();
+        // The decoder fails the oversized frame and the Netty consumer closes the connection without acknowledging it
+        return exchange.getException() != null ? exchange.getException().getClass().getName() : "";
+    }
+
     @Named("mllp")
     MllpComponent component() {
         MllpComponent component = new MllpComponent();
@@ -26,10 +26,14 @@ import org.eclipse.microprofile.config.ConfigProvider;
 public class MllpRoutes extends RouteBuilder {
 
     public static final String MLLP_HOST = "localhost";
+    public static final String NETTY_MLLP_OPTIONS = "sync=true&decoders=#mllpNettyDecoder&encoders=#mllpNettyEncoder";
+    public static final String NETTY_MLLP_ACK = "MSH|^~\\&|INHOUSE|RTH00|REQUESTING|ICE|20210331095020||ACK^O01|2|D|2.3\r"
+            + "MSA|AA|1\r";
 
     @Override
     public void configure() throws Exception {
         Integer mllpPort = ConfigProvider.getConfig().getValue("mllp.test.port", Integer.class);
+        Integer nettyPort = ConfigProvider.getConfig().getValue("mllp.test.netty.port", Integer.class);
 
         onException(MllpInvalidMessageException.class)
                 .to("mock:invalid");
@@ -44,5 +48,10 @@ public class MllpRoutes extends RouteBuilder {
         from("direct:invalidMessage")
                 .toF("mllp://%s:%d?exchangePattern=InOnly", MLLP_HOST, mllpPort)
                 .setBody(header(MllpConstants.MLLP_ACKNOWLEDGEMENT));
+
+        fromF("netty:tcp://%s:%d?%s", MLLP_HOST, nettyPort, NETTY_MLLP_OPTIONS)
+                .convertBodyTo(String.class)
+                .to("mock:nettyReceived")
+                .setBody(constant(NETTY_MLLP_ACK));
     }
 }
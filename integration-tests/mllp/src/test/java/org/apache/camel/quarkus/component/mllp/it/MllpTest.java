@@ -22,6 +22,7 @@ import io.restassured.RestAssured;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 
 @QuarkusTest
 @QuarkusTestResource(MllpTestResource.class)
@@ -55,6 +56,19 @@ class MllpTest {
                 .statusCode(204);
     }
 
+    @Test
+    public void receiveTooLongFrameWithNettyMllpCodec() {
+        RestAssured.given()
+                .queryParam("length", 8192)
+                .post("/mllp/netty/receive/too/long")
+                .then()
+                .body(startsWith("org.apache.camel.component.mllp.Mllp"))
+                .statusCode(200);
+
+        // New connections are still served
+        receiveWithNettyMllpCodec();
+    }
+
     @Test
     public void testCharsetFromMsh18() {
         // Set up the message with a charset and some characters that it cannot deal with
@@ -77,4 +91,24 @@ class MllpTest {
                 .body(containsString("ÏNHOUSE"))
                 .statusCode(200);
     }
+
+    @Test
+    public void sendWithNettyMllpCodec() {
+        RestAssured.given()
+                .body(HL7_MESSAGE)
+                .post("/mllp/netty/send")
+                .then()
+                .body(containsString("MSA|AA|1"))
+                .statusCode(200);
+    }
+
+    @Test
+    public void receiveWithNettyMllpCodec() {
+        RestAssured.given()
+                .body(HL7_MESSAGE)
+                .post("/mllp/netty/receive")
+                .then()
+                .body(containsString("MSA|AA|1"))
+                .statusCode(200);
+    }
 }
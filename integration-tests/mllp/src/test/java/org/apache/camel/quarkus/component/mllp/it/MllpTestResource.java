@@ -16,7 +16,6 @@
  */
 package org.apache.camel.quarkus.component.mllp.it;
 
-import java.util.Collections;
 import java.util.Map;
 
 import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
@@ -26,7 +25,9 @@ public class MllpTestResource implements QuarkusTestResourceLifecycleManager {
 
     @Override
     public Map<String, String> start() {
-        return Collections.singletonMap("mllp.test.port", Integer.toString(AvailablePortFinder.getNextAvailable()));
+        return Map.of(
+                "mllp.test.port", Integer.toString(AvailablePortFinder.getNextAvailable()),
+                "mllp.test.netty.port", Integer.toString(AvailablePortFinder.getNextAvailable()));
     }
 
     @Override
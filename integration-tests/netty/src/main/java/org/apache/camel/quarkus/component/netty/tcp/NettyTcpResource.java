@@ -17,11 +17,13 @@
 package org.apache.camel.quarkus.component.netty.tcp;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import io.netty.buffer.ByteBuf;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ConsumerTemplate;
 import org.apache.camel.Exchange;
@@ -146,6 +148,24 @@ public class NettyTcpResource {
         mockEndpoint.assertIsSatisfied(5000L);
     }
 
+    @Path("/file")
+    @POST
+    public String sendNettyTcpFile(@QueryParam("ssl") boolean ssl, String message) throws Exception {
+        java.nio.file.Path file = Files.createTempFile("netty-file", ".txt");
+        try {
+            Files.write(file, createNullDelimitedMessage(message));
+            String uri = ssl
+                    ? "netty:tcp://localhost:{{camel.netty.test-ssl-file-tcp-port}}?ssl=true&sslContextParameters=#sslContextParameters&"
+                    : "netty:tcp://localhost:{{camel.netty.test-file-tcp-port}}?";
+            producerTemplate.sendBody(uri + "disconnect=true&sync=false&allowDefaultCodec=false"
+                    + "&encoders=#nettyFileRegionEncoder", file.toFile());
+        } finally {
+            Files.delete(file);
+        }
+
+        return consumerTemplate.receiveBody("seda:file-tcp", 5000, String.class);
+    }
+
     private byte[] createNullDelimitedMessage(String message) {
         byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
         byte[] bytes = new byte[messageBytes.length + 2];
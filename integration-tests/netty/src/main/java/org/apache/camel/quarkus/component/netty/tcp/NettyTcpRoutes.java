@@ -53,5 +53,13 @@ public class NettyTcpRoutes extends RouteBuilder {
 
         from("netty:tcp://localhost:{{camel.netty.test-serialization-tcp-port}}?sync=true&transferExchange=true&encoders=#tcpObjectEncoder&decoders=#tcpObjectDecoder")
                 .to("mock:tcpObjectResult");
+
+        from("netty:tcp://localhost:{{camel.netty.test-file-tcp-port}}?sync=false&allowDefaultCodec=false&decoders=#tcpNullDelimitedHandler,#bytesDecoder")
+                .convertBodyTo(String.class)
+                .to("seda:file-tcp");
+
+        from("netty:tcp://localhost:{{camel.netty.test-ssl-file-tcp-port}}?sync=false&allowDefaultCodec=false&decoders=#tcpNullDelimitedHandler,#bytesDecoder&ssl=true&sslContextParameters=#sslContextParameters")
+                .convertBodyTo(String.class)
+                .to("seda:file-tcp");
     }
 }
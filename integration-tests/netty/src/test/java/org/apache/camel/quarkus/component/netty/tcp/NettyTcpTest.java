@@ -22,6 +22,8 @@ import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.hamcrest.Matchers.is;
 
@@ -60,6 +62,19 @@ class NettyTcpTest {
                 .body(is("Hello Camel Quarkus Netty Custom Codec TCP"));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testNettyTcpProduceFile(boolean ssl) {
+        String message = "Camel Quarkus Netty File";
+        RestAssured.given()
+                .queryParam("ssl", ssl)
+                .body(message)
+                .post("/netty/tcp/file")
+                .then()
+                .statusCode(200)
+                .body(is(message));
+    }
+
     @Test
     public void testNettyTcpSSLProduceConsume() throws IOException {
         RestAssured.given()
@@ -34,7 +34,9 @@ public class NettyTcpTestResource implements QuarkusTestResourceLifecycleManager
                 "camel.netty.test-server-initializer-tcp-port",
                 "camel.netty.test-worker-group-tcp-port",
                 "camel.netty.test-correlation-manager-tcp-port",
-                "camel.netty.test-serialization-tcp-port");
+                "camel.netty.test-serialization-tcp-port",
+                "camel.netty.test-file-tcp-port",
+                "camel.netty.test-ssl-file-tcp-port");
     }
 
     @Override
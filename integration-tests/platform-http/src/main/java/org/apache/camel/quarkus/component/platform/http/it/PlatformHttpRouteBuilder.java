@@ -17,6 +17,8 @@
 package org.apache.camel.quarkus.component.platform.http.it;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Paths;
 import java.security.Principal;
 import java.util.Locale;
 import java.util.Map;
@@ -163,6 +165,21 @@ public class PlatformHttpRouteBuilder extends RouteBuilder {
                 .produces("text/plain")
                 .to("direct:greet");
 
+        // File response tests
+        from("platform-http:/platform-http/file-body/{name}?httpMethodRestrict=GET").routeId("platform-http-file-body")
+                .process(e -> e.getMessage().setBody(new File("target", e.getMessage().getHeader("name", String.class))));
+        from("platform-http:/platform-http/path-body/{name}?httpMethodRestrict=GET")
+                .process(e -> e.getMessage().setBody(Paths.get("target", e.getMessage().getHeader("name", String.class))));
+        from("direct:file-body").routeId("direct-file-body")
+                .process(e -> e.getMessage().setBody(new File("target", e.getMessage().getHeader("name", String.class))));
+        from("platform-http:/platform-http/route-policies/{routeId}?httpMethodRestrict=GET")
+                .process(e -> e.getMessage().setBody(e.getContext()
+                        .getRoute(e.getMessage().getHeader("routeId", String.class))
+                        .getRoutePolicyList()
+                        .stream()
+                        .map(policy -> policy.getClass().getSimpleName())
+                        .collect(Collectors.joining(",", "[", "]"))));
+
         // Webhook tests
         from("platform-http:/platform-http/webhookpath")
                 .setBody(constant(WebhookConfiguration.computeDefaultPath("webhook-delegate://test")));
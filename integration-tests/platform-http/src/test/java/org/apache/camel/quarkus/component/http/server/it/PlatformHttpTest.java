@@ -16,8 +16,12 @@
  */
 package org.apache.camel.quarkus.component.http.server.it;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
 
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.RestAssured;
@@ -30,10 +34,14 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @QuarkusTest
 class PlatformHttpTest {
@@ -379,6 +387,37 @@ class PlatformHttpTest {
                 .body(equalTo("Header was not present"));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "file", "path" })
+    public void fileResponse(String bodyType) throws IOException {
+        byte[] content = new byte[1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        String name = "platform-http-" + bodyType + ".bin";
+        Files.write(Paths.get("target", name), content);
+
+        // The file is streamed in chunks rather than read into a buffer whose length is sent upfront
+        byte[] response = RestAssured.get("/platform-http/" + bodyType + "-body/" + name)
+                .then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Length", nullValue())
+                .extract().body().asByteArray();
+        Assertions.assertArrayEquals(content, response);
+    }
+
+    @Test
+    public void fileResponseRoutePolicyOnlyOnPlatformHttpRoutes() {
+        RestAssured.get("/platform-http/route-policies/platform-http-file-body")
+                .then()
+                .statusCode(200)
+                .body(containsString("FileResponseRoutePolicy"));
+
+        RestAssured.get("/platform-http/route-policies/direct-file-body")
+                .then()
+                .statusCode(200)
+                .body(not(containsString("FileResponseRoutePolicy")));
+    }
+
     private static Method[] httpMethods() {
         return Method.values();
     }
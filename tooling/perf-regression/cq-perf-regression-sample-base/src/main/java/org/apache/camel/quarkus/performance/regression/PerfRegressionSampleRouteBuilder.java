@@ -16,13 +16,88 @@
  */
 package org.apache.camel.quarkus.performance.regression;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.dataformat.JsonLibrary;
 
 public class PerfRegressionSampleRouteBuilder extends RouteBuilder {
 
     @Override
     public void configure() throws Exception {
+        // hello scenario: platform-http and simple language transformation
         from("platform-http:/hello").transform(simple("Hello ${body}"));
+
+        // json scenario: JSON unmarshalling and marshalling with Jackson
+        from("platform-http:/json")
+                .unmarshal().json(JsonLibrary.Jackson, Map.class)
+                .process(exchange -> exchange.getMessage().getBody(Map.class).put("status", "processed"))
+                .marshal().json(JsonLibrary.Jackson);
+
+        // split-aggregate scenario: splitting the body into parts and aggregating them back
+        from("platform-http:/split-aggregate")
+                .split(body().tokenize("-"), new JoiningAggregationStrategy())
+                .process(exchange -> exchange.getMessage()
+                        .setBody(exchange.getMessage().getBody(String.class).toUpperCase()))
+                .end();
+
+        // content-based-router scenario: content based routing with JsonPath predicates
+        from("platform-http:/content-based-router")
+                .choice()
+                .when().jsonpath("$.orders[?(@.priority == 'high')]")
+                .transform(constant("high"))
+                .otherwise()
+                .transform(constant("low"));
+
+        // seda scenario: a request/reply handoff to a SEDA consumer
+        from("platform-http:/seda").to("seda:handoff");
+        from("seda:handoff?concurrentConsumers=8").transform(simple("Hello ${body}"));
+
+        // file-to-http scenario: writing the body to a file then sending it to an HTTP endpoint. The file is named after
+        // the thread so that the number of files stays bounded and that no file is written by two exchanges at once
+        from("platform-http:/file-to-http")
+                .to("file:target/file-to-http?fileName=${threadName}.txt")
+                .removeHeaders("CamelHttp*")
+                .to("vertx-http:http://localhost:{{quarkus.http.port}}/hello");
+
+        // Gives the peak resident set size of the application, in kB, once the scenario is over
+        from("platform-http:/peak-rss?httpMethodRestrict=GET")
+                .process(exchange -> exchange.getMessage().setBody(String.valueOf(readPeakRssKb())));
+    }
+
+    static long readPeakRssKb() {
+        try {
+            List<String> lines = Files.readAllLines(Paths.get("/proc/self/status"), StandardCharsets.UTF_8);
+            for (String line : lines) {
+                // e.g. "VmHWM:	  123456 kB"
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring("VmHWM:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException ex) {
+            // The peak RSS is reported as unknown below
+        }
+        return -1;
+    }
+
+    static class JoiningAggregationStrategy implements AggregationStrategy {
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String oldBody = oldExchange.getMessage().getBody(String.class);
+            String newBody = newExchange.getMessage().getBody(String.class);
+            oldExchange.getMessage().setBody(oldBody + "-" + newBody);
+            return oldExchange;
+        }
     }
 
 }
@@ -32,13 +32,16 @@ import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 public class FileEditionHelper {
 
-    // We merely set the duration in the hyperfoil benchmark template
-    public static void instantiateHyperfoilBenchmark(Path cqVersionUnderTestFolder, String singleScenarioDuration)
+    // We merely set the duration in the hyperfoil benchmark templates
+    public static void instantiateHyperfoilBenchmarks(Path cqVersionUnderTestFolder, String singleScenarioDuration)
             throws IOException {
-        File benchmarkFile = cqVersionUnderTestFolder.resolve("cq-perf-regression-scenario.hf.yaml").toFile();
-        String benchmarkFileContent = FileUtils.readFileToString(benchmarkFile, StandardCharsets.UTF_8);
-        benchmarkFileContent = benchmarkFileContent.replaceAll("372f6453-7527-43b1-850b-3824fc3d1187", singleScenarioDuration);
-        FileUtils.writeStringToFile(benchmarkFile, benchmarkFileContent, StandardCharsets.UTF_8);
+        File[] benchmarkFiles = cqVersionUnderTestFolder.toFile().listFiles((dir, name) -> name.endsWith(".hf.yaml"));
+        for (File benchmarkFile : benchmarkFiles) {
+            String benchmarkFileContent = FileUtils.readFileToString(benchmarkFile, StandardCharsets.UTF_8);
+            benchmarkFileContent = benchmarkFileContent.replaceAll("372f6453-7527-43b1-850b-3824fc3d1187",
+                    singleScenarioDuration);
+            FileUtils.writeStringToFile(benchmarkFile, benchmarkFileContent, StandardCharsets.UTF_8);
+        }
     }
 
     // We set the parent version and add staging repositories if needed
@@ -26,8 +26,13 @@ import java.text.DateFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.RegExUtils;
@@ -42,6 +47,12 @@ public class PerfRegressionCommand implements Runnable {
 
     private static Path PERF_SAMPLE_TEMPLATE_FOLDER = Paths.get("cq-perf-regression-sample-base");
 
+    // Extract the startup time from a log line like "... (powered by Quarkus 3.7.1) started in 0.931s. Listening on: ..."
+    private static Pattern STARTUP_TIME_PATTERN = Pattern.compile("\\(powered by Quarkus [^)]*\\) started in ([0-9.]+)s");
+
+    // Extract the peak RSS from a log line like "[echo] Peak resident set size: 123456 kB"
+    private static Pattern PEAK_RSS_PATTERN = Pattern.compile("Peak resident set size: (-?[0-9]+) kB");
+
     @Parameters(paramLabel = "<versions>", arity = "1..*", description = "A list of versions, e.g: 2.7.0 2.8.0-SNAPSHOT")
     private String[] cqVersions = {};
 
@@ -54,7 +65,7 @@ public class PerfRegressionCommand implements Runnable {
     private String camelStagingRepository;
 
     @Option(names = { "-d",
-            "--duration" }, defaultValue = "10m", description = "The duration of a single performance test scenario (e.g. 45s, 30m, 1h). Up to 2 scenarios per version could be run.")
+            "--duration" }, defaultValue = "10m", description = "The duration of a single performance test scenario (e.g. 45s, 30m, 1h). Each selected scenario is run once per version in JVM mode, and once more in native mode if requested.")
     private String singleScenarioDuration;
 
     @Option(names = { "-an",
@@ -65,17 +76,25 @@ public class PerfRegressionCommand implements Runnable {
             "--use-mandrel-native-builder" }, description = "Tells whether mandrel should be used to build native images. Can be used with camel-quarkus >= 2.8.0 only.")
     private boolean useMandrelNativeBuilder;
 
+    @Option(names = { "-s",
+            "--scenarios" }, split = ",", description = "A comma separated list of the scenarios to run, among hello, json, split-aggregate, content-based-router, seda and file-to-http. By default, all scenarios are run.")
+    private List<String> scenarioNames;
+
     @Override
     public void run() {
         PerformanceRegressionReport report = new PerformanceRegressionReport(singleScenarioDuration);
 
+        List<PerfRegressionScenario> scenarios = scenarioNames == null
+                ? Arrays.asList(PerfRegressionScenario.values())
+                : scenarioNames.stream().map(PerfRegressionScenario::fromScenarioName).collect(Collectors.toList());
+
         Path cqVersionsUnderTestFolder = Paths.get("target/cq-versions-under-test");
         try {
             Files.createDirectories(cqVersionsUnderTestFolder);
             FileUtils.cleanDirectory(cqVersionsUnderTestFolder.toFile());
 
             for (String cqVersion : cqVersions) {
-                runPerfRegressionForCqVersion(cqVersionsUnderTestFolder.resolve(cqVersion), cqVersion, report);
+                runPerfRegressionForCqVersion(cqVersionsUnderTestFolder.resolve(cqVersion), cqVersion, scenarios, report);
             }
 
             String reportString = report.printAll();
@@ -96,11 +115,12 @@ public class PerfRegressionCommand implements Runnable {
     }
 
     private void runPerfRegressionForCqVersion(Path cqVersionUnderTestFolder, String cqVersion,
-            PerformanceRegressionReport report) throws IOException, XmlPullParserException {
+            List<PerfRegressionScenario> scenarios, PerformanceRegressionReport report)
+            throws IOException, XmlPullParserException {
         // Copy the template project into a folder dedicated to cqVersion tests
         FileUtils.copyDirectory(PERF_SAMPLE_TEMPLATE_FOLDER.toFile(), cqVersionUnderTestFolder.toFile());
 
-        FileEditionHelper.instantiateHyperfoilBenchmark(cqVersionUnderTestFolder, singleScenarioDuration);
+        FileEditionHelper.instantiateHyperfoilBenchmarks(cqVersionUnderTestFolder, singleScenarioDuration);
         FileEditionHelper.instantiatePomFile(cqVersionUnderTestFolder, cqVersion, cqStagingRepository, camelStagingRepository);
 
         // Locally sets the right maven version in the maven wrapper
@@ -110,20 +130,49 @@ public class PerfRegressionCommand implements Runnable {
         String targetMavenVersion = getTargetMavenVersion(cqVersionUnderTestFolder);
         setMvnwMavenVersion(cqVersionUnderTestFolder, targetMavenVersion);
 
-        // Run performance regression test in JVM mode
-        double jvmThroughput = runPerfRegression(cqVersionUnderTestFolder, "integration-test -Denforcer.skip=true");
-        report.setCategoryMeasureForVersion(cqVersion, "JVM", jvmThroughput);
+        // Run performance regression tests in JVM mode
+        runPerfRegressionScenarios(cqVersionUnderTestFolder, cqVersion, "JVM", "verify -Denforcer.skip=true", scenarios,
+                report);
 
-        // Run performance regression test in native mode
+        // Run performance regression tests in native mode
         if (alsoRunNativeMode) {
-            String nativeCommandArgs = "integration-test -Dnative -Dquarkus.native.container-build=true -Denforcer.skip=true";
+            String nativeCommandArgs = "verify -Dnative -Dquarkus.native.container-build=true -Denforcer.skip=true";
             if (useMandrelNativeBuilder) {
                 nativeCommandArgs += " -Dquarkus.native.builder-image=mandrel";
             }
-            double nativeThroughput = runPerfRegression(cqVersionUnderTestFolder, nativeCommandArgs);
+            runPerfRegressionScenarios(cqVersionUnderTestFolder, cqVersion, "Native", nativeCommandArgs, scenarios, report);
+        }
+    }
+
+    private static void runPerfRegressionScenarios(Path cqVersionUnderTestFolder, String cqVersion, String category,
+            String args, List<PerfRegressionScenario> scenarios, PerformanceRegressionReport report) {
+        double startupTimesSum = 0.0;
+        int startupTimesCount = 0;
+        long peakRssKb = -1;
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            String scenarioName = scenarios.get(i).getScenarioName();
+            String scenarioArgs = args + " -Dperf-regression.scenario=" + scenarioName;
+            if (i > 0) {
+                // The application is built once per mode, the next scenarios are run against the same application
+                scenarioArgs += " -Dquarkus.build.skip=true";
+            }
 
-            report.setCategoryMeasureForVersion(cqVersion, "Native", nativeThroughput);
+            String stdout = MvnwCmdHelper.execute(cqVersionUnderTestFolder, scenarioArgs);
+            report.setScenarioCategoryMeasureForVersion(scenarioName, cqVersion, category, parseThroughput(stdout));
+
+            // The application is started once per scenario, so the startup times are averaged
+            double startupTime = parseStartupTime(stdout);
+            if (!Double.isNaN(startupTime)) {
+                startupTimesSum += startupTime;
+                startupTimesCount++;
+            }
+            // The peak RSS is the highest across all scenarios
+            peakRssKb = Math.max(peakRssKb, parsePeakRss(stdout));
         }
+
+        double meanStartupTime = startupTimesCount == 0 ? Double.NaN : startupTimesSum / startupTimesCount;
+        report.setCategoryStartupMeasureForVersion(cqVersion, category, meanStartupTime, peakRssKb);
     }
 
     private static String getTargetMavenVersion(Path cqVersionUnderTestFolder) {
@@ -139,9 +188,7 @@ public class PerfRegressionCommand implements Runnable {
         MvnwCmdHelper.execute(cqVersionUnderTestFolder, "wrapper:wrapper -Dmaven=" + targetMavenVersion);
     }
 
-    private static double runPerfRegression(Path cqVersionUnderTestFolder, String args) {
-        String stdout = MvnwCmdHelper.execute(cqVersionUnderTestFolder, args);
-
+    private static double parseThroughput(String stdout) {
         // Extract the throughput from a log line like "15:26:23,110 INFO  (main) [i.h.m.RunMojo] Requests/sec: 1153.56"
         String throughput = RegExUtils.replacePattern(stdout, ".*RunMojo] Requests/sec: ([0-9.]+).*", "$1");
 
@@ -153,4 +200,14 @@ public class PerfRegressionCommand implements Runnable {
         }
     }
 
+    private static double parseStartupTime(String stdout) {
+        Matcher matcher = STARTUP_TIME_PATTERN.matcher(stdout);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+
+    private static long parsePeakRss(String stdout) {
+        Matcher matcher = PEAK_RSS_PATTERN.matcher(stdout);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.quarkus.performance.regression;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The catalog of the performance scenarios that can be run against each Camel Quarkus version. A scenario is served by
+ * the route listening on {@code /<name>} in the sample base project, and is loaded by the hyperfoil benchmark defined
+ * in {@code cq-perf-regression-scenario-<name>.hf.yaml}.
+ */
+public enum PerfRegressionScenario {
+
+    HELLO("hello"),
+    JSON("json"),
+    SPLIT_AGGREGATE("split-aggregate"),
+    CONTENT_BASED_ROUTER("content-based-router"),
+    SEDA("seda"),
+    FILE_TO_HTTP("file-to-http");
+
+    private final String scenarioName;
+
+    PerfRegressionScenario(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    public static PerfRegressionScenario fromScenarioName(String scenarioName) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.scenarioName.equals(scenarioName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + scenarioName
+                        + "', the known scenarios are: " + Arrays.stream(values())
+                                .map(PerfRegressionScenario::getScenarioName)
+                                .collect(Collectors.joining(", "))));
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.apache.camel.quarkus.performance.regression;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
@@ -27,26 +28,84 @@ import tech.tablesaw.api.Table;
 
 /**
  * Provide a human readable performance regression report ready to be printed to
- * the console. For each camel-quarkus version, the report will print:
+ * the console. For each scenario and each camel-quarkus version, the report will print:
  * + The throughput for each measure in a category (JVM, Native) in a new column
  * + The percent increase throughput compared to the previous row in the same column
+ * When startup measures are provided, the report will also print for each camel-quarkus version:
+ * + The startup time and the peak resident set size for each category (JVM, Native)
+ * + The percent increase compared to the previous row in the same column
  */
 public class PerformanceRegressionReport {
 
+    private static final String THROUGHPUT_TITLE = "Camel Quarkus Throughput Performance Increase Compared to Previous Version";
+    private static final String STARTUP_TITLE = "Camel Quarkus Startup Time and Peak RSS Increase Compared to Previous Version";
+
+    // A throughput decrease of 5% or more is reported as a potential regression
+    private static final double THROUGHPUT_REGRESSION_PERCENT = -5.00;
+    // Startup measures are noisier, so only an increase of 10% or more is reported as a potential regression
+    private static final double STARTUP_REGRESSION_PERCENT = 10.00;
+
     private String duration;
-    private TreeMap<ComparableVersion, Map<String, Double>> measuresPerVersion = new TreeMap<>();
+    private Map<String, TreeMap<ComparableVersion, Map<String, Double>>> measuresPerScenario = new LinkedHashMap<>();
+    private TreeMap<ComparableVersion, Map<String, StartupMeasure>> startupMeasuresPerVersion = new TreeMap<>();
 
     public PerformanceRegressionReport(String duration) {
         this.duration = duration;
     }
 
     public void setCategoryMeasureForVersion(String cqVersion, String category, double throughput) {
+        setScenarioCategoryMeasureForVersion(PerfRegressionScenario.HELLO.getScenarioName(), cqVersion, category,
+                throughput);
+    }
+
+    public void setScenarioCategoryMeasureForVersion(String scenario, String cqVersion, String category,
+            double throughput) {
         ComparableVersion version = new ComparableVersion(cqVersion);
-        measuresPerVersion.computeIfAbsent(version, k -> new HashMap<>()).put(category, throughput);
+        measuresPerScenario.computeIfAbsent(scenario, k -> new TreeMap<>())
+                .computeIfAbsent(version, k -> new HashMap<>()).put(category, throughput);
+    }
+
+    /**
+     * @param cqVersion          the camel-quarkus version
+     * @param category           the category of the measure (JVM, Native)
+     * @param startupTimeSeconds the startup time in seconds, {@link Double#NaN} if unknown
+     * @param peakRssKb          the peak resident set size in kB, a negative value if unknown
+     */
+    public void setCategoryStartupMeasureForVersion(String cqVersion, String category, double startupTimeSeconds,
+            long peakRssKb) {
+        ComparableVersion version = new ComparableVersion(cqVersion);
+        startupMeasuresPerVersion.computeIfAbsent(version, k -> new HashMap<>())
+                .put(category, new StartupMeasure(startupTimeSeconds, peakRssKb));
     }
 
     public String printAll() {
-        Table table = Table.create("Camel Quarkus Throughput Performance Increase Compared to Previous Version");
+        StringBuilder report = new StringBuilder();
+
+        for (Map.Entry<String, TreeMap<ComparableVersion, Map<String, Double>>> measuresOfScenario : measuresPerScenario
+                .entrySet()) {
+            // The scenario is named in the title only when several scenarios are reported
+            String title = measuresPerScenario.size() > 1
+                    ? THROUGHPUT_TITLE + " [" + measuresOfScenario.getKey() + "]"
+                    : THROUGHPUT_TITLE;
+            appendTable(report, printThroughputTable(title, measuresOfScenario.getValue()));
+        }
+
+        if (!startupMeasuresPerVersion.isEmpty()) {
+            appendTable(report, printStartupTable());
+        }
+
+        return report.toString();
+    }
+
+    private static void appendTable(StringBuilder report, String table) {
+        if (report.length() > 0) {
+            report.append(System.lineSeparator()).append(System.lineSeparator());
+        }
+        report.append(table);
+    }
+
+    private String printThroughputTable(String title, TreeMap<ComparableVersion, Map<String, Double>> measuresPerVersion) {
+        Table table = Table.create(title);
 
         StringColumn cqVersionsColumn = StringColumn.create("Camel Quarkus version");
         StringColumn durationsColumn = StringColumn.create("Duration");
@@ -62,22 +121,20 @@ public class PerformanceRegressionReport {
             boolean regressionDetected = false;
 
             double jvmMeasure = measurePerVersion.getValue().get("JVM");
-            double percentIncreaseJvm = (previousJvmMeasure == Double.POSITIVE_INFINITY) ? 0.0
-                    : ((jvmMeasure / previousJvmMeasure) - 1.0) * 100.0;
+            double percentIncreaseJvm = percentIncrease(previousJvmMeasure, jvmMeasure);
             jvmMeasuresColumn.append(String.format(Locale.US, "%.2f req/s [%+.2f%%]", jvmMeasure, percentIncreaseJvm));
             previousJvmMeasure = jvmMeasure;
-            if (percentIncreaseJvm <= -5.00) {
+            if (percentIncreaseJvm <= THROUGHPUT_REGRESSION_PERCENT) {
                 regressionDetected = true;
             }
 
             if (measurePerVersion.getValue().containsKey("Native")) {
                 double nativeMeasure = measurePerVersion.getValue().get("Native");
-                double percentIncreaseNative = (previousNativeMeasure == Double.POSITIVE_INFINITY) ? 0.0
-                        : ((nativeMeasure / previousNativeMeasure) - 1.0) * 100.0;
+                double percentIncreaseNative = percentIncrease(previousNativeMeasure, nativeMeasure);
                 nativeMeasuresColumn
                         .append(String.format(Locale.US, "%.2f req/s [%+.2f%%]", nativeMeasure, percentIncreaseNative));
                 previousNativeMeasure = nativeMeasure;
-                if (percentIncreaseNative <= -5.00) {
+                if (percentIncreaseNative <= THROUGHPUT_REGRESSION_PERCENT) {
                     regressionDetected = true;
                 }
             }
@@ -94,4 +151,99 @@ public class PerformanceRegressionReport {
         return table.printAll();
     }
 
+    private String printStartupTable() {
+        Table table = Table.create(STARTUP_TITLE);
+
+        StringColumn cqVersionsColumn = StringColumn.create("Camel Quarkus version");
+        StringColumn jvmStartupColumn = StringColumn.create("JVM startup [%increase]");
+        StringColumn jvmRssColumn = StringColumn.create("JVM peak RSS [%increase]");
+        StringColumn nativeStartupColumn = StringColumn.create("Native startup [%increase]");
+        StringColumn nativeRssColumn = StringColumn.create("Native peak RSS [%increase]");
+        StringColumn statusColumn = StringColumn.create("Status");
+        StartupMeasure previousJvmMeasure = StartupMeasure.UNKNOWN;
+        StartupMeasure previousNativeMeasure = StartupMeasure.UNKNOWN;
+
+        for (Map.Entry<ComparableVersion, Map<String, StartupMeasure>> measurePerVersion : startupMeasuresPerVersion
+                .entrySet()) {
+            cqVersionsColumn.append(measurePerVersion.getKey().toString());
+
+            StartupMeasure jvmMeasure = measurePerVersion.getValue().get("JVM");
+            boolean regressionDetected = appendStartupMeasure(jvmStartupColumn, jvmRssColumn, previousJvmMeasure,
+                    jvmMeasure);
+            previousJvmMeasure = jvmMeasure;
+
+            if (measurePerVersion.getValue().containsKey("Native")) {
+                StartupMeasure nativeMeasure = measurePerVersion.getValue().get("Native");
+                regressionDetected |= appendStartupMeasure(nativeStartupColumn, nativeRssColumn, previousNativeMeasure,
+                        nativeMeasure);
+                previousNativeMeasure = nativeMeasure;
+            }
+
+            statusColumn.append(regressionDetected ? "Potential startup regression" : "OK");
+        }
+
+        if (!nativeStartupColumn.isEmpty()) {
+            table.addColumns(cqVersionsColumn, jvmStartupColumn, jvmRssColumn, nativeStartupColumn, nativeRssColumn,
+                    statusColumn);
+        } else {
+            table.addColumns(cqVersionsColumn, jvmStartupColumn, jvmRssColumn, statusColumn);
+        }
+
+        return table.printAll();
+    }
+
+    // Appends the startup measure to the columns and tells whether a regression is detected compared to the previous one
+    private static boolean appendStartupMeasure(StringColumn startupColumn, StringColumn rssColumn,
+            StartupMeasure previous, StartupMeasure current) {
+        boolean regressionDetected = false;
+
+        if (current.isStartupTimeKnown()) {
+            double percentIncreaseStartup = previous.isStartupTimeKnown()
+                    ? percentIncrease(previous.startupTimeSeconds, current.startupTimeSeconds)
+                    : 0.0;
+            startupColumn.append(String.format(Locale.US, "%.3f s [%+.2f%%]", current.startupTimeSeconds,
+                    percentIncreaseStartup));
+            regressionDetected = percentIncreaseStartup >= STARTUP_REGRESSION_PERCENT;
+        } else {
+            startupColumn.append("n/a");
+        }
+
+        if (current.isPeakRssKnown()) {
+            double percentIncreaseRss = previous.isPeakRssKnown()
+                    ? percentIncrease(previous.peakRssKb, current.peakRssKb)
+                    : 0.0;
+            rssColumn.append(String.format(Locale.US, "%.2f MB [%+.2f%%]", current.peakRssKb / 1024.0,
+                    percentIncreaseRss));
+            regressionDetected |= percentIncreaseRss >= STARTUP_REGRESSION_PERCENT;
+        } else {
+            rssColumn.append("n/a");
+        }
+
+        return regressionDetected;
+    }
+
+    private static double percentIncrease(double previousMeasure, double measure) {
+        return (previousMeasure == Double.POSITIVE_INFINITY) ? 0.0 : ((measure / previousMeasure) - 1.0) * 100.0;
+    }
+
+    private static final class StartupMeasure {
+        private static final StartupMeasure UNKNOWN = new StartupMeasure(Double.NaN, -1);
+
+        private final double startupTimeSeconds;
+        private final long peakRssKb;
+
+        private StartupMeasure(double startupTimeSeconds, long peakRssKb) {
+            this.startupTimeSeconds = startupTimeSeconds;
+            this.peakRssKb = peakRssKb;
+        }
+
+        private boolean isStartupTimeKnown() {
+            return !Double.isNaN(startupTimeSeconds);
+        }
+
+        private boolean isPeakRssKnown() {
+            return peakRssKb >= 0;
+        }
+    }
+
 }
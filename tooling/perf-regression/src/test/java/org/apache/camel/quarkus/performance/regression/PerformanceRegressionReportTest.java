@@ -57,4 +57,26 @@ public class PerformanceRegressionReportTest {
         expected = expected.replaceAll("\\n", System.lineSeparator());
         assertEquals(expected, sut.printAll());
     }
+
+    @Test
+    public void printAllScenariosAndStartupMeasuresShouldSucceed() throws IOException {
+        PerformanceRegressionReport sut = new PerformanceRegressionReport("30m");
+        sut.setScenarioCategoryMeasureForVersion("hello", "3.7.0", "JVM", 1000.0);
+        sut.setScenarioCategoryMeasureForVersion("hello", "3.8.0", "JVM", 1010.0);
+        sut.setScenarioCategoryMeasureForVersion("hello", "3.7.0", "Native", 900.0);
+        sut.setScenarioCategoryMeasureForVersion("hello", "3.8.0", "Native", 910.0);
+        sut.setScenarioCategoryMeasureForVersion("json", "3.7.0", "JVM", 800.0);
+        sut.setScenarioCategoryMeasureForVersion("json", "3.8.0", "JVM", 700.0);
+        sut.setScenarioCategoryMeasureForVersion("json", "3.7.0", "Native", 600.0);
+        sut.setScenarioCategoryMeasureForVersion("json", "3.8.0", "Native", 610.0);
+
+        sut.setCategoryStartupMeasureForVersion("3.7.0", "JVM", 1.2, 204800);
+        sut.setCategoryStartupMeasureForVersion("3.8.0", "JVM", 1.25, 256000);
+        sut.setCategoryStartupMeasureForVersion("3.7.0", "Native", 0.05, 51200);
+        sut.setCategoryStartupMeasureForVersion("3.8.0", "Native", 0.06, -1);
+
+        String expected = IOUtils.resourceToString("/expecteds/scenarios-and-startup.txt", StandardCharsets.UTF_8);
+        expected = expected.replaceAll("\\n", System.lineSeparator());
+        assertEquals(expected, sut.printAll());
+    }
 }
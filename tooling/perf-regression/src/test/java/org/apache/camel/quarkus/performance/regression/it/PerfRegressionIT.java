@@ -55,6 +55,7 @@ public class PerfRegressionIT {
             assertThat(processOutput, containsString("-cqs, --camel-quarkus-staging-repository=<cqStagingRepository>"));
             assertThat(processOutput, containsString("-cs, --camel-staging-repository=<camelStagingRepository>"));
             assertThat(processOutput, containsString("-d, --duration=<singleScenarioDuration>"));
+            assertThat(processOutput, containsString("-s, --scenarios=<scenarioNames>"));
             assertThat(processOutput, containsString("-umnb, --use-mandrel-native-builder"));
         } catch (InvalidExitValueException ievex) {
             fail("The perf-regression process has finished with an unexpected exit value", ievex);
@@ -112,6 +113,9 @@ public class PerfRegressionIT {
             assertThat(reportLine, containsString(" 1s "));
             assertThat(reportLine, containsString(" req/s [+0.00%] "));
             assertThat(reportLine, containsString(" OK "));
+
+            assertThat(processOutput,
+                    containsString("Camel Quarkus Startup Time and Peak RSS Increase Compared to Previous Version"));
         } catch (InvalidExitValueException ievex) {
             fail("The perf-regression process has finished with an unexpected exit value", ievex);
         }